@@ -1,7 +1,7 @@
 import { Component, OnInit, OnDestroy } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { FormsModule } from '@angular/forms';
-import { TaskService, Task } from '../../../services/task.service';
+import { TaskService, Task, TaskEvent } from '../../../services/task.service';
 import { StatusService } from '../../../services/status.service';
 import { PriorityService } from '../../../services/priority.service';
 import { Subscription } from 'rxjs';
@@ -18,9 +18,13 @@ import { TaskFormComponent } from '../task-form/task-form.component';
 })
 export class TaskListComponent implements OnInit, OnDestroy {
   tasks: Task[] = [];
+  nextCursor: string | null = null;
   loading = false;
+  loadingMore = false;
   error = '';
   private taskSubscription: Subscription | undefined;
+  private eventSubscription: Subscription | undefined;
+  private eventStreamConnected = false;
 
   newTask: Partial<Task> = {
     title: '',
@@ -44,6 +48,7 @@ export class TaskListComponent implements OnInit, OnDestroy {
   ) { }
   ngOnInit(): void {
     this.loadTasks();
+    this.subscribeToTaskEvents();
 
     this.statusService.loadStatuses().subscribe(
       () => { },
@@ -60,13 +65,24 @@ export class TaskListComponent implements OnInit, OnDestroy {
     if (this.taskSubscription) {
       this.taskSubscription.unsubscribe();
     }
+    if (this.eventSubscription) {
+      this.eventSubscription.unsubscribe();
+    }
   }
 
+  /**
+   * Load the first page of tasks, replacing the list; further pages are
+   * loaded on demand with loadMoreTasks
+   */
   loadTasks(): void {
+    if (this.taskSubscription) {
+      this.taskSubscription.unsubscribe();
+    }
     this.loading = true;
+    this.loadingMore = false;
     this.error = '';
     this.taskSubscription = this.taskService
-      .getTasks()
+      .getTasksPage()
       .pipe(
         catchError((err) => {
           this.error =
@@ -80,16 +96,96 @@ export class TaskListComponent implements OnInit, OnDestroy {
         })
       )
       .subscribe({
-        next: (tasks) => {
-          this.tasks = tasks;
-          console.log('Tasks loaded successfully:', tasks);
+        next: (page) => {
+          this.tasks = page.items;
+          this.nextCursor = page.nextCursor;
+          console.log('Tasks loaded successfully:', page.items);
         },
         error: (err) => {
           this.tasks = [];
+          this.nextCursor = null;
           console.error('Error in task subscription:', err);
         },
       });
   }
+
+  loadMoreTasks(): void {
+    if (!this.nextCursor || this.loadingMore) {
+      return;
+    }
+    this.loadingMore = true;
+    this.taskSubscription = this.taskService
+      .getTasksPage(this.nextCursor)
+      .pipe(
+        catchError((err) => {
+          this.error =
+            err.error?.message ||
+            'Failed to load tasks. Please try again later.';
+          console.error('Error loading tasks:', err);
+          return [];
+        }),
+        finalize(() => {
+          this.loadingMore = false;
+        })
+      )
+      .subscribe((page) => {
+        // Tasks created since the first page was loaded may be listed already
+        page.items.forEach((task) => this.upsertTask(task));
+        this.nextCursor = page.nextCursor;
+      });
+  }
+  /**
+   * Keep the list up to date with changes made elsewhere, instead of
+   * reloading it: changed tasks are fetched one by one, deleted ones removed
+   */
+  private subscribeToTaskEvents(): void {
+    this.eventSubscription = this.taskService.taskEvents().subscribe({
+      next: (event) => this.onTaskEvent(event),
+      error: (err) => console.error('Task event stream closed:', err),
+    });
+  }
+
+  private onTaskEvent(event: TaskEvent): void {
+    switch (event.type) {
+      case 'ready':
+        // After a reconnect, changes made while disconnected are unknown
+        if (this.eventStreamConnected) {
+          this.loadTasks();
+        }
+        this.eventStreamConnected = true;
+        break;
+      case 'resync':
+        this.loadTasks();
+        break;
+      case 'created':
+      case 'updated':
+        if (event.taskId !== undefined) {
+          this.refreshTask(event.taskId);
+        }
+        break;
+      case 'deleted':
+        this.tasks = this.tasks.filter((task) => task.id !== event.taskId);
+        break;
+    }
+  }
+
+  private refreshTask(id: number): void {
+    this.taskService.getTaskById(id).subscribe({
+      next: (task) => this.upsertTask(task),
+      // Deleted meanwhile: its "deleted" event follows
+      error: (err) => console.error('Error refreshing task:', err),
+    });
+  }
+
+  private upsertTask(task: Task): void {
+    const index = this.tasks.findIndex((t) => t.id === task.id);
+    if (index !== -1) {
+      this.tasks[index] = task;
+    } else {
+      this.tasks.push(task);
+    }
+  }
+
   onTaskStatusChange(event: { task: Task; statusId: number }): void {
     const { task, statusId } = event;
 
@@ -227,7 +323,8 @@ export class TaskListComponent implements OnInit, OnDestroy {
         })
       )
       .subscribe((createdTask) => {
-        this.tasks.push(createdTask);
+        // The "created" event may have added it already
+        this.upsertTask(createdTask);
         this.closeTaskForm();
       });
   }
@@ -1,7 +1,8 @@
 import { Injectable } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import { map } from 'rxjs/operators';
+import { AuthService } from './auth.service';
 
 export interface Task {
   id?: number;
@@ -16,18 +17,52 @@ export interface Task {
   userId?: number;
 }
 
+/**
+ * One page of tasks; nextCursor is passed back to fetch the page after it
+ * and is null on the last page
+ */
+export interface TaskPage {
+  items: Task[];
+  nextCursor: string | null;
+  hasMore: boolean;
+}
+
+export const TASK_PAGE_SIZE = 50;
+
+export type TaskEventType = 'ready' | 'created' | 'updated' | 'deleted' | 'resync';
+
+/**
+ * A change pushed by the server: "created", "updated" and "deleted" carry
+ * the task ID, "resync" means changes were missed and tasks should be
+ * reloaded, and "ready" starts every (re)connection
+ */
+export interface TaskEvent {
+  type: TaskEventType;
+  taskId?: number;
+}
+
+const TASK_EVENTS_RETRY_MS = 5000;
+
 @Injectable({
   providedIn: 'root',
 })
 export class TaskService {
   private apiUrl = 'http://localhost:8080/api/tasks';
 
-  constructor(private http: HttpClient) { }
+  constructor(private http: HttpClient, private authService: AuthService) { }
 
-  getTasks(): Observable<Task[]> {
-    return this.http
-      .get<any[]>(this.apiUrl)
-      .pipe(map((tasks) => tasks.map((task) => this.normalizeTask(task))));
+  getTasksPage(cursor?: string, limit: number = TASK_PAGE_SIZE): Observable<TaskPage> {
+    let params = new HttpParams().set('limit', limit);
+    if (cursor) {
+      params = params.set('cursor', cursor);
+    }
+    return this.http.get<any>(`${this.apiUrl}/page`, { params }).pipe(
+      map((page) => ({
+        items: page.items.map((task: any) => this.normalizeTask(task)),
+        nextCursor: page.nextCursor ?? null,
+        hasMore: !!page.hasMore,
+      }))
+    );
   }
 
   getTaskById(id: number): Observable<Task> {
@@ -62,6 +97,93 @@ export class TaskService {
   deleteTask(id: number): Observable<any> {
     return this.http.delete(`${this.apiUrl}/${id}`);
   }
+
+  /**
+   * Stream task changes from the server (Server-Sent Events). EventSource
+   * cannot send the Authorization header, so the stream is read with fetch.
+   * The connection is reopened after errors and when the server closes it;
+   * each connection starts with a "ready" event.
+   */
+  taskEvents(scope: 'all' | 'mine' = 'all'): Observable<TaskEvent> {
+    return new Observable<TaskEvent>((subscriber) => {
+      const controller = new AbortController();
+      let retryTimer: ReturnType<typeof setTimeout> | undefined;
+
+      const connect = async (): Promise<void> => {
+        try {
+          const response = await fetch(`${this.apiUrl}/events?scope=${scope}`, {
+            headers: {
+              Accept: 'text/event-stream',
+              Authorization: `Bearer ${this.authService.getToken()}`,
+            },
+            signal: controller.signal,
+          });
+          if (response.status === 401 || response.status === 403) {
+            subscriber.error(new Error(`Task event stream refused: ${response.status}`));
+            return;
+          }
+          if (!response.ok || !response.body) {
+            throw new Error(`Task event stream failed: ${response.status}`);
+          }
+          const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+          let buffer = '';
+          while (true) {
+            const { value, done } = await reader.read();
+            if (done) {
+              break;
+            }
+            buffer += value.replace(/\r\n?/g, '\n');
+            let end: number;
+            while ((end = buffer.indexOf('\n\n')) !== -1) {
+              const event = this.parseTaskEvent(buffer.slice(0, end));
+              buffer = buffer.slice(end + 2);
+              if (event) {
+                subscriber.next(event);
+              }
+            }
+          }
+        } catch (err) {
+          if (controller.signal.aborted) {
+            return;
+          }
+          console.error('Task event stream error:', err);
+        }
+        if (!controller.signal.aborted) {
+          retryTimer = setTimeout(connect, TASK_EVENTS_RETRY_MS);
+        }
+      };
+
+      connect();
+      return () => {
+        controller.abort();
+        clearTimeout(retryTimer);
+      };
+    });
+  }
+
+  /**
+   * Parse one SSE event block; heartbeat comments have no data and are
+   * skipped
+   */
+  private parseTaskEvent(block: string): TaskEvent | null {
+    let type = '';
+    let data = '';
+    for (const line of block.split('\n')) {
+      if (line.startsWith('event:')) {
+        type = line.slice('event:'.length).trim();
+      } else if (line.startsWith('data:')) {
+        data += line.slice('data:'.length).trim();
+      }
+    }
+    if (!type || !data) {
+      return null;
+    }
+    const payload = JSON.parse(data);
+    return {
+      type: type as TaskEventType,
+      taskId: payload.taskId != null ? Number(payload.taskId) : undefined,
+    };
+  }
   private normalizeTask(task: any): Task {
     return {
       id: task.id ? Number(task.id) : undefined,
@@ -12,6 +12,30 @@ public class SecurityProperties {
     @Value("${jwt.expiration}")
     private Long jwtExpiration;
 
+    @Value("${security.principal-cache.max-size:10000}")
+    private Long principalCacheMaxSize;
+
+    @Value("${security.principal-cache.ttl-seconds:300}")
+    private Long principalCacheTtlSeconds;
+
+    @Value("${security.token-cache.enabled:false}")
+    private boolean tokenCacheEnabled;
+
+    @Value("${security.token-cache.max-size:10000}")
+    private Long tokenCacheMaxSize;
+
+    @Value("${security.bcrypt.strength:0}")
+    private int bcryptStrength;
+
+    @Value("${security.bcrypt.target-millis:250}")
+    private long bcryptTargetMillis;
+
+    @Value("${security.hashing.threads:0}")
+    private int hashingThreads;
+
+    @Value("${security.hashing.queue-capacity:64}")
+    private int hashingQueueCapacity;
+
     public String getJwtSecret() {
         return jwtSecret;
     }
@@ -19,4 +43,36 @@ public class SecurityProperties {
     public Long getJwtExpiration() {
         return jwtExpiration;
     }
+
+    public Long getPrincipalCacheMaxSize() {
+        return principalCacheMaxSize;
+    }
+
+    public Long getPrincipalCacheTtlSeconds() {
+        return principalCacheTtlSeconds;
+    }
+
+    public boolean isTokenCacheEnabled() {
+        return tokenCacheEnabled;
+    }
+
+    public Long getTokenCacheMaxSize() {
+        return tokenCacheMaxSize;
+    }
+
+    public int getBcryptStrength() {
+        return bcryptStrength;
+    }
+
+    public long getBcryptTargetMillis() {
+        return bcryptTargetMillis;
+    }
+
+    public int getHashingThreads() {
+        return hashingThreads;
+    }
+
+    public int getHashingQueueCapacity() {
+        return hashingQueueCapacity;
+    }
 }
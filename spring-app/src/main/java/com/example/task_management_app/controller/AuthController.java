@@ -7,6 +7,7 @@ import com.example.task_management_app.dto.UserDTO;
 import com.example.task_management_app.exception.AuthenticationFailedException;
 import com.example.task_management_app.exception.InvalidAuthenticationDataException;
 import com.example.task_management_app.security.JwtUtil;
+import com.example.task_management_app.security.PasswordHashingExecutor;
 import com.example.task_management_app.service.UserService;
 
 import jakarta.validation.Valid;
@@ -23,6 +24,8 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
@@ -31,23 +34,30 @@ public class AuthController {
     private final UserDetailsService userDetailsService;
     private final JwtUtil jwtUtil;
     private final UserService userService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     public AuthController(AuthenticationManager authenticationManager,
             UserDetailsService userDetailsService,
             JwtUtil jwtUtil,
-            UserService userService) {
+            UserService userService,
+            PasswordHashingExecutor passwordHashingExecutor) {
         this.authenticationManager = authenticationManager;
         this.userDetailsService = userDetailsService;
         this.jwtUtil = jwtUtil;
         this.userService = userService;
+        this.passwordHashingExecutor = passwordHashingExecutor;
     }
 
+    // Registration and login hash passwords on the bounded hashing pool so the
+    // servlet thread is released while BCrypt runs
+
     @PostMapping("/register")
-    public ResponseEntity<AuthResponseDTO> register(@Valid @RequestBody RegistrationDTO registrationDTO) {
+    public CompletableFuture<ResponseEntity<AuthResponseDTO>> register(
+            @Valid @RequestBody RegistrationDTO registrationDTO) {
 
-        try {
-            validateRegistrationData(registrationDTO);
+        validateRegistrationData(registrationDTO);
 
+        return passwordHashingExecutor.submit(() -> {
             UserDTO userDTO = new UserDTO();
             userDTO.setUsername(registrationDTO.getUsername());
             userDTO.setEmail(registrationDTO.getEmail());
@@ -64,18 +74,20 @@ public class AuthController {
             return ResponseEntity
                     .status(HttpStatus.CREATED)
                     .body(new AuthResponseDTO(token, registrationDTO.getUsername(), userDetails.getAuthorities()));
-
-        } catch (Exception e) {
-            throw e;
-        }
+        });
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponseDTO> login(@Valid @RequestBody AuthRequestDTO request) {
+    public CompletableFuture<ResponseEntity<AuthResponseDTO>> login(@Valid @RequestBody AuthRequestDTO request) {
 
-        try {
-            validateLoginData(request);
+        validateLoginData(request);
+
+        return passwordHashingExecutor.submit(() -> authenticate(request));
+    }
+
+    private ResponseEntity<AuthResponseDTO> authenticate(AuthRequestDTO request) {
 
+        try {
             authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword()));
 
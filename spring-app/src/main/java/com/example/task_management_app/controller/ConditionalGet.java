@@ -0,0 +1,39 @@
+package com.example.task_management_app.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET support: the entity tag is checked against If-None-Match
+ * before the body is loaded, so an unchanged resource costs neither the
+ * query nor the serialization.
+ */
+final class ConditionalGet {
+
+    // Let clients store the response but revalidate it on every use; this also
+    // keeps Spring Security from adding its no-store default
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * Respond with 304 Not Modified if the client has the current version,
+     * otherwise with the body and its entity tag
+     * 
+     * @param request Current request
+     * @param etag    Entity tag of the current version (unquoted)
+     * @param body    Loads the body, only called when it has changed
+     * @return 304 or 200 response carrying the entity tag
+     */
+    static <T> ResponseEntity<T> respond(WebRequest request, String etag, Supplier<T> body) {
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CACHE_CONTROL).eTag(etag).build();
+        }
+        return ResponseEntity.ok().cacheControl(CACHE_CONTROL).eTag(etag).body(body.get());
+    }
+}
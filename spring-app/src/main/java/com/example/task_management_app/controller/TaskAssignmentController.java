@@ -0,0 +1,60 @@
+package com.example.task_management_app.controller;
+
+import com.example.task_management_app.dto.TaskAssigneeDTO;
+import com.example.task_management_app.service.TaskAssignmentService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/tasks/{taskId}/assignees")
+public class TaskAssignmentController {
+
+    private final TaskAssignmentService taskAssignmentService;
+
+    @Autowired
+    public TaskAssignmentController(TaskAssignmentService taskAssignmentService) {
+        this.taskAssignmentService = taskAssignmentService;
+    }
+
+    /**
+     * Get the assignees of a task
+     * 
+     * @param taskId Task ID
+     * @return Assignees, in assignment order
+     */
+    @GetMapping
+    public ResponseEntity<List<TaskAssigneeDTO>> getAssignees(@PathVariable Integer taskId) {
+        List<TaskAssigneeDTO> assignees = taskAssignmentService.getAssignees(taskId);
+        return ResponseEntity.ok(assignees);
+    }
+
+    /**
+     * Assign a task to a user. Idempotent: assigning a user again changes
+     * nothing.
+     * 
+     * @param taskId Task ID
+     * @param userId User ID
+     * @return Assignees of the task
+     */
+    @PutMapping("/{userId}")
+    public ResponseEntity<List<TaskAssigneeDTO>> assign(@PathVariable Integer taskId, @PathVariable Integer userId) {
+        List<TaskAssigneeDTO> assignees = taskAssignmentService.assign(taskId, userId);
+        return ResponseEntity.ok(assignees);
+    }
+
+    /**
+     * Remove a user from the assignees of a task
+     * 
+     * @param taskId Task ID
+     * @param userId User ID
+     * @return No content
+     */
+    @DeleteMapping("/{userId}")
+    public ResponseEntity<Void> unassign(@PathVariable Integer taskId, @PathVariable Integer userId) {
+        taskAssignmentService.unassign(taskId, userId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.task_management_app.controller;
+
+import com.example.task_management_app.dto.TaskAttachmentDTO;
+import com.example.task_management_app.model.TaskAttachment;
+import com.example.task_management_app.service.TaskAttachmentService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/tasks/{taskId}/attachments")
+public class TaskAttachmentController {
+
+    // Attachments never change, but they can be deleted, so clients revalidate
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final TaskAttachmentService taskAttachmentService;
+
+    @Autowired
+    public TaskAttachmentController(TaskAttachmentService taskAttachmentService) {
+        this.taskAttachmentService = taskAttachmentService;
+    }
+
+    /**
+     * Get the attachments of a task
+     * 
+     * @param taskId Task ID
+     * @return List of attachments, without their content
+     */
+    @GetMapping
+    public ResponseEntity<List<TaskAttachmentDTO>> getAttachments(@PathVariable Integer taskId) {
+        List<TaskAttachmentDTO> attachments = taskAttachmentService.getAttachments(taskId);
+        return ResponseEntity.ok(attachments);
+    }
+
+    /**
+     * Upload a file as a multipart/form-data part named "file" and attach it
+     * to a task as the authenticated user
+     * 
+     * @param taskId Task ID
+     * @param file   Uploaded file
+     * @return Created attachment
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<TaskAttachmentDTO> addAttachment(@PathVariable Integer taskId,
+            @RequestParam("file") MultipartFile file, Authentication authentication) {
+        TaskAttachmentDTO attachment = taskAttachmentService.addAttachment(taskId, authentication.getName(), file);
+        return new ResponseEntity<>(attachment, HttpStatus.CREATED);
+    }
+
+    /**
+     * Download the content of an attachment. The file is streamed from disk;
+     * Range requests are answered with 206 Partial Content and only the
+     * requested bytes. The entity tag is the SHA-256 of the content.
+     * 
+     * @param taskId       Task ID
+     * @param attachmentId Attachment ID
+     * @return File content
+     */
+    @GetMapping("/{attachmentId}")
+    public ResponseEntity<Resource> downloadAttachment(@PathVariable Integer taskId,
+            @PathVariable Integer attachmentId) {
+        TaskAttachment attachment = taskAttachmentService.getAttachment(taskId, attachmentId);
+        Resource content = taskAttachmentService.getContent(attachment);
+        String fileName = attachment.getFileName();
+        // Non-ASCII names go in filename* (RFC 6266); plain ones are sent as is
+        ContentDisposition disposition = StandardCharsets.US_ASCII.newEncoder().canEncode(fileName)
+                ? ContentDisposition.attachment().filename(fileName).build()
+                : ContentDisposition.attachment().filename(fileName, StandardCharsets.UTF_8).build();
+        MediaType contentType = attachment.getFileType() != null
+                ? MediaType.parseMediaType(attachment.getFileType())
+                : MediaType.APPLICATION_OCTET_STREAM;
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .cacheControl(CACHE_CONTROL)
+                .eTag(attachment.getContentSha256() != null
+                        ? attachment.getContentSha256()
+                        : "attachment-" + attachment.getId())
+                .body(content);
+    }
+
+    /**
+     * Delete an attachment. Allowed for its uploader and for administrators.
+     * 
+     * @param taskId       Task ID
+     * @param attachmentId Attachment ID
+     * @return No content
+     */
+    @DeleteMapping("/{attachmentId}")
+    public ResponseEntity<Void> deleteAttachment(@PathVariable Integer taskId, @PathVariable Integer attachmentId,
+            Authentication authentication) {
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        taskAttachmentService.deleteAttachment(taskId, attachmentId, authentication.getName(), admin);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,12 +1,14 @@
 package com.example.task_management_app.controller;
 
 import com.example.task_management_app.dto.TaskCategoryDTO;
+import com.example.task_management_app.service.ReferenceDataCache;
 import com.example.task_management_app.service.TaskCategoryService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -15,21 +17,25 @@ import java.util.List;
 public class TaskCategoryController {
 
     private final TaskCategoryService taskCategoryService;
+    private final ReferenceDataCache referenceDataCache;
 
     @Autowired
-    public TaskCategoryController(TaskCategoryService taskCategoryService) {
+    public TaskCategoryController(TaskCategoryService taskCategoryService, ReferenceDataCache referenceDataCache) {
         this.taskCategoryService = taskCategoryService;
+        this.referenceDataCache = referenceDataCache;
     }
 
     /**
-     * Get all task categories
+     * Get all task categories. Answers 304 Not Modified without querying the
+     * database when If-None-Match holds the current reference data version.
      * 
+     * @param request Current request
      * @return List of all task categories
      */
     @GetMapping
-    public ResponseEntity<List<TaskCategoryDTO>> getAllTaskCategories() {
-        List<TaskCategoryDTO> categories = taskCategoryService.getAllTaskCategories();
-        return ResponseEntity.ok(categories);
+    public ResponseEntity<List<TaskCategoryDTO>> getAllTaskCategories(WebRequest request) {
+        return ConditionalGet.respond(request, referenceDataCache.getVersion(),
+                taskCategoryService::getAllTaskCategories);
     }
 
     /**
@@ -0,0 +1,70 @@
+package com.example.task_management_app.controller;
+
+import com.example.task_management_app.dto.TaskCommentDTO;
+import com.example.task_management_app.dto.TaskCommentPageDTO;
+import com.example.task_management_app.service.TaskCommentService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/tasks/{taskId}/comments")
+public class TaskCommentController {
+
+    private final TaskCommentService taskCommentService;
+
+    @Autowired
+    public TaskCommentController(TaskCommentService taskCommentService) {
+        this.taskCommentService = taskCommentService;
+    }
+
+    /**
+     * Get a page of the comments of a task, oldest first, using keyset
+     * pagination
+     * 
+     * @param taskId Task ID
+     * @param cursor nextCursor of the previous page, omitted for the first page
+     * @param limit  Maximum number of comments to return
+     * @return Page of comments with the cursor for the next page
+     */
+    @GetMapping
+    public ResponseEntity<TaskCommentPageDTO> getComments(@PathVariable Integer taskId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + TaskCommentService.DEFAULT_PAGE_SIZE) int limit) {
+        TaskCommentPageDTO page = taskCommentService.getComments(taskId, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Add a comment to a task as the authenticated user
+     * 
+     * @param taskId     Task ID
+     * @param commentDTO Comment data
+     * @return Created comment
+     */
+    @PostMapping
+    public ResponseEntity<TaskCommentDTO> addComment(@PathVariable Integer taskId,
+            @Valid @RequestBody TaskCommentDTO commentDTO, Authentication authentication) {
+        TaskCommentDTO comment = taskCommentService.addComment(taskId, authentication.getName(), commentDTO);
+        return new ResponseEntity<>(comment, HttpStatus.CREATED);
+    }
+
+    /**
+     * Delete a comment. Allowed for its author and for administrators.
+     * 
+     * @param taskId    Task ID
+     * @param commentId Comment ID
+     * @return No content
+     */
+    @DeleteMapping("/{commentId}")
+    public ResponseEntity<Void> deleteComment(@PathVariable Integer taskId, @PathVariable Integer commentId,
+            Authentication authentication) {
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        taskCommentService.deleteComment(taskId, commentId, authentication.getName(), admin);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,47 +1,161 @@
 package com.example.task_management_app.controller;
 
+import com.example.task_management_app.dto.TaskBatchResultDTO;
+import com.example.task_management_app.dto.TaskBulkUpdateDTO;
+import com.example.task_management_app.dto.TaskBulkUpdateResultDTO;
 import com.example.task_management_app.dto.TaskDTO;
+import com.example.task_management_app.dto.TaskFilterDTO;
+import com.example.task_management_app.dto.TaskImportResultDTO;
+import com.example.task_management_app.dto.TaskPageDTO;
+import com.example.task_management_app.dto.TaskSearchPageDTO;
+import com.example.task_management_app.dto.TaskStatsDTO;
+import com.example.task_management_app.dto.UserTaskCountersDTO;
+import com.example.task_management_app.service.TaskCounterService;
+import com.example.task_management_app.service.TaskExportService;
+import com.example.task_management_app.service.TaskFileFormat;
+import com.example.task_management_app.service.TaskImportService;
+import com.example.task_management_app.service.TaskSearchService;
 import com.example.task_management_app.service.TaskService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/tasks")
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskSearchService taskSearchService;
+    private final TaskCounterService taskCounterService;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
 
     @Autowired
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskSearchService taskSearchService,
+            TaskCounterService taskCounterService, TaskExportService taskExportService,
+            TaskImportService taskImportService) {
         this.taskService = taskService;
+        this.taskSearchService = taskSearchService;
+        this.taskCounterService = taskCounterService;
+        this.taskExportService = taskExportService;
+        this.taskImportService = taskImportService;
     }
 
     /**
-     * Get all tasks
+     * Get the first {@value TaskService#MAX_PAGE_SIZE} tasks. Deprecated in
+     * favour of {@link #getTasksPage}: the list is capped, and when more tasks
+     * exist a "next" link points to the page that follows.
      * 
-     * @return List of all tasks
+     * @return List of at most {@value TaskService#MAX_PAGE_SIZE} tasks
      */
+    @Deprecated
     @GetMapping
     public ResponseEntity<List<TaskDTO>> getAllTasks() {
-        List<TaskDTO> tasks = taskService.getAllTasks();
-        return ResponseEntity.ok(tasks);
+        TaskPageDTO page = taskService.getTasksPage(new TaskFilterDTO(), null, TaskService.MAX_PAGE_SIZE, "id");
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header("Deprecation", "true")
+                .header(HttpHeaders.LINK, "</api/tasks/page>; rel=\"successor-version\"");
+        if (page.isHasMore()) {
+            response.header(HttpHeaders.LINK, "</api/tasks/page?limit=" + TaskService.MAX_PAGE_SIZE + "&cursor="
+                    + page.getNextCursor() + ">; rel=\"next\"");
+        }
+        return response.body(page.getItems());
     }
 
     /**
-     * Get a task by ID
+     * Get a page of tasks using keyset pagination
      * 
-     * @param id Task ID
+     * @param filter Optional filters: userId, statusId, categoryId, priorityId,
+     *               dueFrom, dueTo (ISO dates, inclusive)
+     * @param cursor nextCursor of the previous page, omitted for the first page
+     * @param limit  Maximum number of tasks to return
+     * @param sort   Sort key, "id" or "dueDate"
+     * @return Page of tasks with the cursor for the next page
+     */
+    @GetMapping("/page")
+    public ResponseEntity<TaskPageDTO> getTasksPage(TaskFilterDTO filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + TaskService.DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(defaultValue = "id") String sort) {
+        TaskPageDTO page = taskService.getTasksPage(filter, cursor, limit, sort);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Export all tasks. The response is streamed from a database cursor
+     * while rows are read, so it can be used on tables of any size.
+     * 
+     * @param format ndjson (one JSON task per line) or csv
+     * @return Streamed export as an attachment
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        TaskFileFormat exportFormat = TaskFileFormat.fromParameter(format);
+        MediaType mediaType = exportFormat == TaskFileFormat.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.APPLICATION_NDJSON;
+        StreamingResponseBody body = out -> taskExportService.export(exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + exportFormat.getExtension()).build().toString())
+                .body(body);
+    }
+
+    /**
+     * Get aggregated task counts for dashboards
+     * 
+     * @param userId Optional user to restrict the counts to
+     * @return Counts by status, priority, category and user, plus overdue and
+     *         due-this-week totals
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsDTO> getTaskStats(@RequestParam(required = false) Integer userId) {
+        TaskStatsDTO stats = taskService.getTaskStats(userId);
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * Get a user's task counters. Served from the maintained counters by
+     * primary key, so the cost does not grow with the number of tasks.
+     * 
+     * @param userId User ID
+     * @return Total, overdue and per-status counts
+     */
+    @GetMapping("/stats/user/{userId}")
+    public ResponseEntity<UserTaskCountersDTO> getUserTaskCounters(@PathVariable Integer userId) {
+        UserTaskCountersDTO counters = taskCounterService.getUserCounters(userId);
+        return ResponseEntity.ok(counters);
+    }
+
+    /**
+     * Get a task by ID. Answers 304 Not Modified when If-None-Match holds the
+     * current entity tag, which is checked with a lightweight query before
+     * the task is loaded.
+     * 
+     * @param id      Task ID
+     * @param request Current request
      * @return Task details
      */
     @GetMapping("/{id}")
-    public ResponseEntity<TaskDTO> getTaskById(@PathVariable Integer id) {
-        TaskDTO task = taskService.getTaskById(id);
-        return ResponseEntity.ok(task);
+    public ResponseEntity<TaskDTO> getTaskById(@PathVariable Integer id, WebRequest request) {
+        return ConditionalGet.respond(request, taskService.getTaskETag(id), () -> taskService.getTaskById(id));
     }
 
     /**
@@ -56,6 +170,23 @@ public class TaskController {
         return ResponseEntity.ok(tasks);
     }
 
+    /**
+     * Get a page of the tasks a user owns or is assigned to, using keyset
+     * pagination
+     * 
+     * @param userId User ID
+     * @param cursor nextCursor of the previous page, omitted for the first page
+     * @param limit  Maximum number of tasks to return
+     * @return Page of tasks ordered by ID, with their assignees
+     */
+    @GetMapping("/user/{userId}/work")
+    public ResponseEntity<TaskPageDTO> getWorkPage(@PathVariable Integer userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + TaskService.DEFAULT_PAGE_SIZE) int limit) {
+        TaskPageDTO page = taskService.getWorkPage(userId, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * Create a new task
      * 
@@ -69,16 +200,123 @@ public class TaskController {
     }
 
     /**
-     * Update an existing task
+     * Create and update many tasks in one request. Items with an ID update
+     * that task, items without one are created; invalid items are reported
+     * per item and do not stop the rest of the batch.
+     * 
+     * @param taskDTOs Tasks to save, at most TaskService.MAX_BATCH_SIZE
+     * @return Counts and per-item results in request order
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<TaskBatchResultDTO> saveTasks(@RequestBody List<TaskDTO> taskDTOs) {
+        TaskBatchResultDTO result = taskService.saveTasks(taskDTOs);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Set the status, priority and/or category of many tasks at once, chosen
+     * by ID list or by filter, with one set-based update.
+     * 
+     * @param request Tasks to change and the new values
+     * @return Number of tasks changed
+     */
+    @PostMapping("/bulk-update")
+    public ResponseEntity<TaskBulkUpdateResultDTO> bulkUpdateTasks(@RequestBody TaskBulkUpdateDTO request) {
+        TaskBulkUpdateResultDTO result = taskService.bulkUpdateTasks(request);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Import tasks from a CSV or NDJSON file sent as the raw request body.
+     * The body is read as a stream and saved in batches, so files of any size
+     * can be imported.
+     * 
+     * @param format         ndjson or csv; taken from the Content-Type when
+     *                       omitted
+     * @param resumeAfter    checkpoint of an interrupted import of the same
+     *                       file
+     * @param importId       ID under which the checkpoint is stored, so that
+     *                       sending the file again with it continues the
+     *                       import; not combined with resumeAfter
+     * @param request        Request whose body is the file
+     * @param authentication Authenticated user
+     * @return Counts, checkpoint and the first rejected records
+     */
+    @PostMapping("/import")
+    public ResponseEntity<TaskImportResultDTO> importTasks(
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) Long resumeAfter,
+            @RequestParam(required = false) String importId,
+            HttpServletRequest request,
+            Authentication authentication) throws IOException {
+        TaskFileFormat importFormat;
+        if (format != null) {
+            importFormat = TaskFileFormat.fromParameter(format);
+        } else {
+            String contentType = request.getContentType();
+            importFormat = contentType != null && contentType.toLowerCase(Locale.ROOT).contains("csv")
+                    ? TaskFileFormat.CSV
+                    : TaskFileFormat.NDJSON;
+        }
+        TaskImportResultDTO result;
+        if (importId != null) {
+            if (resumeAfter != null) {
+                throw new IllegalArgumentException("resumeAfter cannot be combined with importId,"
+                        + " which resumes from its stored checkpoint");
+            }
+            result = taskImportService.importTasks(importFormat, request.getInputStream(), importId,
+                    authentication.getName());
+        } else {
+            result = taskImportService.importTasks(importFormat, request.getInputStream(),
+                    resumeAfter != null ? resumeAfter : 0);
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Get the progress of an import started with an import ID, for a client
+     * whose upload was cut off before the response arrived
+     * 
+     * @param importId       Import ID
+     * @param authentication Authenticated user
+     * @return Counts of all uploads with this ID and the checkpoint
+     */
+    @GetMapping("/import/{importId}")
+    public ResponseEntity<TaskImportResultDTO> getImport(@PathVariable String importId,
+            Authentication authentication) {
+        return ResponseEntity.ok(taskImportService.getImport(importId, authentication.getName()));
+    }
+
+    /**
+     * Update an existing task. With an If-Match header the update only
+     * happens if the task still has that entity tag, otherwise 412.
      * 
      * @param id      Task ID
      * @param taskDTO Updated task data
-     * @return Updated task
+     * @param ifMatch Entity tag from a previous read, optional
+     * @return Updated task with its new entity tag
      */
     @PutMapping("/{id}")
-    public ResponseEntity<TaskDTO> updateTask(@PathVariable Integer id, @Valid @RequestBody TaskDTO taskDTO) {
-        TaskDTO updatedTask = taskService.updateTask(id, taskDTO);
-        return ResponseEntity.ok(updatedTask);
+    public ResponseEntity<TaskDTO> updateTask(@PathVariable Integer id, @Valid @RequestBody TaskDTO taskDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskService.TaggedTask updatedTask = taskService.updateTask(id, taskDTO, ifMatch);
+        return ResponseEntity.ok().eTag(updatedTask.eTag()).body(updatedTask.task());
+    }
+
+    /**
+     * Partially update a task with a JSON Merge Patch. Accepts an If-Match
+     * header like {@link #updateTask}.
+     * 
+     * @param id      Task ID
+     * @param patch   Fields to change, null to clear
+     * @param ifMatch Entity tag from a previous read, optional
+     * @return Updated task with its new entity tag
+     */
+    @PatchMapping(value = "/{id}", consumes = { "application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<TaskDTO> patchTask(@PathVariable Integer id, @RequestBody Map<String, Object> patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskService.TaggedTask patchedTask = taskService.patchTask(id, patch, ifMatch);
+        return ResponseEntity.ok().eTag(patchedTask.eTag()).body(patchedTask.task());
     }
 
     /**
@@ -94,15 +332,19 @@ public class TaskController {
     }
 
     /**
-     * Search tasks by title
+     * Search tasks by title and description, best matches first
      * 
-     * @param keyword Search keyword
-     * @return List of matching tasks
+     * @param keyword Search text
+     * @param page    Zero-based page number
+     * @param size    Page size
+     * @return Page of matching tasks with highlighted fragments
      */
     @GetMapping("/search")
-    public ResponseEntity<List<TaskDTO>> searchTasks(@RequestParam String keyword) {
-        List<TaskDTO> tasks = taskService.searchTasksByTitle(keyword);
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<TaskSearchPageDTO> searchTasks(@RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + TaskSearchService.DEFAULT_SEARCH_SIZE) int size) {
+        TaskSearchPageDTO results = taskSearchService.search(keyword, page, size);
+        return ResponseEntity.ok(results);
     }
 
     /**
@@ -116,4 +358,20 @@ public class TaskController {
         List<TaskDTO> tasks = taskService.getOverdueTasks(userId);
         return ResponseEntity.ok(tasks);
     }
+
+    /**
+     * Get a page of overdue tasks for a user using keyset pagination
+     * 
+     * @param userId User ID
+     * @param cursor nextCursor of the previous page, omitted for the first page
+     * @param limit  Maximum number of tasks to return
+     * @return Page of overdue tasks, oldest due date first
+     */
+    @GetMapping("/overdue/{userId}/page")
+    public ResponseEntity<TaskPageDTO> getOverdueTasksPage(@PathVariable Integer userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + TaskService.DEFAULT_PAGE_SIZE) int limit) {
+        TaskPageDTO page = taskService.getOverdueTasksPage(userId, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
 }
\ No newline at end of file
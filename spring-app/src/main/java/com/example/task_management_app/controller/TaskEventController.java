@@ -0,0 +1,41 @@
+package com.example.task_management_app.controller;
+
+import com.example.task_management_app.service.TaskEventService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/tasks/events")
+public class TaskEventController {
+
+    private final TaskEventService taskEventService;
+
+    @Autowired
+    public TaskEventController(TaskEventService taskEventService) {
+        this.taskEventService = taskEventService;
+    }
+
+    /**
+     * Stream task changes as Server-Sent Events. Events name the kind of
+     * change ("created", "updated", "deleted") and carry the task ID;
+     * "resync" means changes were missed and the tasks should be reloaded.
+     * 
+     * @param scope "all" for every task, "mine" for the tasks the
+     *              authenticated user owns or is assigned to
+     * @return Event stream
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@RequestParam(defaultValue = "all") String scope,
+            Authentication authentication) {
+        if (!"all".equals(scope) && !"mine".equals(scope)) {
+            throw new IllegalArgumentException("scope must be \"all\" or \"mine\"");
+        }
+        return taskEventService.subscribe(authentication.getName(), "mine".equals(scope));
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.task_management_app.controller;
 
 import com.example.task_management_app.dto.TaskPriorityDTO;
+import com.example.task_management_app.service.ReferenceDataCache;
 import com.example.task_management_app.service.TaskPriorityService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,6 +9,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,21 +18,25 @@ import java.util.List;
 public class TaskPriorityController {
 
     private final TaskPriorityService taskPriorityService;
+    private final ReferenceDataCache referenceDataCache;
 
     @Autowired
-    public TaskPriorityController(TaskPriorityService taskPriorityService) {
+    public TaskPriorityController(TaskPriorityService taskPriorityService, ReferenceDataCache referenceDataCache) {
         this.taskPriorityService = taskPriorityService;
+        this.referenceDataCache = referenceDataCache;
     }
 
     /**
-     * Get all task priorities
+     * Get all task priorities. Answers 304 Not Modified without querying the
+     * database when If-None-Match holds the current reference data version.
      * 
+     * @param request Current request
      * @return List of all task priorities
      */
     @GetMapping
-    public ResponseEntity<List<TaskPriorityDTO>> getAllTaskPriorities() {
-        List<TaskPriorityDTO> priorities = taskPriorityService.getAllTaskPriorities();
-        return ResponseEntity.ok(priorities);
+    public ResponseEntity<List<TaskPriorityDTO>> getAllTaskPriorities(WebRequest request) {
+        return ConditionalGet.respond(request, referenceDataCache.getVersion(),
+                taskPriorityService::getAllTaskPriorities);
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.example.task_management_app.controller;
 
 import com.example.task_management_app.dto.TaskStatusDTO;
+import com.example.task_management_app.service.ReferenceDataCache;
 import com.example.task_management_app.service.TaskStatusService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,6 +9,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,21 +18,25 @@ import java.util.List;
 public class TaskStatusController {
 
     private final TaskStatusService taskStatusService;
+    private final ReferenceDataCache referenceDataCache;
 
     @Autowired
-    public TaskStatusController(TaskStatusService taskStatusService) {
+    public TaskStatusController(TaskStatusService taskStatusService, ReferenceDataCache referenceDataCache) {
         this.taskStatusService = taskStatusService;
+        this.referenceDataCache = referenceDataCache;
     }
 
     /**
-     * Get all task statuses
+     * Get all task statuses. Answers 304 Not Modified without querying the
+     * database when If-None-Match holds the current reference data version.
      * 
+     * @param request Current request
      * @return List of all task statuses
      */
     @GetMapping
-    public ResponseEntity<List<TaskStatusDTO>> getAllTaskStatuses() {
-        List<TaskStatusDTO> statuses = taskStatusService.getAllTaskStatuses();
-        return ResponseEntity.ok(statuses);
+    public ResponseEntity<List<TaskStatusDTO>> getAllTaskStatuses(WebRequest request) {
+        return ConditionalGet.respond(request, referenceDataCache.getVersion(),
+                taskStatusService::getAllTaskStatuses);
     }
 
     /**
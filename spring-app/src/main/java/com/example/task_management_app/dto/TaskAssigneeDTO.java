@@ -0,0 +1,21 @@
+package com.example.task_management_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskAssigneeDTO {
+
+    private Integer taskId;
+
+    private Integer userId;
+
+    private String username;
+
+    private OffsetDateTime assignedAt;
+}
@@ -0,0 +1,29 @@
+package com.example.task_management_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskAttachmentDTO {
+
+    private Integer id;
+
+    private Integer taskId;
+
+    private String fileName;
+
+    private Long fileSize;
+
+    private String fileType;
+
+    private Integer uploadedById;
+
+    private String uploadedByUsername;
+
+    private OffsetDateTime uploadedAt;
+}
@@ -0,0 +1,29 @@
+package com.example.task_management_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one item of a batch task request
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchItemResultDTO {
+
+    public enum Outcome {
+        CREATED, UPDATED, FAILED
+    }
+
+    // Position of the item in the request
+    private int index;
+
+    private Outcome outcome;
+
+    // Saved task, null when the item failed
+    private TaskDTO task;
+
+    // Reason the item was rejected, null on success
+    private String error;
+}
@@ -0,0 +1,25 @@
+package com.example.task_management_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of a batch task request, with one entry per submitted item in
+ * request order
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchResultDTO {
+
+    private int created;
+
+    private int updated;
+
+    private int failed;
+
+    private List<TaskBatchItemResultDTO> results;
+}
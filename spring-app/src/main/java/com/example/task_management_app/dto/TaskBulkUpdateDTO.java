@@ -0,0 +1,28 @@
+package com.example.task_management_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Bulk reassignment request: the tasks to change, given either as IDs or as
+ * a filter, and the new status, priority and/or category. Null values are
+ * left unchanged.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkUpdateDTO {
+
+    private List<Integer> taskIds;
+
+    private TaskFilterDTO filter;
+
+    private Integer statusId;
+
+    private Integer priorityId;
+
+    private Integer categoryId;
+}
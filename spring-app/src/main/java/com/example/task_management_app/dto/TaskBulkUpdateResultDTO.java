@@ -0,0 +1,20 @@
+package com.example.task_management_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of a bulk reassignment
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkUpdateResultDTO {
+
+    // Selected tasks that had at least one value changed
+    private int updated;
+
+    // Of those, tasks moved to the new status
+    private int statusChanged;
+}
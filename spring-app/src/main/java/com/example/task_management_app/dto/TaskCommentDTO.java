@@ -0,0 +1,29 @@
+package com.example.task_management_app.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCommentDTO {
+
+    private Integer id;
+
+    private Integer taskId;
+
+    private Integer userId;
+
+    private String username;
+
+    @NotBlank(message = "Content is required")
+    @Size(max = 10000, message = "Content must be less than 10000 characters")
+    private String content;
+
+    private OffsetDateTime createdAt;
+}
@@ -0,0 +1,23 @@
+package com.example.task_management_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A single page of a task's comment feed
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCommentPageDTO {
+
+    private List<TaskCommentDTO> items;
+
+    // Opaque token to pass as "cursor" to fetch the next page, null on the last page
+    private String nextCursor;
+
+    private boolean hasMore;
+}
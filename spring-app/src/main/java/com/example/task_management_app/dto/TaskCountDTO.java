@@ -0,0 +1,21 @@
+package com.example.task_management_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of tasks sharing one status, priority or category. id and name are
+ * null for tasks without one.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCountDTO {
+
+    private Integer id;
+
+    private String name;
+
+    private Long count;
+}
@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -43,4 +44,20 @@ public class TaskDTO {
     private Integer categoryId;
 
     private String categoryName;
+
+    // Read-only, maintained as comments are added and deleted
+    private Integer commentCount;
+
+    // Read-only, changed through /api/tasks/{taskId}/assignees. Loaded for a
+    // whole listing at once, see TaskAssignmentService#loadAssignees
+    private List<TaskAssigneeDTO> assignees;
+
+    // Used by the JPQL projections in TaskRepository, which do not select assignees
+    public TaskDTO(Integer id, String title, String description, LocalDate dueDate, Integer priorityId,
+            String priorityName, Integer priorityValue, OffsetDateTime createdAt, OffsetDateTime updatedAt,
+            Integer userId, String username, Integer statusId, String statusName, Integer categoryId,
+            String categoryName, Integer commentCount) {
+        this(id, title, description, dueDate, priorityId, priorityName, priorityValue, createdAt, updatedAt, userId,
+                username, statusId, statusName, categoryId, categoryName, commentCount, null);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.example.task_management_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A rejected record of a task import
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportErrorDTO {
+
+    // Line of the file the record starts on (1-based)
+    private long line;
+
+    private String error;
+}
@@ -0,0 +1,32 @@
+package com.example.task_management_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Summary of a task import
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportResultDTO {
+
+    private long imported;
+
+    private long failed;
+
+    // Last line whose record has been committed or rejected; pass it as
+    // resumeAfter to continue an interrupted import
+    private long checkpoint;
+
+    // False when the import stopped early, see abortReason
+    private boolean completed;
+
+    private String abortReason;
+
+    // The first rejected records, at most TaskImportService.MAX_REPORTED_ERRORS
+    private List<TaskImportErrorDTO> errors;
+}
@@ -0,0 +1,22 @@
+package com.example.task_management_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Tasks of one user and status whose overdue flag a refresh is about to
+ * set or clear. userId and statusId are 0 for tasks without a user or
+ * status.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskOverdueChangeDTO {
+
+    private Integer userId;
+
+    private Integer statusId;
+
+    private Long taskCount;
+}
@@ -0,0 +1,26 @@
+package com.example.task_management_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A task matching a search, with its relevance and highlighted fragments
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchHitDTO {
+
+    private TaskDTO task;
+
+    // Relevance score, higher is better; only comparable within one search
+    private double rank;
+
+    // HTML-escaped title with matches wrapped in <mark></mark>
+    private String titleHighlight;
+
+    // HTML-escaped description fragment with matches wrapped in <mark></mark>,
+    // null when the task has no description
+    private String descriptionHighlight;
+}
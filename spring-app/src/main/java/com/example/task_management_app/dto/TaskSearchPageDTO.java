@@ -0,0 +1,24 @@
+package com.example.task_management_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A page of task search results, best matches first
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchPageDTO {
+
+    private List<TaskSearchHitDTO> items;
+
+    private int page;
+
+    private int size;
+
+    private boolean hasMore;
+}
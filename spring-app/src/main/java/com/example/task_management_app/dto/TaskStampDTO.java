@@ -0,0 +1,34 @@
+package com.example.task_management_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Version of a task and the few columns needed to tag it or change its
+ * status, read without loading the task itself
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStampDTO {
+
+    private Integer id;
+
+    private Long taskVersion;
+
+    private Integer userId;
+
+    // The only user column in the representation
+    private String username;
+
+    private Integer statusId;
+
+    private LocalDate dueDate;
+
+    private boolean overdue;
+
+    private Integer commentCount;
+}
@@ -0,0 +1,32 @@
+package com.example.task_management_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Aggregated task counts for dashboards
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatsDTO {
+
+    private long total;
+
+    // Due before today
+    private long overdue;
+
+    // Due between today and the end of the current week (Sunday), inclusive
+    private long dueThisWeek;
+
+    private List<TaskCountDTO> byStatus;
+
+    private List<TaskCountDTO> byPriority;
+
+    private List<TaskCountDTO> byCategory;
+
+    private List<UserTaskStatsDTO> byUser;
+}
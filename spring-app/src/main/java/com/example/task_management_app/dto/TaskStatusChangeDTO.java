@@ -0,0 +1,26 @@
+package com.example.task_management_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Tasks of one user and current status that a set-based status change
+ * moves, with how many of them are overdue before and after the change.
+ * userId and statusId are 0 for tasks without a user or status.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusChangeDTO {
+
+    private Integer userId;
+
+    private Integer statusId;
+
+    private Long taskCount;
+
+    private Long overdueBefore;
+
+    private Long overdueAfter;
+}
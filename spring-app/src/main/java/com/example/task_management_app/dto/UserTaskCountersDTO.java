@@ -0,0 +1,25 @@
+package com.example.task_management_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A user's task counts served from the maintained counters
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserTaskCountersDTO {
+
+    private Integer userId;
+
+    private long total;
+
+    // Due before today, as of the last write or reconciliation
+    private long overdue;
+
+    private List<TaskCountDTO> byStatus;
+}
@@ -0,0 +1,24 @@
+package com.example.task_management_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Task counts for one user. userId and username are null for unassigned tasks.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserTaskStatsDTO {
+
+    private Integer userId;
+
+    private String username;
+
+    private Long total;
+
+    private Long overdue;
+
+    private Long dueThisWeek;
+}
@@ -0,0 +1,18 @@
+package com.example.task_management_app.event;
+
+/**
+ * Published when task statuses, priorities or categories are created,
+ * updated or deleted
+ */
+public class ReferenceDataChangedEvent {
+
+    private final Class<?> entityType;
+
+    public ReferenceDataChangedEvent(Class<?> entityType) {
+        this.entityType = entityType;
+    }
+
+    public Class<?> getEntityType() {
+        return entityType;
+    }
+}
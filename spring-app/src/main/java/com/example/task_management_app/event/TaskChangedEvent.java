@@ -0,0 +1,38 @@
+package com.example.task_management_app.event;
+
+import java.util.Set;
+
+/**
+ * Published when tasks are created, updated or deleted, carrying the users
+ * the change concerns: the owner before and after the change and the
+ * assignees. Bulk updates change tasks that are not known individually and
+ * carry no task ID, only the owners and assignees of the selected tasks.
+ */
+public class TaskChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED, BULK_UPDATED
+    }
+
+    private final Type type;
+    private final Integer taskId;
+    private final Set<Integer> userIds;
+
+    public TaskChangedEvent(Type type, Integer taskId, Set<Integer> userIds) {
+        this.type = type;
+        this.taskId = taskId;
+        this.userIds = userIds;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Integer getTaskId() {
+        return taskId;
+    }
+
+    public Set<Integer> getUserIds() {
+        return userIds;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.task_management_app.event;
+
+import java.util.Set;
+
+/**
+ * Published when a user is updated or deleted, carrying the username the
+ * user had before the change. When the change shows in tasks (the username
+ * changed or the user was deleted), it also carries the users whose tasks
+ * show the user: the owners and assignees of the tasks the user owns or is
+ * assigned to.
+ */
+public class UserChangedEvent {
+
+    private final String username;
+    private final Set<Integer> taskUserIds;
+
+    public UserChangedEvent(String username) {
+        this(username, Set.of());
+    }
+
+    public UserChangedEvent(String username, Set<Integer> taskUserIds) {
+        this.username = username;
+        this.taskUserIds = taskUserIds;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public Set<Integer> getTaskUserIds() {
+        return taskUserIds;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.task_management_app.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when an authenticated user may not act on a resource
+ * they do not own, such as another user's comment
+ */
+@ResponseStatus(HttpStatus.FORBIDDEN)
+public class ForbiddenOperationException extends RuntimeException {
+
+    public ForbiddenOperationException(String message) {
+        super(message);
+    }
+}
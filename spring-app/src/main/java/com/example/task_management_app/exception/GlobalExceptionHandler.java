@@ -1,15 +1,21 @@
 package com.example.task_management_app.exception;
 
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.support.MissingServletRequestPartException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -77,6 +83,33 @@ public class GlobalExceptionHandler {
                 return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
         }
 
+        @ExceptionHandler(PreconditionFailedException.class)
+        public ResponseEntity<ErrorResponse> handlePreconditionFailedException(
+                        PreconditionFailedException ex, WebRequest request) {
+
+                ErrorResponse errorResponse = new ErrorResponse(
+                                HttpStatus.PRECONDITION_FAILED.value(),
+                                ex.getMessage(),
+                                LocalDateTime.now(),
+                                request.getDescription(false));
+
+                return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+        }
+
+        // A concurrent transaction updated the same row first (version check on flush)
+        @ExceptionHandler(OptimisticLockingFailureException.class)
+        public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+                        OptimisticLockingFailureException ex, WebRequest request) {
+
+                ErrorResponse errorResponse = new ErrorResponse(
+                                HttpStatus.CONFLICT.value(),
+                                "The resource was modified concurrently, reload it and retry",
+                                LocalDateTime.now(),
+                                request.getDescription(false));
+
+                return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+        }
+
         @ExceptionHandler(AuthenticationFailedException.class)
         public ResponseEntity<AuthErrorResponse> handleAuthenticationFailedException(
                         AuthenticationFailedException ex, WebRequest request) {
@@ -152,6 +185,46 @@ public class GlobalExceptionHandler {
                 return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
         }
 
+        @ExceptionHandler(ForbiddenOperationException.class)
+        public ResponseEntity<ErrorResponse> handleForbiddenOperationException(
+                        ForbiddenOperationException ex, WebRequest request) {
+
+                ErrorResponse errorResponse = new ErrorResponse(
+                                HttpStatus.FORBIDDEN.value(),
+                                ex.getMessage(),
+                                LocalDateTime.now(),
+                                request.getDescription(false));
+
+                return new ResponseEntity<>(errorResponse, HttpStatus.FORBIDDEN);
+        }
+
+        // Upload larger than spring.servlet.multipart.max-file-size or max-request-size
+        @ExceptionHandler(MaxUploadSizeExceededException.class)
+        public ResponseEntity<ErrorResponse> handleMaxUploadSizeExceededException(
+                        MaxUploadSizeExceededException ex, WebRequest request) {
+
+                ErrorResponse errorResponse = new ErrorResponse(
+                                HttpStatus.PAYLOAD_TOO_LARGE.value(),
+                                "The uploaded file is too large",
+                                LocalDateTime.now(),
+                                request.getDescription(false));
+
+                return new ResponseEntity<>(errorResponse, HttpStatus.PAYLOAD_TOO_LARGE);
+        }
+
+        @ExceptionHandler(MissingServletRequestPartException.class)
+        public ResponseEntity<ErrorResponse> handleMissingServletRequestPartException(
+                        MissingServletRequestPartException ex, WebRequest request) {
+
+                ErrorResponse errorResponse = new ErrorResponse(
+                                HttpStatus.BAD_REQUEST.value(),
+                                "Missing part: " + ex.getRequestPartName(),
+                                LocalDateTime.now(),
+                                request.getDescription(false));
+
+                return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        }
+
         @ExceptionHandler(IllegalArgumentException.class)
         public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
                         IllegalArgumentException ex, WebRequest request) {
@@ -164,4 +237,35 @@ public class GlobalExceptionHandler {
 
                 return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
         }
-}
\ No newline at end of file
+
+        @ExceptionHandler(HashingCapacityExceededException.class)
+        public ResponseEntity<ErrorResponse> handleHashingCapacityExceededException(
+                        HashingCapacityExceededException ex, WebRequest request) {
+
+                ErrorResponse errorResponse = new ErrorResponse(
+                                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                                ex.getMessage(),
+                                LocalDateTime.now(),
+                                request.getDescription(false));
+
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, "1")
+                                .body(errorResponse);
+        }
+
+        // No database connection within the pool's connection timeout (pool exhausted or database down)
+        @ExceptionHandler({ CannotCreateTransactionException.class, DataAccessResourceFailureException.class })
+        public ResponseEntity<ErrorResponse> handleDatabaseUnavailableException(
+                        Exception ex, WebRequest request) {
+
+                ErrorResponse errorResponse = new ErrorResponse(
+                                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                                "Database temporarily unavailable, please retry",
+                                LocalDateTime.now(),
+                                request.getDescription(false));
+
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, "1")
+                                .body(errorResponse);
+        }
+}
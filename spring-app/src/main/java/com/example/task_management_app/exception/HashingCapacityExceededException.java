@@ -0,0 +1,16 @@
+package com.example.task_management_app.exception;
+
+/**
+ * Exception thrown when the password hashing pool is saturated and a login or
+ * registration cannot be queued
+ */
+public class HashingCapacityExceededException extends RuntimeException {
+
+    public HashingCapacityExceededException(String message) {
+        super(message);
+    }
+
+    public HashingCapacityExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
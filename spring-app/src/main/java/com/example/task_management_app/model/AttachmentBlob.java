@@ -0,0 +1,34 @@
+package com.example.task_management_app.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Stored attachment content, identified by its SHA-256 hash. Attachments
+ * with the same content share one blob, which counts its references.
+ */
+@Entity
+@Table(name = "attachment_blobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttachmentBlob {
+
+    @Id
+    @Column(length = 64)
+    private String sha256;
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    // When the last reference was dropped (or the count was last corrected)
+    @Column(name = "released_at")
+    private OffsetDateTime releasedAt;
+}
@@ -6,18 +6,24 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 
 @Entity
 @Table(name = "tasks")
+// UPDATE statements list only the changed columns instead of the whole row
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts; the
+    // database sequence must use the same increment (see db/migration/V2)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_id_seq")
+    @SequenceGenerator(name = "task_id_seq", sequenceName = "tasks_task_id_seq", allocationSize = 50)
     @Column(name = "task_id")
     private Integer id;
 
@@ -41,6 +47,19 @@ public class Task {
     @Column(name = "updated_at")
     private OffsetDateTime updatedAt;
 
+    // Optimistic lock, incremented by Hibernate on every update
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // Past its due date and not in a completed status; maintained by TaskOverdueService
+    @Column(nullable = false)
+    private boolean overdue;
+
+    // Number of comments, maintained by TaskCommentService without loading the task
+    @Column(name = "comment_count", nullable = false)
+    private int commentCount;
+
     @ManyToOne
     @JoinColumn(name = "user_id")
     private User user;
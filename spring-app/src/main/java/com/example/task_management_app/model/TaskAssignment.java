@@ -0,0 +1,47 @@
+package com.example.task_management_app.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Assignment of a task to a user other than, or besides, its owner
+ */
+@Entity
+@Table(name = "user_task_assignments", uniqueConstraints = @UniqueConstraint(columnNames = { "task_id", "user_id" }))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskAssignment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "assignment_id")
+    private Integer id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "task_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    private Task task;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    private User user;
+
+    @Column(name = "assigned_at")
+    private OffsetDateTime assignedAt;
+
+    @PrePersist
+    public void prePersist() {
+        assignedAt = OffsetDateTime.now();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.task_management_app.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "task_attachments")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskAttachment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "attachment_id")
+    private Integer id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "task_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    private Task task;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    // Location of the content, relative to the attachment storage directory
+    @Column(name = "file_path", nullable = false, length = 512)
+    private String filePath;
+
+    @Column(name = "file_size")
+    private Long fileSize;
+
+    @Column(name = "file_type", length = 100)
+    private String fileType;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "uploaded_by")
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    @ToString.Exclude
+    private User uploadedBy;
+
+    @Column(name = "uploaded_at")
+    private OffsetDateTime uploadedAt;
+
+    // Blob holding the content (attachment_blobs.sha256); null for files stored before content addressing
+    @Column(name = "content_sha256", length = 64)
+    private String contentSha256;
+
+    @PrePersist
+    public void prePersist() {
+        uploadedAt = OffsetDateTime.now();
+    }
+}
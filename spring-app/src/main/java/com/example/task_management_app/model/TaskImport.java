@@ -0,0 +1,44 @@
+package com.example.task_management_app.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Progress of a resumable import, identified by an ID chosen by the client.
+ * Updated in the transaction of every imported batch.
+ */
+@Entity
+@Table(name = "task_imports")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImport {
+
+    @Id
+    @Column(name = "import_id", length = 64)
+    private String importId;
+
+    // The user who started the import; nobody else can see or continue it
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    // Last line whose record has been committed or rejected
+    @Column(nullable = false)
+    private Long checkpoint;
+
+    @Column(nullable = false)
+    private Long imported;
+
+    @Column(nullable = false)
+    private Long failed;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+}
@@ -0,0 +1,36 @@
+package com.example.task_management_app.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of tasks per user and status, maintained alongside task writes so
+ * per-user counts are read by primary key instead of scanning tasks. Tasks
+ * without a user or status are counted under {@link #NONE}.
+ */
+@Entity
+@Table(name = "task_stats")
+@IdClass(TaskStatId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStat {
+
+    public static final int NONE = 0;
+
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Id
+    @Column(name = "status_id")
+    private Integer statusId;
+
+    @Column(name = "task_count", nullable = false)
+    private Long taskCount;
+
+    @Column(name = "overdue_count", nullable = false)
+    private Long overdueCount;
+}
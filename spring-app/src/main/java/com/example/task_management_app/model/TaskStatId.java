@@ -0,0 +1,26 @@
+package com.example.task_management_app.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Primary key of {@link TaskStat}
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatId implements Serializable, Comparable<TaskStatId> {
+
+    private Integer userId;
+
+    private Integer statusId;
+
+    @Override
+    public int compareTo(TaskStatId other) {
+        int byUser = Integer.compare(userId, other.userId);
+        return byUser != 0 ? byUser : Integer.compare(statusId, other.statusId);
+    }
+}
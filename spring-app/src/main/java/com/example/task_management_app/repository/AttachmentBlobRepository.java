@@ -0,0 +1,78 @@
+package com.example.task_management_app.repository;
+
+import com.example.task_management_app.model.AttachmentBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AttachmentBlobRepository extends JpaRepository<AttachmentBlob, String> {
+
+    // Create a blob row without references unless it already exists; returns 1 if it was created
+    @Modifying
+    @Query("INSERT INTO AttachmentBlob (sha256, fileSize, refCount)"
+            + " VALUES (:sha256, :fileSize, 0) ON CONFLICT DO NOTHING")
+    int insertIfAbsent(@Param("sha256") String sha256, @Param("fileSize") Long fileSize);
+
+    // Add a reference in place; the row lock serializes it with garbage collection of the blob
+    @Modifying
+    @Query("UPDATE AttachmentBlob b SET b.refCount = b.refCount + 1 WHERE b.sha256 = :sha256")
+    int acquire(@Param("sha256") String sha256);
+
+    // Drop a reference
+    @Modifying
+    @Query("UPDATE AttachmentBlob b SET b.refCount = b.refCount - 1, b.releasedAt = :now WHERE b.sha256 = :sha256")
+    int release(@Param("sha256") String sha256, @Param("now") OffsetDateTime now);
+
+    // Drop the references held by the attachments of a task
+    @Modifying
+    @Query("UPDATE AttachmentBlob b SET b.refCount = b.refCount - CAST((SELECT COUNT(a) FROM TaskAttachment a"
+            + " WHERE a.contentSha256 = b.sha256 AND a.task.id = :taskId) AS Integer), b.releasedAt = :now"
+            + " WHERE b.sha256 IN (SELECT a.contentSha256 FROM TaskAttachment a WHERE a.task.id = :taskId)")
+    int releaseAllOfTask(@Param("taskId") Integer taskId, @Param("now") OffsetDateTime now);
+
+    // Drop the references held by the attachments of all tasks owned by a user
+    @Modifying
+    @Query("UPDATE AttachmentBlob b SET b.refCount = b.refCount - CAST((SELECT COUNT(a) FROM TaskAttachment a"
+            + " WHERE a.contentSha256 = b.sha256 AND a.task.user.id = :userId) AS Integer), b.releasedAt = :now"
+            + " WHERE b.sha256 IN (SELECT a.contentSha256 FROM TaskAttachment a WHERE a.task.user.id = :userId)")
+    int releaseAllOfUser(@Param("userId") Integer userId, @Param("now") OffsetDateTime now);
+
+    // Correct reference counts that no longer match the attachments table
+    @Modifying
+    @Query("UPDATE AttachmentBlob b SET b.refCount = CAST((SELECT COUNT(a) FROM TaskAttachment a"
+            + " WHERE a.contentSha256 = b.sha256) AS Integer), b.releasedAt = :now"
+            + " WHERE b.refCount <> CAST((SELECT COUNT(a) FROM TaskAttachment a"
+            + " WHERE a.contentSha256 = b.sha256) AS Integer)")
+    int recount(@Param("now") OffsetDateTime now);
+
+    // Find blobs without references since before the given time, longest unreferenced first
+    @Query("SELECT b.sha256 FROM AttachmentBlob b WHERE b.refCount <= 0 AND b.releasedAt < :releasedBefore"
+            + " ORDER BY b.releasedAt")
+    List<String> findReleasedBefore(@Param("releasedBefore") OffsetDateTime releasedBefore, Pageable pageable);
+
+    // Lock a blob for deletion, provided nothing references it
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM AttachmentBlob b WHERE b.sha256 = :sha256 AND b.refCount <= 0"
+            + " AND NOT EXISTS (SELECT 1 FROM TaskAttachment a WHERE a.contentSha256 = b.sha256)")
+    Optional<AttachmentBlob> lockUnreferenced(@Param("sha256") String sha256);
+
+    // Delete a blob row without loading it
+    @Modifying
+    @Query("DELETE FROM AttachmentBlob b WHERE b.sha256 = :sha256")
+    int deleteBlobById(@Param("sha256") String sha256);
+
+    // Find which of the given blobs have a row
+    @Query("SELECT b.sha256 FROM AttachmentBlob b WHERE b.sha256 IN :hashes")
+    List<String> findExisting(@Param("hashes") Collection<String> hashes);
+}
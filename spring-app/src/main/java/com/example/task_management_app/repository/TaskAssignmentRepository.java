@@ -0,0 +1,43 @@
+package com.example.task_management_app.repository;
+
+import com.example.task_management_app.dto.TaskAssigneeDTO;
+import com.example.task_management_app.model.TaskAssignment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskAssignmentRepository extends JpaRepository<TaskAssignment, Integer> {
+
+    // Find the assignees of many tasks at once, in assignment order per task. One statement for a whole
+    // listing instead of one per task; served by the unique (task_id, user_id) index
+    @Query("SELECT new com.example.task_management_app.dto.TaskAssigneeDTO(a.task.id, u.id, u.username, a.assignedAt)"
+            + " FROM TaskAssignment a JOIN a.user u WHERE a.task.id IN :taskIds"
+            + " ORDER BY a.task.id ASC, a.assignedAt ASC, a.id ASC")
+    List<TaskAssigneeDTO> findAssigneesByTaskIdIn(@Param("taskIds") Collection<Integer> taskIds);
+
+    // Find the owners and assignees of the tasks a user owns or is assigned to, the user included
+    @Query("SELECT t.user.id FROM Task t WHERE t.user IS NOT NULL AND (t.user.id = :userId"
+            + " OR t.id IN (SELECT a.task.id FROM TaskAssignment a WHERE a.user.id = :userId))"
+            + " UNION SELECT a.user.id FROM TaskAssignment a WHERE a.task.user.id = :userId"
+            + " OR a.task.id IN (SELECT b.task.id FROM TaskAssignment b WHERE b.user.id = :userId)")
+    List<Integer> findUserIdsSharingTasksWith(@Param("userId") Integer userId);
+
+    // Assign a task to a user unless it already is; returns 1 if the assignment was created
+    @Modifying
+    @Query("INSERT INTO TaskAssignment (task.id, user.id, assignedAt)"
+            + " VALUES (:taskId, :userId, :assignedAt) ON CONFLICT DO NOTHING")
+    int insertIfAbsent(@Param("taskId") Integer taskId, @Param("userId") Integer userId,
+            @Param("assignedAt") OffsetDateTime assignedAt);
+
+    // Delete an assignment without loading it
+    @Modifying
+    @Query("DELETE FROM TaskAssignment a WHERE a.task.id = :taskId AND a.user.id = :userId")
+    int deleteAssignment(@Param("taskId") Integer taskId, @Param("userId") Integer userId);
+}
@@ -0,0 +1,39 @@
+package com.example.task_management_app.repository;
+
+import com.example.task_management_app.dto.TaskAttachmentDTO;
+import com.example.task_management_app.model.TaskAttachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TaskAttachmentRepository extends JpaRepository<TaskAttachment, Integer> {
+
+    // Find the attachments of a task, with their uploaders, in one statement
+    @Query("SELECT new com.example.task_management_app.dto.TaskAttachmentDTO("
+            + "a.id, a.task.id, a.fileName, a.fileSize, a.fileType, u.id, u.username, a.uploadedAt)"
+            + " FROM TaskAttachment a LEFT JOIN a.uploadedBy u WHERE a.task.id = :taskId ORDER BY a.id")
+    List<TaskAttachmentDTO> findDtosByTaskId(@Param("taskId") Integer taskId);
+
+    // Find an attachment, provided it belongs to the given task
+    @Query("SELECT a FROM TaskAttachment a WHERE a.id = :id AND a.task.id = :taskId")
+    Optional<TaskAttachment> findByIdAndTaskId(@Param("id") Integer id, @Param("taskId") Integer taskId);
+
+    // Find the files of a task's attachments that were stored before content addressing
+    @Query("SELECT a.filePath FROM TaskAttachment a WHERE a.task.id = :taskId AND a.contentSha256 IS NULL")
+    List<String> findLegacyFilePathsByTaskId(@Param("taskId") Integer taskId);
+
+    // Find the files stored before content addressing of the attachments of all tasks owned by a user
+    @Query("SELECT a.filePath FROM TaskAttachment a WHERE a.task.user.id = :userId AND a.contentSha256 IS NULL")
+    List<String> findLegacyFilePathsByTaskUserId(@Param("userId") Integer userId);
+
+    // Delete an attachment without loading it
+    @Modifying
+    @Query("DELETE FROM TaskAttachment a WHERE a.id = :id")
+    int deleteAttachmentById(@Param("id") Integer id);
+}
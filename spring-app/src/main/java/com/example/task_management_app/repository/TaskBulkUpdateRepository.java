@@ -0,0 +1,34 @@
+package com.example.task_management_app.repository;
+
+import com.example.task_management_app.dto.TaskFilterDTO;
+import com.example.task_management_app.dto.TaskStatusChangeDTO;
+import com.example.task_management_app.model.TaskCategory;
+import com.example.task_management_app.model.TaskPriority;
+import com.example.task_management_app.model.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based task updates. The SET clause depends on which references are
+ * being changed, so these statements are built at runtime instead of
+ * declared with @Query. Tasks are selected either by ID or by a
+ * {@link TaskFilterDTO}: a non-null taskIds takes precedence.
+ */
+public interface TaskBulkUpdateRepository {
+
+    // Count the selected tasks whose status differs from the given one, per user and current status, with their
+    // overdue flags before the change and as bulkUpdate recomputes them
+    List<TaskStatusChangeDTO> countStatusChanges(Collection<Integer> taskIds, TaskFilterDTO filter, TaskStatus status,
+            boolean statusCompleted, LocalDate today);
+
+    // Find the owners and assignees of the selected tasks
+    List<Integer> findUserIds(Collection<Integer> taskIds, TaskFilterDTO filter);
+
+    // Set the given non-null references on every selected task that differs in at least one of them.
+    // With a status, the overdue flag is recomputed: cleared for a completed status, else from the due date
+    int bulkUpdate(Collection<Integer> taskIds, TaskFilterDTO filter, TaskStatus status, boolean statusCompleted,
+            TaskPriority priority, TaskCategory category, OffsetDateTime updatedAt);
+}
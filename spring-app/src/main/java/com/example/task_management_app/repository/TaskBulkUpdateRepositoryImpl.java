@@ -0,0 +1,135 @@
+package com.example.task_management_app.repository;
+
+import com.example.task_management_app.dto.TaskFilterDTO;
+import com.example.task_management_app.dto.TaskStatusChangeDTO;
+import com.example.task_management_app.model.TaskCategory;
+import com.example.task_management_app.model.TaskPriority;
+import com.example.task_management_app.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+class TaskBulkUpdateRepositoryImpl implements TaskBulkUpdateRepository {
+
+    private final EntityManager entityManager;
+
+    TaskBulkUpdateRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<TaskStatusChangeDTO> countStatusChanges(Collection<Integer> taskIds, TaskFilterDTO filter,
+            TaskStatus status, boolean statusCompleted, LocalDate today) {
+        TypedQuery<TaskStatusChangeDTO> query = entityManager.createQuery(
+                "SELECT new com.example.task_management_app.dto.TaskStatusChangeDTO("
+                        + "COALESCE(t.user.id, 0), COALESCE(t.status.id, 0), COUNT(t),"
+                        + " SUM(CASE WHEN t.overdue = TRUE THEN 1L ELSE 0L END),"
+                        + " SUM(CASE WHEN " + overdueAfter(statusCompleted) + " THEN 1L ELSE 0L END))"
+                        + " FROM Task t WHERE " + selection(taskIds) + " AND " + differs("status")
+                        + " GROUP BY COALESCE(t.user.id, 0), COALESCE(t.status.id, 0)",
+                TaskStatusChangeDTO.class);
+        bindSelection(query, taskIds, filter);
+        if (!statusCompleted) {
+            query.setParameter("today", today);
+        }
+        query.setParameter("status", status);
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Integer> findUserIds(Collection<Integer> taskIds, TaskFilterDTO filter) {
+        TypedQuery<Integer> query = entityManager.createQuery(
+                "SELECT t.user.id FROM Task t WHERE t.user IS NOT NULL AND " + selection(taskIds)
+                        + " UNION SELECT a.user.id FROM TaskAssignment a JOIN a.task t WHERE " + selection(taskIds),
+                Integer.class);
+        bindSelection(query, taskIds, filter);
+        return query.getResultList();
+    }
+
+    @Override
+    public int bulkUpdate(Collection<Integer> taskIds, TaskFilterDTO filter, TaskStatus status,
+            boolean statusCompleted, TaskPriority priority, TaskCategory category, OffsetDateTime updatedAt) {
+        List<String> changed = new ArrayList<>();
+        if (status != null) {
+            changed.add("status");
+        }
+        if (priority != null) {
+            changed.add("priority");
+        }
+        if (category != null) {
+            changed.add("category");
+        }
+        if (changed.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder statement = new StringBuilder("UPDATE Task t SET");
+        for (String attribute : changed) {
+            statement.append(" t.").append(attribute).append(" = :").append(attribute).append(',');
+        }
+        if (status != null) {
+            statement.append(" t.overdue = CASE WHEN ").append(overdueAfter(statusCompleted))
+                    .append(" THEN TRUE ELSE FALSE END,");
+        }
+        // Bumping the version makes concurrent single-task updates of these rows fail their version check
+        statement.append(" t.version = t.version + 1, t.updatedAt = :updatedAt WHERE ")
+                .append(selection(taskIds)).append(" AND (");
+        for (int i = 0; i < changed.size(); i++) {
+            statement.append(i > 0 ? " OR " : "").append(differs(changed.get(i)));
+        }
+        statement.append(')');
+
+        Query query = entityManager.createQuery(statement.toString());
+        bindSelection(query, taskIds, filter);
+        if (status != null) {
+            query.setParameter("status", status);
+            if (!statusCompleted) {
+                query.setParameter("today", updatedAt.toLocalDate());
+            }
+        }
+        if (priority != null) {
+            query.setParameter("priority", priority);
+        }
+        if (category != null) {
+            query.setParameter("category", category);
+        }
+        query.setParameter("updatedAt", updatedAt);
+        int updated = query.executeUpdate();
+        // Managed tasks loaded earlier in this transaction no longer match their rows
+        entityManager.clear();
+        return updated;
+    }
+
+    private static String selection(Collection<Integer> taskIds) {
+        return taskIds != null ? "t.id IN :taskIds" : TaskRepository.TASK_FILTER;
+    }
+
+    // Whether a task is overdue once moved to the new status, the rule of TaskOverdueService.isOverdue
+    private static String overdueAfter(boolean statusCompleted) {
+        return statusCompleted ? "1 = 0" : "t.dueDate < :today";
+    }
+
+    // Unchanged rows are skipped so they are not rewritten and keep their version
+    private static String differs(String attribute) {
+        return "(t." + attribute + " IS NULL OR t." + attribute + " <> :" + attribute + ")";
+    }
+
+    private static void bindSelection(Query query, Collection<Integer> taskIds, TaskFilterDTO filter) {
+        if (taskIds != null) {
+            query.setParameter("taskIds", taskIds);
+            return;
+        }
+        query.setParameter("userId", filter.getUserId());
+        query.setParameter("statusId", filter.getStatusId());
+        query.setParameter("categoryId", filter.getCategoryId());
+        query.setParameter("priorityId", filter.getPriorityId());
+        query.setParameter("dueFrom", filter.getDueFrom());
+        query.setParameter("dueTo", filter.getDueTo());
+    }
+}
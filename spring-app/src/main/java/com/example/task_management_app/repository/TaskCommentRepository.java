@@ -0,0 +1,40 @@
+package com.example.task_management_app.repository;
+
+import com.example.task_management_app.dto.TaskCommentDTO;
+import com.example.task_management_app.model.TaskComment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TaskCommentRepository extends JpaRepository<TaskComment, Integer> {
+
+    // Keyset page of the comments of a task ordered by (created at, id), starting after the given
+    // position. Authors are joined in the same statement instead of being looked up per comment
+    @Query("SELECT new com.example.task_management_app.dto.TaskCommentDTO("
+            + "c.id, c.task.id, u.id, u.username, c.content, c.createdAt)"
+            + " FROM TaskComment c JOIN c.user u WHERE c.task.id = :taskId"
+            + " AND (:afterCreatedAt IS NULL OR (c.createdAt >= :afterCreatedAt"
+            + " AND (c.createdAt > :afterCreatedAt OR c.id > :afterId)))"
+            + " ORDER BY c.createdAt ASC, c.id ASC")
+    List<TaskCommentDTO> findPage(@Param("taskId") Integer taskId,
+            @Param("afterCreatedAt") OffsetDateTime afterCreatedAt,
+            @Param("afterId") Integer afterId,
+            Pageable pageable);
+
+    // Find the author of a comment, provided the comment belongs to the given task
+    @Query("SELECT c.user.id FROM TaskComment c WHERE c.id = :id AND c.task.id = :taskId")
+    Optional<Integer> findAuthorId(@Param("id") Integer id, @Param("taskId") Integer taskId);
+
+    // Delete a comment without loading it
+    @Modifying
+    @Query("DELETE FROM TaskComment c WHERE c.id = :id")
+    int deleteCommentById(@Param("id") Integer id);
+}
@@ -0,0 +1,41 @@
+package com.example.task_management_app.repository;
+
+import com.example.task_management_app.model.TaskImport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+
+@Repository
+public interface TaskImportRepository extends JpaRepository<TaskImport, String> {
+
+    // Create an import without progress unless one with this ID already exists
+    @Modifying
+    @Query("INSERT INTO TaskImport (importId, userId, checkpoint, imported, failed, completed, updatedAt)"
+            + " VALUES (:importId, :userId, 0L, 0L, 0L, FALSE, :now) ON CONFLICT DO NOTHING")
+    int insertIfAbsent(@Param("importId") String importId, @Param("userId") Integer userId,
+            @Param("now") OffsetDateTime now);
+
+    // Record a batch, provided no other upload moved the checkpoint since this one read it. Ends the batch,
+    // so the tasks it saved are flushed and let go of
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TaskImport i SET i.checkpoint = :checkpoint, i.imported = i.imported + :imported,"
+            + " i.failed = i.failed + :failed, i.updatedAt = :now"
+            + " WHERE i.importId = :importId AND i.checkpoint = :previousCheckpoint")
+    int recordBatch(@Param("importId") String importId, @Param("previousCheckpoint") Long previousCheckpoint,
+            @Param("checkpoint") Long checkpoint, @Param("imported") Long imported, @Param("failed") Long failed,
+            @Param("now") OffsetDateTime now);
+
+    // Mark an import as read to the end of its file
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TaskImport i SET i.completed = TRUE, i.updatedAt = :now WHERE i.importId = :importId")
+    int markCompleted(@Param("importId") String importId, @Param("now") OffsetDateTime now);
+
+    // Delete imports not updated since the given time
+    @Modifying
+    @Query("DELETE FROM TaskImport i WHERE i.updatedAt < :updatedBefore")
+    int deleteUpdatedBefore(@Param("updatedBefore") OffsetDateTime updatedBefore);
+}
@@ -1,15 +1,56 @@
 package com.example.task_management_app.repository;
 
+import com.example.task_management_app.dto.TaskCountDTO;
+import com.example.task_management_app.dto.TaskDTO;
+import com.example.task_management_app.dto.TaskOverdueChangeDTO;
+import com.example.task_management_app.dto.TaskStampDTO;
+import com.example.task_management_app.dto.UserTaskStatsDTO;
 import com.example.task_management_app.model.Task;
+import com.example.task_management_app.model.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Integer> {
+public interface TaskRepository extends JpaRepository<Task, Integer>, TaskBulkUpdateRepository {
+
+    // Builds TaskDTO rows in the query itself, joining the user and reference
+    // tables so a listing is a single statement instead of one select per association
+    String TASK_DTO_SELECT = "SELECT new com.example.task_management_app.dto.TaskDTO("
+            + "t.id, t.title, t.description, t.dueDate, p.id, p.name, p.value, t.createdAt, t.updatedAt,"
+            + " u.id, u.username, s.id, s.name, c.id, c.name, t.commentCount)"
+            + " FROM Task t LEFT JOIN t.priority p LEFT JOIN t.user u"
+            + " LEFT JOIN t.status s LEFT JOIN t.category c";
+
+    // Tasks whose overdue flag is out of date, see TaskOverdueService. Parameters: today, completedStatuses
+    String BECOMING_OVERDUE = "t.overdue = FALSE AND t.dueDate < :today"
+            + " AND (t.status IS NULL OR t.status.id NOT IN"
+            + " (SELECT s.id FROM TaskStatus s WHERE s.name IN :completedStatuses))";
+    String NO_LONGER_OVERDUE = "t.overdue = TRUE AND (t.dueDate IS NULL"
+            + " OR t.dueDate >= :today OR t.status.id IN"
+            + " (SELECT s.id FROM TaskStatus s WHERE s.name IN :completedStatuses))";
+
+    // Optional listing filters, a null parameter disables its predicate
+    String TASK_FILTER = "(:userId IS NULL OR t.user.id = :userId)"
+            + " AND (:statusId IS NULL OR t.status.id = :statusId)"
+            + " AND (:categoryId IS NULL OR t.category.id = :categoryId)"
+            + " AND (:priorityId IS NULL OR t.priority.id = :priorityId)"
+            + " AND (:dueFrom IS NULL OR t.dueDate >= :dueFrom)"
+            + " AND (:dueTo IS NULL OR t.dueDate <= :dueTo)";
 
     // Find tasks by user id
     List<Task> findByUserId(Integer userId);
@@ -30,4 +71,203 @@ public interface TaskRepository extends JpaRepository<Task, Integer> {
     // Custom query to find tasks by user and due date before today
     @Query("SELECT t FROM Task t WHERE t.user.id = :userId AND t.dueDate < CURRENT_DATE")
     List<Task> findOverdueTasks(@Param("userId") Integer userId);
+
+    // Stream all tasks as DTOs for export. Rows are fetched from a forward-only
+    // cursor in chunks of the fetch size; the caller must hold a transaction
+    // and close the stream. DTOs are not managed, so memory stays flat
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(TASK_DTO_SELECT + " ORDER BY t.id ASC")
+    Stream<TaskDTO> streamAllDtos();
+
+    // Find a single task as a DTO
+    @Query(TASK_DTO_SELECT + " WHERE t.id = :id")
+    Optional<TaskDTO> findDtoById(@Param("id") Integer id);
+
+    // Find the version, owner, status, due date and comment count of a task (primary key lookups, no other joins)
+    @Query("SELECT new com.example.task_management_app.dto.TaskStampDTO("
+            + "t.id, t.version, u.id, u.username, t.status.id, t.dueDate, t.overdue, t.commentCount)"
+            + " FROM Task t LEFT JOIN t.user u WHERE t.id = :id")
+    Optional<TaskStampDTO> findStampById(@Param("id") Integer id);
+
+    // Set the status (and the overdue flag that follows from it) of a task if it still has the given
+    // version, without loading it
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.overdue = :overdue, t.updatedAt = :updatedAt,"
+            + " t.version = t.version + 1 WHERE t.id = :id AND t.version = :version")
+    int updateStatus(@Param("id") Integer id, @Param("version") Long version, @Param("status") TaskStatus status,
+            @Param("overdue") boolean overdue, @Param("updatedAt") OffsetDateTime updatedAt);
+
+    // Mark a task as changed without loading it, for changes kept outside the tasks table that are part of
+    // its representation (assignees), so that its entity tag changes
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.updatedAt = :updatedAt, t.version = t.version + 1 WHERE t.id = :id")
+    int touch(@Param("id") Integer id, @Param("updatedAt") OffsetDateTime updatedAt);
+
+    // Mark the tasks assigned to a user as changed, see touch
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.updatedAt = :updatedAt, t.version = t.version + 1"
+            + " WHERE t.id IN (SELECT a.task.id FROM TaskAssignment a WHERE a.user.id = :userId)")
+    int touchAssignedTo(@Param("userId") Integer userId, @Param("updatedAt") OffsetDateTime updatedAt);
+
+    // Flag tasks that are past their due date and not in a completed status. The flag is not part of
+    // the task representation, so the version is left alone
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.overdue = TRUE WHERE " + BECOMING_OVERDUE)
+    int flagOverdue(@Param("today") LocalDate today, @Param("completedStatuses") Collection<String> completedStatuses);
+
+    // Clear the flag of tasks that are no longer overdue (due date moved or status completed)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.overdue = FALSE WHERE " + NO_LONGER_OVERDUE)
+    int clearOverdue(@Param("today") LocalDate today,
+            @Param("completedStatuses") Collection<String> completedStatuses);
+
+    // Count the tasks flagOverdue would flag, per user and status
+    @Query("SELECT new com.example.task_management_app.dto.TaskOverdueChangeDTO("
+            + "COALESCE(t.user.id, 0), COALESCE(t.status.id, 0), COUNT(t)) FROM Task t WHERE " + BECOMING_OVERDUE
+            + " GROUP BY COALESCE(t.user.id, 0), COALESCE(t.status.id, 0)")
+    List<TaskOverdueChangeDTO> countBecomingOverdue(@Param("today") LocalDate today,
+            @Param("completedStatuses") Collection<String> completedStatuses);
+
+    // Count the tasks clearOverdue would clear, per user and status
+    @Query("SELECT new com.example.task_management_app.dto.TaskOverdueChangeDTO("
+            + "COALESCE(t.user.id, 0), COALESCE(t.status.id, 0), COUNT(t)) FROM Task t WHERE " + NO_LONGER_OVERDUE
+            + " GROUP BY COALESCE(t.user.id, 0), COALESCE(t.status.id, 0)")
+    List<TaskOverdueChangeDTO> countNoLongerOverdue(@Param("today") LocalDate today,
+            @Param("completedStatuses") Collection<String> completedStatuses);
+
+    // Adjust the comment count of a task in place. The version is left alone: a comment is not an edit
+    // of the task, and concurrent commenters would otherwise fail each other's version checks
+    @Modifying
+    @Query("UPDATE Task t SET t.commentCount = t.commentCount + :delta WHERE t.id = :id")
+    int adjustCommentCount(@Param("id") Integer id, @Param("delta") int delta);
+
+    // Take the comments of a user out of the counts of the tasks they were made on
+    @Modifying
+    @Query("UPDATE Task t SET t.commentCount = t.commentCount - CAST((SELECT COUNT(c) FROM TaskComment c"
+            + " WHERE c.task.id = t.id AND c.user.id = :userId) AS Integer)"
+            + " WHERE t.id IN (SELECT c.task.id FROM TaskComment c WHERE c.user.id = :userId)")
+    int subtractCommentsOfUser(@Param("userId") Integer userId);
+
+    // Find tasks by user id as DTOs
+    @Query(TASK_DTO_SELECT + " WHERE t.user.id = :userId ORDER BY t.id ASC")
+    List<TaskDTO> findDtosByUserId(@Param("userId") Integer userId);
+
+    // Find tasks by ids as DTOs (order is not preserved)
+    @Query(TASK_DTO_SELECT + " WHERE t.id IN :ids")
+    List<TaskDTO> findDtosByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // Find tasks whose title or description matches a LIKE pattern as DTOs,
+    // title matches first. Portable search used when full-text search is unavailable
+    @Query(TASK_DTO_SELECT + " WHERE LOWER(t.title) LIKE :pattern ESCAPE '\\'"
+            + " OR LOWER(t.description) LIKE :pattern ESCAPE '\\'"
+            + " ORDER BY CASE WHEN LOWER(t.title) LIKE :pattern ESCAPE '\\' THEN 0 ELSE 1 END, t.id ASC")
+    Slice<TaskDTO> findDtosMatching(@Param("pattern") String pattern, Pageable pageable);
+
+    // Find flagged overdue tasks of a user as DTOs, oldest due date first
+    @Query(TASK_DTO_SELECT + " WHERE t.user.id = :userId AND t.overdue = TRUE ORDER BY t.dueDate ASC, t.id ASC")
+    List<TaskDTO> findOverdueDtos(@Param("userId") Integer userId);
+
+    // Keyset page of flagged overdue tasks of a user ordered by (due date, id), starting after the given
+    // position. Served by the partial index on (user_id, due_date, task_id) WHERE overdue
+    @Query(TASK_DTO_SELECT + " WHERE t.user.id = :userId AND t.overdue = TRUE"
+            + " AND (:afterDueDate IS NULL OR (t.dueDate >= :afterDueDate"
+            + " AND (t.dueDate > :afterDueDate OR t.id > :afterId)))"
+            + " ORDER BY t.dueDate ASC, t.id ASC")
+    List<TaskDTO> findOverduePage(@Param("userId") Integer userId,
+            @Param("afterDueDate") LocalDate afterDueDate,
+            @Param("afterId") Integer afterId,
+            Pageable pageable);
+
+    // Keyset page ordered by id of the tasks a user owns or is assigned to, starting after the given id.
+    // Each side of the UNION takes at most a page of ids after the cursor, from the (user_id, ...) index
+    // on tasks and the (user_id, task_id) index on assignments, so the outer query only joins that short
+    // id list. Without the inner limits PostgreSQL may walk the primary key of all tasks instead. A task
+    // both owned and assigned is listed once
+    @Query(TASK_DTO_SELECT + " WHERE t.id IN ("
+            + "(SELECT o.id FROM Task o WHERE o.user.id = :userId AND (:afterId IS NULL OR o.id > :afterId)"
+            + " ORDER BY o.id ASC LIMIT :limit)"
+            + " UNION (SELECT a.task.id FROM TaskAssignment a WHERE a.user.id = :userId"
+            + " AND (:afterId IS NULL OR a.task.id > :afterId) ORDER BY a.task.id ASC LIMIT :limit))"
+            + " ORDER BY t.id ASC LIMIT :limit")
+    List<TaskDTO> findWorkPage(@Param("userId") Integer userId,
+            @Param("afterId") Integer afterId,
+            @Param("limit") int limit);
+
+    // Count tasks per status, optionally for a single user
+    @Query("SELECT new com.example.task_management_app.dto.TaskCountDTO(s.id, s.name, COUNT(t))"
+            + " FROM Task t LEFT JOIN t.status s"
+            + " WHERE (:userId IS NULL OR t.user.id = :userId)"
+            + " GROUP BY s.id, s.name ORDER BY s.id ASC")
+    List<TaskCountDTO> countByStatus(@Param("userId") Integer userId);
+
+    // Count tasks per priority, optionally for a single user
+    @Query("SELECT new com.example.task_management_app.dto.TaskCountDTO(p.id, p.name, COUNT(t))"
+            + " FROM Task t LEFT JOIN t.priority p"
+            + " WHERE (:userId IS NULL OR t.user.id = :userId)"
+            + " GROUP BY p.id, p.name ORDER BY p.id ASC")
+    List<TaskCountDTO> countByPriority(@Param("userId") Integer userId);
+
+    // Count tasks per category, optionally for a single user
+    @Query("SELECT new com.example.task_management_app.dto.TaskCountDTO(c.id, c.name, COUNT(t))"
+            + " FROM Task t LEFT JOIN t.category c"
+            + " WHERE (:userId IS NULL OR t.user.id = :userId)"
+            + " GROUP BY c.id, c.name ORDER BY c.id ASC")
+    List<TaskCountDTO> countByCategory(@Param("userId") Integer userId);
+
+    // Count total, overdue and due-soon tasks per user, optionally for a single user
+    @Query("SELECT new com.example.task_management_app.dto.UserTaskStatsDTO(u.id, u.username, COUNT(t),"
+            + " SUM(CASE WHEN t.overdue = TRUE THEN 1L ELSE 0L END),"
+            + " SUM(CASE WHEN t.dueDate >= :today AND t.dueDate <= :weekEnd THEN 1L ELSE 0L END))"
+            + " FROM Task t LEFT JOIN t.user u"
+            + " WHERE (:userId IS NULL OR t.user.id = :userId)"
+            + " GROUP BY u.id, u.username ORDER BY u.id ASC")
+    List<UserTaskStatsDTO> countByUser(@Param("userId") Integer userId,
+            @Param("today") LocalDate today,
+            @Param("weekEnd") LocalDate weekEnd);
+
+    // Keyset page ordered by id, starting after the given id (null for the first page)
+    @Query(TASK_DTO_SELECT + " WHERE " + TASK_FILTER
+            + " AND (:afterId IS NULL OR t.id > :afterId)"
+            + " ORDER BY t.id ASC")
+    List<TaskDTO> findPageOrderById(@Param("userId") Integer userId,
+            @Param("statusId") Integer statusId,
+            @Param("categoryId") Integer categoryId,
+            @Param("priorityId") Integer priorityId,
+            @Param("dueFrom") LocalDate dueFrom,
+            @Param("dueTo") LocalDate dueTo,
+            @Param("afterId") Integer afterId,
+            Pageable pageable);
+
+    // Keyset page of tasks with a due date ordered by (due date, id), starting after the given position
+    @Query(TASK_DTO_SELECT + " WHERE " + TASK_FILTER
+            + " AND t.dueDate IS NOT NULL"
+            + " AND (:afterDueDate IS NULL OR (t.dueDate >= :afterDueDate"
+            + " AND (t.dueDate > :afterDueDate OR t.id > :afterId)))"
+            + " ORDER BY t.dueDate ASC, t.id ASC")
+    List<TaskDTO> findDatedPageOrderByDueDate(@Param("userId") Integer userId,
+            @Param("statusId") Integer statusId,
+            @Param("categoryId") Integer categoryId,
+            @Param("priorityId") Integer priorityId,
+            @Param("dueFrom") LocalDate dueFrom,
+            @Param("dueTo") LocalDate dueTo,
+            @Param("afterDueDate") LocalDate afterDueDate,
+            @Param("afterId") Integer afterId,
+            Pageable pageable);
+
+    // Keyset page of tasks without a due date ordered by id, these sort after all dated tasks
+    @Query(TASK_DTO_SELECT + " WHERE " + TASK_FILTER
+            + " AND t.dueDate IS NULL"
+            + " AND (:afterId IS NULL OR t.id > :afterId)"
+            + " ORDER BY t.id ASC")
+    List<TaskDTO> findUndatedPageOrderById(@Param("userId") Integer userId,
+            @Param("statusId") Integer statusId,
+            @Param("categoryId") Integer categoryId,
+            @Param("priorityId") Integer priorityId,
+            @Param("dueFrom") LocalDate dueFrom,
+            @Param("dueTo") LocalDate dueTo,
+            @Param("afterId") Integer afterId,
+            Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.example.task_management_app.repository;
+
+import com.example.task_management_app.model.TaskStat;
+import com.example.task_management_app.model.TaskStatId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TaskStatRepository extends JpaRepository<TaskStat, TaskStatId> {
+
+    // Find the counters of a user (primary key prefix). The constructor expression
+    // returns unmanaged copies, so bulk increments made earlier in the same
+    // transaction are not hidden by stale entities in the persistence context
+    @Query("SELECT new com.example.task_management_app.model.TaskStat(s.userId, s.statusId, s.taskCount, s.overdueCount)"
+            + " FROM TaskStat s WHERE s.userId = :userId ORDER BY s.statusId")
+    List<TaskStat> findByUserId(@Param("userId") Integer userId);
+
+    // Create a zeroed counter row unless it already exists
+    @Modifying
+    @Query("INSERT INTO TaskStat (userId, statusId, taskCount, overdueCount)"
+            + " VALUES (:userId, :statusId, 0L, 0L) ON CONFLICT DO NOTHING")
+    void insertIfAbsent(@Param("userId") Integer userId, @Param("statusId") Integer statusId);
+
+    // Adjust a counter row in place, so concurrent writers serialize on the row lock
+    @Modifying
+    @Query("UPDATE TaskStat s SET s.taskCount = s.taskCount + :taskDelta,"
+            + " s.overdueCount = s.overdueCount + :overdueDelta"
+            + " WHERE s.userId = :userId AND s.statusId = :statusId")
+    int increment(@Param("userId") Integer userId,
+            @Param("statusId") Integer statusId,
+            @Param("taskDelta") long taskDelta,
+            @Param("overdueDelta") long overdueDelta);
+
+    // Delete the counters of a user
+    @Modifying
+    @Query("DELETE FROM TaskStat s WHERE s.userId = :userId")
+    void deleteByUserId(@Param("userId") Integer userId);
+
+    // Delete all counters
+    @Modifying
+    @Query("DELETE FROM TaskStat")
+    void deleteAllCounters();
+
+    // Rebuild all counters from the tasks table
+    @Modifying
+    @Query("INSERT INTO TaskStat (userId, statusId, taskCount, overdueCount)"
+            + " SELECT COALESCE(t.user.id, 0), COALESCE(t.status.id, 0), COUNT(t),"
+            + " SUM(CASE WHEN t.overdue = TRUE THEN 1L ELSE 0L END)"
+            + " FROM Task t GROUP BY COALESCE(t.user.id, 0), COALESCE(t.status.id, 0)")
+    int insertRecomputed();
+}
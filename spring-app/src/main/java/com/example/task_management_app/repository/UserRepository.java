@@ -4,6 +4,8 @@ import com.example.task_management_app.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,6 +14,9 @@ public interface UserRepository extends JpaRepository<User, Integer> {
     // Find user by username
     Optional<User> findByUsername(String username);
 
+    // Find users by usernames
+    List<User> findByUsernameIn(Collection<String> usernames);
+
     // Find user by email
     Optional<User> findByEmail(String email);
 
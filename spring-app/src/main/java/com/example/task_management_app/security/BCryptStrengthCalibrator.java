@@ -0,0 +1,46 @@
+package com.example.task_management_app.security;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+/**
+ * Picks the BCrypt work factor for this machine: the highest strength whose
+ * hash time stays within the target latency, never below
+ * {@link #MIN_STRENGTH}. Each step doubles the cost, so the next strength is
+ * predicted from the last measurement instead of being hashed blindly.
+ */
+public final class BCryptStrengthCalibrator {
+
+    public static final int MIN_STRENGTH = 10;
+    public static final int MAX_STRENGTH = 16;
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    /**
+     * Measure BCrypt on this machine and choose a strength
+     * 
+     * @param targetMillis Acceptable time for a single hash
+     * @return Work factor between {@link #MIN_STRENGTH} and
+     *         {@link #MAX_STRENGTH}
+     */
+    public static int calibrate(long targetMillis) {
+        // Warm up the JIT so the first measurement is not inflated
+        measureMillis(4);
+
+        int strength = MIN_STRENGTH;
+        long millis = measureMillis(strength);
+        while (strength < MAX_STRENGTH && millis * 2 <= targetMillis) {
+            strength++;
+            millis = measureMillis(strength);
+        }
+        return strength;
+    }
+
+    private static long measureMillis(int strength) {
+        long start = System.nanoTime();
+        BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(strength));
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
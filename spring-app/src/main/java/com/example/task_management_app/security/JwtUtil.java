@@ -2,6 +2,7 @@ package com.example.task_management_app.security;
 
 import com.example.task_management_app.config.SecurityProperties;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -19,8 +20,28 @@ public class JwtUtil {
 
     private final SecurityProperties securityProperties;
 
+    // The signing key and parser are immutable and thread-safe, so build them once
+    private final Key signKey;
+    private final JwtParser jwtParser;
+
     public JwtUtil(SecurityProperties securityProperties) {
         this.securityProperties = securityProperties;
+        this.signKey = Keys.hmacShaKeyFor(securityProperties.getJwtSecret().getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signKey)
+                .build();
+    }
+
+    /**
+     * Verify the token signature and expiration once and return its claims
+     *
+     * @param token Signed JWT
+     * @return Verified claims
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered
+     *                                      with or expired
+     */
+    public Claims parseClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     public String extractUsername(String token) {
@@ -32,25 +53,13 @@ public class JwtUtil {
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = parseClaims(token);
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    private Key getSignKey() {
-        byte[] keyBytes = securityProperties.getJwtSecret().getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.before(new Date());
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -64,12 +73,24 @@ public class JwtUtil {
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + securityProperties.getJwtExpiration()))
-                .signWith(getSignKey(), SignatureAlgorithm.HS256)
+                .signWith(signKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Check already verified claims against the loaded user without parsing
+     * the token again
+     *
+     * @param claims      Claims returned by {@link #parseClaims(String)}
+     * @param userDetails User the token claims to belong to
+     * @return true if the subject matches and the token has not expired
+     */
+    public boolean validateClaims(Claims claims, UserDetails userDetails) {
+        String username = claims.getSubject();
+        return username != null && username.equals(userDetails.getUsername()) && !isExpired(claims);
+    }
+
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return validateClaims(parseClaims(token), userDetails);
     }
-}
\ No newline at end of file
+}
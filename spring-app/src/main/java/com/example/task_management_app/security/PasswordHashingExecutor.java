@@ -0,0 +1,76 @@
+package com.example.task_management_app.security;
+
+import com.example.task_management_app.config.SecurityProperties;
+import com.example.task_management_app.exception.HashingCapacityExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool that runs password hashing (login and registration) off the
+ * servlet threads. BCrypt is CPU bound, so the pool defaults to one thread per
+ * CPU; requests beyond the queue capacity are rejected straight away instead
+ * of piling up, and surface as 503 Service Unavailable.
+ *
+ * Pool and queue usage are published as the "executor.*" metrics with the tag
+ * name=password-hashing.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHashingExecutor(SecurityProperties securityProperties, MeterRegistry meterRegistry) {
+        int threads = securityProperties.getHashingThreads() > 0
+                ? securityProperties.getHashingThreads()
+                : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(securityProperties.getHashingQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "password-hashing");
+    }
+
+    /**
+     * Run a task on the hashing pool
+     * 
+     * @param task Work that hashes or verifies a password
+     * @return Future completed with the task's result, or exceptionally with
+     *         the exception it threw
+     * @throws HashingCapacityExceededException if the queue is full
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(task.get());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw new HashingCapacityExceededException("Too many concurrent authentication requests", e);
+        }
+        return future;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.task_management_app.security;
+
+import com.example.task_management_app.config.SecurityProperties;
+import com.example.task_management_app.event.UserChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded, expiring cache of authenticated principals keyed by username, so
+ * that requests carrying a JWT do not load the user from the database every
+ * time. Entries are evicted when the user is updated or deleted; the TTL
+ * bounds staleness for changes made outside the application.
+ *
+ * Hit and miss counts are published as the "cache.*" metrics with the tag
+ * cache=principals.
+ */
+@Component
+public class PrincipalCache {
+
+    private final Cache<String, UserDetails> cache;
+
+    public PrincipalCache(SecurityProperties securityProperties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(securityProperties.getPrincipalCacheMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(securityProperties.getPrincipalCacheTtlSeconds()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+    }
+
+    /**
+     * Get the principal for a username, loading it on a miss. Failed loads
+     * are not cached.
+     * 
+     * @param username Username
+     * @param loader   Loads the principal from the user store
+     * @return Principal without credentials
+     */
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        return cache.get(username, key -> withoutCredentials(loader.apply(key)));
+    }
+
+    /**
+     * Drop the cached principal for a username
+     * 
+     * @param username Username
+     */
+    public void evict(String username) {
+        cache.invalidate(username);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.getUsername());
+    }
+
+    // Password hashes have no business living in a long-lived cache
+    private static UserDetails withoutCredentials(UserDetails userDetails) {
+        return User.withUserDetails(userDetails).password("").build();
+    }
+}
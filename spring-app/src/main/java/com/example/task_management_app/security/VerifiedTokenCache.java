@@ -0,0 +1,127 @@
+package com.example.task_management_app.security;
+
+import com.example.task_management_app.config.SecurityProperties;
+import com.example.task_management_app.event.UserChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Optional cache of bearer tokens whose signature has already been verified,
+ * keyed by the SHA-256 digest of the token so raw tokens are never retained.
+ * A repeated token is served from the cache without checking the signature
+ * again.
+ *
+ * Each entry expires together with its token, and all entries for a user are
+ * dropped when that user is updated or deleted. A cache hit never extends what
+ * the uncached path would accept: callers still validate the claims against
+ * the loaded principal.
+ *
+ * Disabled unless security.token-cache.enabled=true. Hit and miss counts are
+ * published with the tag cache=verified-tokens.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, Claims> cache;
+
+    public VerifiedTokenCache(SecurityProperties securityProperties, MeterRegistry meterRegistry) {
+        if (securityProperties.isTokenCacheEnabled()) {
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(securityProperties.getTokenCacheMaxSize())
+                    .expireAfter(new UntilTokenExpiration())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "verified-tokens");
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * Get the verified claims of a token, verifying it on a miss. Tokens that
+     * fail verification are not cached.
+     * 
+     * @param token    Signed JWT
+     * @param verifier Verifies the token and returns its claims
+     * @return Verified claims
+     */
+    public Claims verify(String token, Function<String, Claims> verifier) {
+        if (cache == null) {
+            return verifier.apply(token);
+        }
+        String key = digest(token);
+        Claims claims = cache.get(key, k -> verifier.apply(token));
+        // An entry can outlive its token by up to one maintenance cycle
+        if (isExpired(claims)) {
+            cache.invalidate(key);
+            return verifier.apply(token);
+        }
+        return claims;
+    }
+
+    /**
+     * Drop every cached token issued to a user
+     * 
+     * @param username Token subject
+     */
+    public void evictSubject(String username) {
+        if (cache != null) {
+            cache.asMap().values().removeIf(claims -> username.equals(claims.getSubject()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evictSubject(event.getUsername());
+    }
+
+    private static boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.before(new Date());
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class UntilTokenExpiration implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return Long.MAX_VALUE;
+            }
+            return Math.max(0, TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.example.task_management_app.service;
+
+import com.example.task_management_app.event.ReferenceDataChangedEvent;
+import com.example.task_management_app.model.TaskCategory;
+import com.example.task_management_app.model.TaskPriority;
+import com.example.task_management_app.model.TaskStatus;
+import com.example.task_management_app.repository.TaskCategoryRepository;
+import com.example.task_management_app.repository.TaskPriorityRepository;
+import com.example.task_management_app.repository.TaskStatusRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through, in-memory copy of the task status, priority and category
+ * tables. These hold a handful of rows and change rarely, so the whole set
+ * is loaded at once into an immutable snapshot that readers use without
+ * locking. A lookup that misses reloads the snapshot once before giving up,
+ * unless the snapshot is younger than task.reference-data.miss-reload-interval:
+ * then the miss is answered from it, so a stream of lookups for a key that
+ * does not exist costs at most one reload per interval. Every change made
+ * through the reference data services swaps in a fresh snapshot after its
+ * transaction commits.
+ *
+ * Entities handed out by this cache are shared between threads and must be
+ * treated as read-only.
+ */
+@Component
+public class ReferenceDataCache {
+
+    private final TaskStatusRepository taskStatusRepository;
+    private final TaskPriorityRepository taskPriorityRepository;
+    private final TaskCategoryRepository taskCategoryRepository;
+    private final long missReloadIntervalNanos;
+
+    private volatile Snapshot current;
+
+    // Serializes reloads after misses, so concurrent misses share one reload
+    private final Object missReloadLock = new Object();
+
+    // Bumped on every refresh so that a load which raced with a change is never published
+    private long generation;
+
+    public ReferenceDataCache(TaskStatusRepository taskStatusRepository,
+            TaskPriorityRepository taskPriorityRepository,
+            TaskCategoryRepository taskCategoryRepository,
+            @Value("${task.reference-data.miss-reload-interval:5s}") Duration missReloadInterval) {
+        this.taskStatusRepository = taskStatusRepository;
+        this.taskPriorityRepository = taskPriorityRepository;
+        this.taskCategoryRepository = taskCategoryRepository;
+        this.missReloadIntervalNanos = missReloadInterval.toNanos();
+    }
+
+    /**
+     * Find a task status by ID
+     * 
+     * @param id Status ID
+     * @return Task status, empty if it does not exist
+     */
+    public Optional<TaskStatus> findStatus(Integer id) {
+        return lookup(id, snapshot -> snapshot.statusesById);
+    }
+
+    /**
+     * Find a task status by name
+     * 
+     * @param name Status name (exact match)
+     * @return Task status, empty if it does not exist
+     */
+    public Optional<TaskStatus> findStatusByName(String name) {
+        return lookup(name, snapshot -> snapshot.statusesByName);
+    }
+
+    /**
+     * Find a task priority by ID
+     * 
+     * @param id Priority ID
+     * @return Task priority, empty if it does not exist
+     */
+    public Optional<TaskPriority> findPriority(Integer id) {
+        return lookup(id, snapshot -> snapshot.prioritiesById);
+    }
+
+    /**
+     * Find a task priority by its numeric value
+     * 
+     * @param value Priority value
+     * @return Task priority, empty if it does not exist
+     */
+    public Optional<TaskPriority> findPriorityByValue(Integer value) {
+        return lookup(value, snapshot -> snapshot.prioritiesByValue);
+    }
+
+    /**
+     * Find a task priority by name
+     * 
+     * @param name Priority name (exact match)
+     * @return Task priority, empty if it does not exist
+     */
+    public Optional<TaskPriority> findPriorityByName(String name) {
+        return lookup(name, snapshot -> snapshot.prioritiesByName);
+    }
+
+    /**
+     * Find a task category by ID
+     * 
+     * @param id Category ID
+     * @return Task category, empty if it does not exist
+     */
+    public Optional<TaskCategory> findCategory(Integer id) {
+        return lookup(id, snapshot -> snapshot.categoriesById);
+    }
+
+    /**
+     * Find a task category by name
+     * 
+     * @param name Category name (exact match)
+     * @return Task category, empty if it does not exist
+     */
+    public Optional<TaskCategory> findCategoryByName(String name) {
+        return lookup(name, snapshot -> snapshot.categoriesByName);
+    }
+
+    /**
+     * Version of the reference data, for use in HTTP entity tags. Derived
+     * from the rows themselves, so every instance holding the same data
+     * reports the same version, also across restarts.
+     * 
+     * @return Opaque version string
+     */
+    public String getVersion() {
+        Snapshot snapshot = current;
+        return (snapshot != null ? snapshot : loadAfterMiss()).version;
+    }
+
+    /**
+     * Reload all reference data and swap it in
+     */
+    public void refresh() {
+        long loadGeneration;
+        synchronized (this) {
+            loadGeneration = ++generation;
+        }
+        install(load(loadGeneration));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        refresh();
+    }
+
+    private <K, V> Optional<V> lookup(K key, Function<Snapshot, Map<K, V>> table) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        Snapshot snapshot = current;
+        if (snapshot != null) {
+            V value = table.apply(snapshot).get(key);
+            if (value != null) {
+                return Optional.of(value);
+            }
+        }
+        // Not loaded yet, or a row added since the last load (possibly by another instance)
+        return Optional.ofNullable(table.apply(loadAfterMiss()).get(key));
+    }
+
+    private Snapshot loadAfterMiss() {
+        synchronized (missReloadLock) {
+            // Loaded recently, possibly by a concurrent miss: rows added since then are found once it is older
+            Snapshot snapshot = current;
+            if (snapshot != null && System.nanoTime() - snapshot.loadedAt < missReloadIntervalNanos) {
+                return snapshot;
+            }
+            long loadGeneration;
+            synchronized (this) {
+                loadGeneration = generation;
+            }
+            snapshot = load(loadGeneration);
+            install(snapshot);
+            return snapshot;
+        }
+    }
+
+    private synchronized void install(Snapshot snapshot) {
+        if (snapshot.generation == generation) {
+            current = snapshot;
+        }
+    }
+
+    private Snapshot load(long loadGeneration) {
+        List<TaskStatus> statuses = taskStatusRepository.findAll();
+        List<TaskPriority> priorities = taskPriorityRepository.findAll();
+        List<TaskCategory> categories = taskCategoryRepository.findAll();
+        return new Snapshot(loadGeneration, contentVersion(statuses, priorities, categories),
+                index(statuses, TaskStatus::getId),
+                index(statuses, TaskStatus::getName),
+                index(priorities, TaskPriority::getId),
+                index(priorities, TaskPriority::getValue),
+                index(priorities, TaskPriority::getName),
+                index(categories, TaskCategory::getId),
+                index(categories, TaskCategory::getName));
+    }
+
+    // Hash of all rows in ID order; entity hashCode covers every column
+    private static String contentVersion(List<TaskStatus> statuses, List<TaskPriority> priorities,
+            List<TaskCategory> categories) {
+        int hash = Objects.hash(
+                statuses.stream().sorted(Comparator.comparing(TaskStatus::getId)).toList(),
+                priorities.stream().sorted(Comparator.comparing(TaskPriority::getId)).toList(),
+                categories.stream().sorted(Comparator.comparing(TaskCategory::getId)).toList());
+        return Integer.toHexString(hash);
+    }
+
+    private static <K, V> Map<K, V> index(List<V> values, Function<V, K> key) {
+        return values.stream().collect(Collectors.toUnmodifiableMap(key, Function.identity()));
+    }
+
+    private static final class Snapshot {
+        private final long generation;
+        private final long loadedAt = System.nanoTime();
+        private final String version;
+        private final Map<Integer, TaskStatus> statusesById;
+        private final Map<String, TaskStatus> statusesByName;
+        private final Map<Integer, TaskPriority> prioritiesById;
+        private final Map<Integer, TaskPriority> prioritiesByValue;
+        private final Map<String, TaskPriority> prioritiesByName;
+        private final Map<Integer, TaskCategory> categoriesById;
+        private final Map<String, TaskCategory> categoriesByName;
+
+        private Snapshot(long generation, String version,
+                Map<Integer, TaskStatus> statusesById,
+                Map<String, TaskStatus> statusesByName,
+                Map<Integer, TaskPriority> prioritiesById,
+                Map<Integer, TaskPriority> prioritiesByValue,
+                Map<String, TaskPriority> prioritiesByName,
+                Map<Integer, TaskCategory> categoriesById,
+                Map<String, TaskCategory> categoriesByName) {
+            this.generation = generation;
+            this.version = version;
+            this.statusesById = statusesById;
+            this.statusesByName = statusesByName;
+            this.prioritiesById = prioritiesById;
+            this.prioritiesByValue = prioritiesByValue;
+            this.prioritiesByName = prioritiesByName;
+            this.categoriesById = categoriesById;
+            this.categoriesByName = categoriesByName;
+        }
+    }
+}
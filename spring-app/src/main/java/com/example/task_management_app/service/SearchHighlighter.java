@@ -0,0 +1,105 @@
+package com.example.task_management_app.service;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the highlighted fragments returned with search hits. Text is
+ * HTML-escaped and only the inserted mark tags are markup, so clients can
+ * render highlights without trusting task content.
+ */
+final class SearchHighlighter {
+
+    static final String MARK_OPEN = "<mark>";
+    static final String MARK_CLOSE = "</mark>";
+
+    // Match delimiters used by ts_headline; unlikely to appear in task text
+    static final String START_SEL = "⦃";
+    static final String STOP_SEL = "⦄";
+
+    private static final String ELLIPSIS = "…";
+
+    private SearchHighlighter() {
+    }
+
+    /**
+     * Split a search query into the terms to highlight
+     */
+    static List<String> terms(String query) {
+        return Arrays.stream(query.trim().toLowerCase(Locale.ROOT).split("\\s+"))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                // Longest first so the regex prefers the longest overlapping term
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .toList();
+    }
+
+    /**
+     * Highlight occurrences of the terms, trimming the text to a window around
+     * the first match when it is longer than maxLength
+     * 
+     * @param text      Text to highlight, may be null
+     * @param terms     Terms from {@link #terms(String)}
+     * @param maxLength Maximum number of characters of text to keep
+     * @return Escaped, highlighted text or null if text is null
+     */
+    static String highlight(String text, List<String> terms, int maxLength) {
+        if (text == null) {
+            return null;
+        }
+
+        Pattern pattern = terms.isEmpty() ? null
+                : Pattern.compile(terms.stream().map(Pattern::quote).collect(Collectors.joining("|")),
+                        Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+
+        int start = 0;
+        if (text.length() > maxLength && pattern != null) {
+            Matcher firstMatch = pattern.matcher(text);
+            int anchor = firstMatch.find() ? firstMatch.start() : 0;
+            start = Math.max(0, Math.min(anchor - maxLength / 3, text.length() - maxLength));
+        }
+        int end = (int) Math.min(text.length(), (long) start + maxLength);
+        String window = text.substring(start, end);
+
+        StringBuilder result = new StringBuilder();
+        if (start > 0) {
+            result.append(ELLIPSIS);
+        }
+        int last = 0;
+        if (pattern != null) {
+            Matcher matcher = pattern.matcher(window);
+            while (matcher.find()) {
+                result.append(HtmlUtils.htmlEscape(window.substring(last, matcher.start())))
+                        .append(MARK_OPEN)
+                        .append(HtmlUtils.htmlEscape(matcher.group()))
+                        .append(MARK_CLOSE);
+                last = matcher.end();
+            }
+        }
+        result.append(HtmlUtils.htmlEscape(window.substring(last)));
+        if (end < text.length()) {
+            result.append(ELLIPSIS);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Convert a ts_headline result delimited with {@link #START_SEL} and
+     * {@link #STOP_SEL} into escaped text with mark tags
+     */
+    static String fromHeadline(String headline) {
+        if (headline == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(headline)
+                .replace(START_SEL, MARK_OPEN)
+                .replace(STOP_SEL, MARK_CLOSE);
+    }
+}
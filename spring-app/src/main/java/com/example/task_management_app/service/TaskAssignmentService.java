@@ -0,0 +1,164 @@
+package com.example.task_management_app.service;
+
+import com.example.task_management_app.dto.TaskAssigneeDTO;
+import com.example.task_management_app.dto.TaskDTO;
+import com.example.task_management_app.dto.TaskStampDTO;
+import com.example.task_management_app.event.TaskChangedEvent;
+import com.example.task_management_app.exception.ResourceNotFoundException;
+import com.example.task_management_app.repository.TaskAssignmentRepository;
+import com.example.task_management_app.repository.TaskRepository;
+import com.example.task_management_app.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Assignment of tasks to users besides their owner. Assignees are part of
+ * the task representation: changing them bumps the task version, so the
+ * task's entity tag changes, and listings load the assignees of all their
+ * tasks with one query per {@value #LOAD_BATCH_SIZE} tasks.
+ */
+@Service
+public class TaskAssignmentService {
+
+    // Task IDs per assignee query, well below the bind parameter limits of the supported databases
+    static final int LOAD_BATCH_SIZE = 500;
+
+    private final TaskAssignmentRepository taskAssignmentRepository;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public TaskAssignmentService(TaskAssignmentRepository taskAssignmentRepository, TaskRepository taskRepository,
+            UserRepository userRepository, ApplicationEventPublisher eventPublisher) {
+        this.taskAssignmentRepository = taskAssignmentRepository;
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Get the assignees of a task
+     * 
+     * @param taskId Task ID
+     * @return Assignees, in assignment order
+     */
+    public List<TaskAssigneeDTO> getAssignees(Integer taskId) {
+        List<TaskAssigneeDTO> assignees = taskAssignmentRepository.findAssigneesByTaskIdIn(List.of(taskId));
+        // Only an empty result can mean the task does not exist
+        if (assignees.isEmpty() && !taskRepository.existsById(taskId)) {
+            throw new ResourceNotFoundException("Task not found with id: " + taskId);
+        }
+        return assignees;
+    }
+
+    /**
+     * Assign a task to a user. Assigning a user who already is assigned
+     * changes nothing.
+     * 
+     * @param taskId Task ID
+     * @param userId User ID
+     * @return Assignees of the task after the change
+     */
+    @Transactional
+    public List<TaskAssigneeDTO> assign(Integer taskId, Integer userId) {
+        TaskStampDTO stamp = taskRepository.findStampById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        boolean created = taskAssignmentRepository.insertIfAbsent(taskId, userId, now) > 0;
+        if (created) {
+            taskRepository.touch(taskId, now);
+        }
+        List<TaskAssigneeDTO> assignees = taskAssignmentRepository.findAssigneesByTaskIdIn(List.of(taskId));
+        if (created) {
+            publishChange(stamp, assignees, userId);
+        }
+        return assignees;
+    }
+
+    /**
+     * Remove a user from the assignees of a task
+     * 
+     * @param taskId Task ID
+     * @param userId User ID
+     */
+    @Transactional
+    public void unassign(Integer taskId, Integer userId) {
+        if (taskAssignmentRepository.deleteAssignment(taskId, userId) == 0) {
+            if (!taskRepository.existsById(taskId)) {
+                throw new ResourceNotFoundException("Task not found with id: " + taskId);
+            }
+            throw new ResourceNotFoundException("User " + userId + " is not assigned to task " + taskId);
+        }
+        taskRepository.touch(taskId, OffsetDateTime.now());
+        taskRepository.findStampById(taskId).ifPresent(stamp -> publishChange(stamp,
+                taskAssignmentRepository.findAssigneesByTaskIdIn(List.of(taskId)), userId));
+    }
+
+    /**
+     * Set the assignees of the given tasks, an empty list for tasks without
+     * any. Runs one query per {@value #LOAD_BATCH_SIZE} tasks rather than one
+     * per task.
+     * 
+     * @param tasks Task DTOs, updated in place
+     */
+    public void loadAssignees(List<TaskDTO> tasks) {
+        for (int from = 0; from < tasks.size(); from += LOAD_BATCH_SIZE) {
+            List<TaskDTO> batch = tasks.subList(from, Math.min(from + LOAD_BATCH_SIZE, tasks.size()));
+            Map<Integer, List<TaskAssigneeDTO>> assignees = new HashMap<>();
+            for (TaskAssigneeDTO assignee : taskAssignmentRepository.findAssigneesByTaskIdIn(
+                    batch.stream().map(TaskDTO::getId).toList())) {
+                assignees.computeIfAbsent(assignee.getTaskId(), id -> new ArrayList<>()).add(assignee);
+            }
+            for (TaskDTO task : batch) {
+                task.setAssignees(assignees.getOrDefault(task.getId(), new ArrayList<>()));
+            }
+        }
+    }
+
+    /**
+     * Get the users whose tasks show a user: the owners and assignees of the
+     * tasks the user owns or is assigned to
+     * 
+     * @param userId User ID
+     * @return User IDs, empty if the user has no tasks
+     */
+    public Set<Integer> getTaskUserIds(Integer userId) {
+        return new HashSet<>(taskAssignmentRepository.findUserIdsSharingTasksWith(userId));
+    }
+
+    /**
+     * Mark the tasks assigned to a user as changed. Call before deleting the
+     * user: the database then deletes the assignments themselves.
+     * 
+     * @param userId User ID
+     */
+    @Transactional
+    public void userDeleted(Integer userId) {
+        taskRepository.touchAssignedTo(userId, OffsetDateTime.now());
+    }
+
+    // The task changed for its owner, its assignees and the user just (un)assigned
+    private void publishChange(TaskStampDTO stamp, List<TaskAssigneeDTO> assignees, Integer userId) {
+        Set<Integer> userIds = new HashSet<>();
+        userIds.add(userId);
+        if (stamp.getUserId() != null) {
+            userIds.add(stamp.getUserId());
+        }
+        assignees.forEach(assignee -> userIds.add(assignee.getUserId()));
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, stamp.getId(), userIds));
+    }
+}
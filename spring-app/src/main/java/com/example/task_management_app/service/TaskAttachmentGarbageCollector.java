@@ -0,0 +1,146 @@
+package com.example.task_management_app.service;
+
+import com.example.task_management_app.repository.AttachmentBlobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Deletes attachment content that nothing references any more.
+ *
+ * Blobs whose reference count dropped to zero are collected once they have
+ * been unreferenced for the grace period (task.attachments.gc-grace), so
+ * content that is removed and uploaded again soon after is not rewritten.
+ * Each blob is deleted under its row lock: an upload of the same content
+ * either takes a reference first, and the blob is kept, or waits, finds the
+ * blob gone and creates it again, file included.
+ *
+ * A separate sweep removes files the database knows nothing about: staged
+ * uploads that never finished and blob files whose transaction rolled back.
+ */
+@Service
+public class TaskAttachmentGarbageCollector {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final AttachmentBlobRepository attachmentBlobRepository;
+    private final TaskAttachmentStorage storage;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration grace;
+
+    @Autowired
+    public TaskAttachmentGarbageCollector(AttachmentBlobRepository attachmentBlobRepository,
+            TaskAttachmentStorage storage, PlatformTransactionManager transactionManager,
+            @Value("${task.attachments.gc-grace:1h}") Duration grace) {
+        this.attachmentBlobRepository = attachmentBlobRepository;
+        this.storage = storage;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.grace = grace;
+    }
+
+    /**
+     * Correct drifted reference counts, then delete the blobs that have been
+     * unreferenced for longer than the grace period
+     *
+     * @return Number of blobs deleted
+     */
+    @Scheduled(cron = "${task.attachments.gc-cron:0 30 * * * *}")
+    public int collectGarbage() {
+        // Attachments removed by cascades outside the application (or manual SQL)
+        transactionTemplate.executeWithoutResult(
+                status -> attachmentBlobRepository.recount(OffsetDateTime.now()));
+        return collect(OffsetDateTime.now().minus(grace));
+    }
+
+    /**
+     * Delete the blobs without references since before the given time
+     *
+     * @param releasedBefore Cutoff time
+     * @return Number of blobs deleted
+     */
+    public int collect(OffsetDateTime releasedBefore) {
+        int deleted = 0;
+        while (true) {
+            List<String> candidates = attachmentBlobRepository.findReleasedBefore(releasedBefore,
+                    PageRequest.of(0, BATCH_SIZE));
+            int deletedInBatch = 0;
+            for (String sha256 : candidates) {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> deleteBlob(sha256)))) {
+                    deletedInBatch++;
+                }
+            }
+            deleted += deletedInBatch;
+            // Candidates that were referenced again stay in the result, so stop when nothing moved
+            if (candidates.size() < BATCH_SIZE || deletedInBatch == 0) {
+                return deleted;
+            }
+        }
+    }
+
+    /**
+     * Delete files that have no blob row and staged uploads left behind,
+     * when they are older than the grace period. Walks the whole storage
+     * directory, so it runs less often than {@link #collectGarbage}.
+     *
+     * @return Number of files deleted
+     */
+    @Scheduled(cron = "${task.attachments.sweep-cron:0 45 3 * * *}")
+    public int sweep() {
+        return sweep(Instant.now().minus(grace));
+    }
+
+    /**
+     * Delete files without a blob row and staged uploads last modified
+     * before the given time
+     *
+     * @param modifiedBefore Cutoff time
+     * @return Number of files deleted
+     */
+    public int sweep(Instant modifiedBefore) {
+        int[] deleted = { storage.deleteStagedOlderThan(modifiedBefore) };
+        storage.forEachBlobOlderThan(modifiedBefore, hashes -> {
+            Set<String> known = new HashSet<>(attachmentBlobRepository.findExisting(hashes));
+            for (String sha256 : hashes) {
+                if (!known.contains(sha256)
+                        && Boolean.TRUE.equals(transactionTemplate.execute(status -> deleteStrayBlob(sha256)))) {
+                    deleted[0]++;
+                }
+            }
+        });
+        return deleted[0];
+    }
+
+    // Called in its own transaction: the file goes while the row is locked, then the row
+    private boolean deleteBlob(String sha256) {
+        return attachmentBlobRepository.lockUnreferenced(sha256)
+                .map(blob -> {
+                    storage.deleteBlob(sha256);
+                    attachmentBlobRepository.delete(blob);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    // Called in its own transaction. Inserting the row claims the hash: an upload of the same content
+    // waits for this transaction and then creates the blob again, including its file
+    private boolean deleteStrayBlob(String sha256) {
+        if (attachmentBlobRepository.insertIfAbsent(sha256, 0L) == 0) {
+            // Created meanwhile
+            return false;
+        }
+        storage.deleteBlob(sha256);
+        attachmentBlobRepository.deleteBlobById(sha256);
+        return true;
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.task_management_app.service;
+
+import com.example.task_management_app.dto.TaskAttachmentDTO;
+import com.example.task_management_app.exception.ForbiddenOperationException;
+import com.example.task_management_app.exception.ResourceNotFoundException;
+import com.example.task_management_app.model.TaskAttachment;
+import com.example.task_management_app.model.User;
+import com.example.task_management_app.repository.AttachmentBlobRepository;
+import com.example.task_management_app.repository.TaskAttachmentRepository;
+import com.example.task_management_app.repository.TaskRepository;
+import com.example.task_management_app.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Files attached to tasks. The metadata lives in task_attachments and the
+ * content in {@link TaskAttachmentStorage}, once per distinct content:
+ * attachments reference an attachment_blobs row by hash, which counts its
+ * references. Blobs nobody references any more are deleted by
+ * {@link TaskAttachmentGarbageCollector}.
+ */
+@Service
+public class TaskAttachmentService {
+
+    private static final int MAX_FILE_NAME_LENGTH = 255;
+
+    private final TaskAttachmentRepository taskAttachmentRepository;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final AttachmentBlobRepository attachmentBlobRepository;
+    private final TaskAttachmentStorage storage;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public TaskAttachmentService(TaskAttachmentRepository taskAttachmentRepository, TaskRepository taskRepository,
+            UserRepository userRepository, AttachmentBlobRepository attachmentBlobRepository,
+            TaskAttachmentStorage storage, PlatformTransactionManager transactionManager) {
+        this.taskAttachmentRepository = taskAttachmentRepository;
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.attachmentBlobRepository = attachmentBlobRepository;
+        this.storage = storage;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Get the attachments of a task
+     * 
+     * @param taskId Task ID
+     * @return List of attachment DTOs, oldest first
+     */
+    public List<TaskAttachmentDTO> getAttachments(Integer taskId) {
+        List<TaskAttachmentDTO> attachments = taskAttachmentRepository.findDtosByTaskId(taskId);
+        if (attachments.isEmpty() && !taskRepository.existsById(taskId)) {
+            throw new ResourceNotFoundException("Task not found with id: " + taskId);
+        }
+        return attachments;
+    }
+
+    /**
+     * Attach an uploaded file to a task. The file is staged and hashed
+     * before the transaction starts, so no database connection is held
+     * while it is read; content that is already stored is not written again.
+     * 
+     * @param taskId   Task ID
+     * @param username Uploader
+     * @param file     Uploaded file
+     * @return Created attachment DTO
+     */
+    public TaskAttachmentDTO addAttachment(Integer taskId, String username, MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("File is empty");
+        }
+        if (!taskRepository.existsById(taskId)) {
+            throw new ResourceNotFoundException("Task not found with id: " + taskId);
+        }
+
+        TaskAttachmentStorage.StagedFile staged = storage.stage(file);
+        try {
+            return transactionTemplate.execute(status -> saveAttachment(taskId, username, file, staged));
+        } finally {
+            // No-op once published
+            storage.discard(staged);
+        }
+    }
+
+    private TaskAttachmentDTO saveAttachment(Integer taskId, String username, MultipartFile file,
+            TaskAttachmentStorage.StagedFile staged) {
+        User uploader = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with username: " + username));
+
+        boolean created = attachmentBlobRepository.insertIfAbsent(staged.sha256(), staged.size()) == 1;
+        // Holds the blob row lock until commit, so the garbage collector cannot delete it meanwhile
+        while (attachmentBlobRepository.acquire(staged.sha256()) == 0) {
+            // The collector deleted the blob, file included, while this waited for the row lock
+            attachmentBlobRepository.insertIfAbsent(staged.sha256(), staged.size());
+            created = true;
+        }
+        // If this transaction rolls back, a newly created blob file is left for the garbage collector
+        String path = storage.publish(staged, created);
+
+        TaskAttachment attachment = new TaskAttachment();
+        attachment.setTask(taskRepository.getReferenceById(taskId));
+        attachment.setFileName(fileName(file));
+        attachment.setFilePath(path);
+        attachment.setFileSize(staged.size());
+        attachment.setFileType(fileType(file));
+        attachment.setUploadedBy(uploader);
+        attachment.setContentSha256(staged.sha256());
+        TaskAttachment saved = taskAttachmentRepository.save(attachment);
+        return new TaskAttachmentDTO(saved.getId(), taskId, saved.getFileName(), saved.getFileSize(),
+                saved.getFileType(), uploader.getId(), uploader.getUsername(), saved.getUploadedAt());
+    }
+
+    /**
+     * Get an attachment of a task
+     * 
+     * @param taskId       Task ID
+     * @param attachmentId Attachment ID
+     * @return Attachment entity
+     */
+    public TaskAttachment getAttachment(Integer taskId, Integer attachmentId) {
+        return taskAttachmentRepository.findByIdAndTaskId(attachmentId, taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Attachment not found with id: " + attachmentId));
+    }
+
+    /**
+     * Get the content of an attachment
+     * 
+     * @param attachment Attachment entity
+     * @return Readable file resource
+     */
+    public Resource getContent(TaskAttachment attachment) {
+        Resource content = storage.load(attachment.getFilePath());
+        if (!content.isReadable()) {
+            throw new ResourceNotFoundException("Attachment content not found with id: " + attachment.getId());
+        }
+        return content;
+    }
+
+    /**
+     * Delete an attachment. Only its uploader or an administrator may do so.
+     * 
+     * @param taskId       Task ID
+     * @param attachmentId Attachment ID
+     * @param username     User deleting the attachment
+     * @param admin        Whether that user is an administrator
+     * @throws ForbiddenOperationException if the user may not delete the
+     *                                     attachment
+     */
+    @Transactional
+    public void deleteAttachment(Integer taskId, Integer attachmentId, String username, boolean admin) {
+        TaskAttachment attachment = getAttachment(taskId, attachmentId);
+        if (!admin) {
+            User user = userRepository.findByUsername(username)
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found with username: " + username));
+            if (attachment.getUploadedBy() == null || !user.getId().equals(attachment.getUploadedBy().getId())) {
+                throw new ForbiddenOperationException("Only the uploader can delete this attachment");
+            }
+        }
+        if (taskAttachmentRepository.deleteAttachmentById(attachmentId) == 1) {
+            release(attachment);
+        }
+    }
+
+    /**
+     * Release the content of a task's attachments. Call before deleting the
+     * task: the database then deletes the attachment rows.
+     * 
+     * @param taskId Task ID
+     */
+    @Transactional
+    public void taskDeleted(Integer taskId) {
+        attachmentBlobRepository.releaseAllOfTask(taskId, OffsetDateTime.now());
+        taskAttachmentRepository.findLegacyFilePathsByTaskId(taskId).forEach(this::deleteFileOnCommit);
+    }
+
+    /**
+     * Release the content attached to the tasks of a user. Call before
+     * deleting the user, whose tasks are deleted with it.
+     * 
+     * @param userId User ID
+     */
+    @Transactional
+    public void userDeleted(Integer userId) {
+        attachmentBlobRepository.releaseAllOfUser(userId, OffsetDateTime.now());
+        taskAttachmentRepository.findLegacyFilePathsByTaskUserId(userId).forEach(this::deleteFileOnCommit);
+    }
+
+    private void release(TaskAttachment attachment) {
+        if (attachment.getContentSha256() != null) {
+            attachmentBlobRepository.release(attachment.getContentSha256(), OffsetDateTime.now());
+        } else {
+            deleteFileOnCommit(attachment.getFilePath());
+        }
+    }
+
+    // Attachments stored before content addressing own their file: delete it once the row is gone
+    private void deleteFileOnCommit(String path) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                storage.delete(path);
+            }
+        });
+    }
+
+    private static String fileName(MultipartFile file) {
+        // Browsers may send a full client-side path
+        String original = file.getOriginalFilename();
+        String name = original != null ? StringUtils.getFilename(StringUtils.cleanPath(original)) : null;
+        if (!StringUtils.hasText(name)) {
+            name = "attachment";
+        }
+        return name.length() > MAX_FILE_NAME_LENGTH ? name.substring(0, MAX_FILE_NAME_LENGTH) : name;
+    }
+
+    private static String fileType(MultipartFile file) {
+        if (file.getContentType() == null) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+        try {
+            MediaType type = MediaType.parseMediaType(file.getContentType());
+            String value = type.toString();
+            if (!type.isWildcardType() && !type.isWildcardSubtype() && value.length() <= 100) {
+                return value;
+            }
+        } catch (InvalidMediaTypeException e) {
+            // Fall through to the generic type
+        }
+        return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.task_management_app.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed files of task attachments on the local file system,
+ * under task.attachments.dir. Each distinct content is stored once, as
+ * blobs/ab/cd/abcd... named after its SHA-256 hash, so no directory grows
+ * past a few entries per 65536 blobs. Uploads are staged in tmp/ and
+ * hashed before being moved to their blob path, which is a rename on the
+ * same file system.
+ *
+ * Which blobs are still needed is tracked in the database, see
+ * {@link TaskAttachmentGarbageCollector}.
+ */
+@Component
+public class TaskAttachmentStorage {
+
+    private static final String BLOBS = "blobs";
+    private static final String TMP = "tmp";
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+    private static final Pattern SHA256 = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+
+    public TaskAttachmentStorage(@Value("${task.attachments.dir:data/attachments}") String dir) {
+        this.root = Path.of(dir).toAbsolutePath().normalize();
+    }
+
+    /**
+     * An upload written to the staging area and hashed, not yet published
+     */
+    public record StagedFile(Path file, String sha256, long size) {
+    }
+
+    /**
+     * Write an uploaded file to the staging area and hash it. The servlet
+     * container has already spooled the part to a temporary file; it is
+     * moved into place when both are on the same file system and copied
+     * otherwise, then read once to compute the hash. The content is never
+     * held in memory.
+     *
+     * @param file Uploaded file
+     * @return Staged file; {@link #publish} or {@link #discard} it
+     */
+    public StagedFile stage(MultipartFile file) {
+        Path staged = root.resolve(TMP).resolve(UUID.randomUUID().toString());
+        try {
+            Files.createDirectories(staged.getParent());
+            file.transferTo(staged.toFile());
+            return new StagedFile(staged, sha256(staged), Files.size(staged));
+        } catch (IOException e) {
+            deleteQuietly(staged);
+            throw new UncheckedIOException("Could not store attachment", e);
+        }
+    }
+
+    /**
+     * Move a staged file to its blob path. When the blob file already exists
+     * the staged copy is dropped instead, so duplicate uploads cost no
+     * further write.
+     *
+     * @param staged  Staged file
+     * @param replace Whether to overwrite an existing blob file, for a blob
+     *                created by the caller (the file may be a leftover of an
+     *                upload that was rolled back)
+     * @return Path of the blob file, relative to the storage directory
+     */
+    public String publish(StagedFile staged, boolean replace) {
+        String path = blobPath(staged.sha256());
+        Path target = root.resolve(path);
+        try {
+            if (!replace && Files.exists(target)) {
+                deleteQuietly(staged.file());
+                return path;
+            }
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(staged.file(), target, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // Some file systems cannot replace atomically; the existing file has the same content
+                deleteQuietly(staged.file());
+            }
+        } catch (IOException e) {
+            deleteQuietly(staged.file());
+            throw new UncheckedIOException("Could not store attachment", e);
+        }
+        return path;
+    }
+
+    /**
+     * Delete a staged file that will not be published
+     *
+     * @param staged Staged file
+     */
+    public void discard(StagedFile staged) {
+        deleteQuietly(staged.file());
+    }
+
+    /**
+     * Get the content of a stored file
+     *
+     * @param path Path returned by {@link #publish}
+     * @return File resource; Spring MVC serves it with Content-Length and
+     *         answers Range requests with the requested regions
+     */
+    public Resource load(String path) {
+        return new FileSystemResource(resolve(path));
+    }
+
+    /**
+     * Delete a stored file, if it still exists
+     *
+     * @param path Path relative to the storage directory
+     */
+    public void delete(String path) {
+        deleteQuietly(resolve(path));
+    }
+
+    /**
+     * Delete the file of a blob, if it still exists
+     *
+     * @param sha256 Blob hash
+     */
+    public void deleteBlob(String sha256) {
+        delete(blobPath(sha256));
+    }
+
+    /**
+     * Pass the hashes of blob files last modified before the given time to
+     * the consumer, one shard directory at a time
+     *
+     * @param modifiedBefore Only files older than this are listed
+     * @param consumer       Receives non-empty lists of hashes
+     */
+    public void forEachBlobOlderThan(Instant modifiedBefore, Consumer<List<String>> consumer) {
+        for (Path first : list(root.resolve(BLOBS))) {
+            for (Path second : list(first)) {
+                List<String> hashes = new ArrayList<>();
+                for (Path file : list(second)) {
+                    String name = file.getFileName().toString();
+                    if (SHA256.matcher(name).matches() && modifiedBefore(file, modifiedBefore)) {
+                        hashes.add(name);
+                    }
+                }
+                if (!hashes.isEmpty()) {
+                    consumer.accept(hashes);
+                }
+            }
+        }
+    }
+
+    /**
+     * Delete staged files left behind by uploads that did not finish
+     *
+     * @param modifiedBefore Only files older than this are deleted
+     * @return Number of files deleted
+     */
+    public int deleteStagedOlderThan(Instant modifiedBefore) {
+        int deleted = 0;
+        for (Path file : list(root.resolve(TMP))) {
+            if (modifiedBefore(file, modifiedBefore) && deleteQuietly(file)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    static String blobPath(String sha256) {
+        return BLOBS + "/" + sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256;
+    }
+
+    private Path resolve(String path) {
+        Path file = root.resolve(path).normalize();
+        if (!file.startsWith(root)) {
+            throw new IllegalArgumentException("Invalid attachment path: " + path);
+        }
+        return file;
+    }
+
+    private static String sha256(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(HASH_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static List<Path> list(Path dir) {
+        List<Path> entries = new ArrayList<>();
+        if (!Files.isDirectory(dir)) {
+            return entries;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            stream.forEach(entries::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list " + dir, e);
+        }
+        return entries;
+    }
+
+    private static boolean modifiedBefore(Path file, Instant time) {
+        try {
+            return Files.isRegularFile(file) && Files.getLastModifiedTime(file).toInstant().isBefore(time);
+        } catch (IOException e) {
+            // Deleted meanwhile
+            return false;
+        }
+    }
+
+    private static boolean deleteQuietly(Path file) {
+        try {
+            return Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Best effort: a leftover file only costs disk space
+            return false;
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.task_management_app.service;
 
 import com.example.task_management_app.dto.TaskCategoryDTO;
+import com.example.task_management_app.event.ReferenceDataChangedEvent;
 import com.example.task_management_app.exception.ResourceNotFoundException;
 import com.example.task_management_app.model.TaskCategory;
 import com.example.task_management_app.repository.TaskCategoryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,10 +17,12 @@ import java.util.stream.Collectors;
 public class TaskCategoryService {
 
     private final TaskCategoryRepository taskCategoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public TaskCategoryService(TaskCategoryRepository taskCategoryRepository) {
+    public TaskCategoryService(TaskCategoryRepository taskCategoryRepository, ApplicationEventPublisher eventPublisher) {
         this.taskCategoryRepository = taskCategoryRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -72,6 +76,7 @@ public class TaskCategoryService {
 
         TaskCategory taskCategory = convertToEntity(taskCategoryDTO);
         TaskCategory savedTaskCategory = taskCategoryRepository.save(taskCategory);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(TaskCategory.class));
         return convertToDTO(savedTaskCategory);
     }
 
@@ -100,6 +105,7 @@ public class TaskCategoryService {
         existingTaskCategory.setColor(taskCategoryDTO.getColor());
 
         TaskCategory updatedTaskCategory = taskCategoryRepository.save(existingTaskCategory);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(TaskCategory.class));
         return convertToDTO(updatedTaskCategory);
     }
 
@@ -114,6 +120,7 @@ public class TaskCategoryService {
             throw new ResourceNotFoundException("Task category not found with id: " + id);
         }
         taskCategoryRepository.deleteById(id);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(TaskCategory.class));
     }
 
     /**
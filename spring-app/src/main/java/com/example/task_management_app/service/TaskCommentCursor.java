@@ -0,0 +1,54 @@
+package com.example.task_management_app.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position within a comment feed, the (created at, id) of the last
+ * comment on the previous page, serialized as an opaque URL-safe token.
+ */
+final class TaskCommentCursor {
+
+    private final OffsetDateTime createdAt;
+    private final Integer id;
+
+    TaskCommentCursor(OffsetDateTime createdAt, Integer id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    Integer getId() {
+        return id;
+    }
+
+    String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor token
+     *
+     * @param token Token returned by a previous page
+     * @return Decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    static TaskCommentCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new TaskCommentCursor(OffsetDateTime.parse(parts[0]), Integer.valueOf(parts[1]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
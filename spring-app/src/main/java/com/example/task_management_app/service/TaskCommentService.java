@@ -0,0 +1,137 @@
+package com.example.task_management_app.service;
+
+import com.example.task_management_app.dto.TaskCommentDTO;
+import com.example.task_management_app.dto.TaskCommentPageDTO;
+import com.example.task_management_app.exception.ForbiddenOperationException;
+import com.example.task_management_app.exception.ResourceNotFoundException;
+import com.example.task_management_app.model.TaskComment;
+import com.example.task_management_app.model.User;
+import com.example.task_management_app.repository.TaskCommentRepository;
+import com.example.task_management_app.repository.TaskRepository;
+import com.example.task_management_app.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Comments on tasks. Each task row carries its comment count, adjusted in
+ * the same transaction as the comment is written, so task listings show
+ * counts without joining or counting comments.
+ */
+@Service
+public class TaskCommentService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final TaskCommentRepository taskCommentRepository;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+
+    @Autowired
+    public TaskCommentService(TaskCommentRepository taskCommentRepository, TaskRepository taskRepository,
+            UserRepository userRepository) {
+        this.taskCommentRepository = taskCommentRepository;
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Get a page of the comments of a task, oldest first, using keyset
+     * pagination
+     * 
+     * @param taskId Task ID
+     * @param cursor Cursor from the previous page, null for the first page
+     * @param limit  Maximum number of comments to return, clamped to
+     *               [1, {@value #MAX_PAGE_SIZE}]
+     * @return Page of comment DTOs
+     */
+    public TaskCommentPageDTO getComments(Integer taskId, String cursor, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        TaskCommentCursor after = cursor != null && !cursor.isEmpty() ? TaskCommentCursor.decode(cursor) : null;
+
+        // Fetch one extra row to find out whether another page exists
+        List<TaskCommentDTO> comments = taskCommentRepository.findPage(taskId,
+                after != null ? after.getCreatedAt() : null, after != null ? after.getId() : null,
+                PageRequest.of(0, pageSize + 1));
+        if (comments.isEmpty() && after == null && !taskRepository.existsById(taskId)) {
+            throw new ResourceNotFoundException("Task not found with id: " + taskId);
+        }
+
+        boolean hasMore = comments.size() > pageSize;
+        List<TaskCommentDTO> items = hasMore ? new ArrayList<>(comments.subList(0, pageSize)) : comments;
+        String nextCursor = null;
+        if (hasMore) {
+            TaskCommentDTO last = items.get(items.size() - 1);
+            nextCursor = new TaskCommentCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new TaskCommentPageDTO(items, nextCursor, hasMore);
+    }
+
+    /**
+     * Add a comment to a task
+     * 
+     * @param taskId     Task ID
+     * @param username   Author
+     * @param commentDTO Comment DTO, only the content is used
+     * @return Created comment DTO
+     */
+    @Transactional
+    public TaskCommentDTO addComment(Integer taskId, String username, TaskCommentDTO commentDTO) {
+        User author = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with username: " + username));
+        // Doubles as the existence check, and serializes concurrent comments on the task row
+        if (taskRepository.adjustCommentCount(taskId, 1) == 0) {
+            throw new ResourceNotFoundException("Task not found with id: " + taskId);
+        }
+
+        TaskComment comment = new TaskComment();
+        comment.setTask(taskRepository.getReferenceById(taskId));
+        comment.setUser(author);
+        comment.setContent(commentDTO.getContent());
+        TaskComment saved = taskCommentRepository.save(comment);
+        return new TaskCommentDTO(saved.getId(), taskId, author.getId(), author.getUsername(), saved.getContent(),
+                saved.getCreatedAt());
+    }
+
+    /**
+     * Delete a comment. Only its author or an administrator may do so.
+     * 
+     * @param taskId    Task ID
+     * @param commentId Comment ID
+     * @param username  User deleting the comment
+     * @param admin     Whether that user is an administrator
+     * @throws ForbiddenOperationException if the user may not delete the comment
+     */
+    @Transactional
+    public void deleteComment(Integer taskId, Integer commentId, String username, boolean admin) {
+        Integer authorId = taskCommentRepository.findAuthorId(commentId, taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Comment not found with id: " + commentId));
+        if (!admin) {
+            User user = userRepository.findByUsername(username)
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found with username: " + username));
+            if (!user.getId().equals(authorId)) {
+                throw new ForbiddenOperationException("Only the author can delete this comment");
+            }
+        }
+        // A concurrent delete of the same comment must not decrement the count twice
+        if (taskCommentRepository.deleteCommentById(commentId) == 1) {
+            taskRepository.adjustCommentCount(taskId, -1);
+        }
+    }
+
+    /**
+     * Take the comments of a user out of the task comment counts. Call before
+     * deleting the user: the database then deletes the comments themselves.
+     * 
+     * @param userId User ID
+     */
+    @Transactional
+    public void userDeleted(Integer userId) {
+        taskRepository.subtractCommentsOfUser(userId);
+    }
+}
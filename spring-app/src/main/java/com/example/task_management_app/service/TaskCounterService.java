@@ -0,0 +1,248 @@
+package com.example.task_management_app.service;
+
+import com.example.task_management_app.dto.TaskCountDTO;
+import com.example.task_management_app.dto.TaskOverdueChangeDTO;
+import com.example.task_management_app.dto.TaskStatusChangeDTO;
+import com.example.task_management_app.dto.UserTaskCountersDTO;
+import com.example.task_management_app.event.ReferenceDataChangedEvent;
+import com.example.task_management_app.exception.ResourceNotFoundException;
+import com.example.task_management_app.model.Task;
+import com.example.task_management_app.model.TaskStat;
+import com.example.task_management_app.model.TaskStatId;
+import com.example.task_management_app.model.TaskStatus;
+import com.example.task_management_app.repository.TaskStatRepository;
+import com.example.task_management_app.repository.UserRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps the task_stats counters in step with the tasks table. Task writes
+ * record their before/after state here inside the same transaction, so the
+ * counters commit or roll back with the task.
+ *
+ * Overdue counts follow the overdue flag that {@link TaskOverdueService}
+ * keeps, so they agree with the overdue listings; its refresh records the
+ * flags it flips here too. Some changes bypass the application (cascading
+ * deletes, status deletion, manual SQL), so the counters are rebuilt from
+ * the tasks table at startup and on a schedule (task.stats.reconcile-cron,
+ * hourly by default).
+ */
+@Service
+public class TaskCounterService {
+
+    private final TaskStatRepository taskStatRepository;
+    private final UserRepository userRepository;
+    private final ReferenceDataCache referenceDataCache;
+
+    public TaskCounterService(TaskStatRepository taskStatRepository,
+            UserRepository userRepository,
+            ReferenceDataCache referenceDataCache) {
+        this.taskStatRepository = taskStatRepository;
+        this.userRepository = userRepository;
+        this.referenceDataCache = referenceDataCache;
+    }
+
+    /**
+     * The counter row and overdue state a task contributes to
+     */
+    public record Contribution(TaskStatId key, boolean overdue) {
+    }
+
+    /**
+     * Capture what a task currently contributes to the counters. Take this
+     * before modifying a task and pass it to {@link #taskChanged}.
+     * 
+     * @param task Task entity
+     * @return Current contribution
+     */
+    public Contribution contributionOf(Task task) {
+        return contributionOf(task.getUser() != null ? task.getUser().getId() : null,
+                task.getStatus() != null ? task.getStatus().getId() : null, task.isOverdue());
+    }
+
+    /**
+     * Capture what a task with the given columns contributes to the
+     * counters, for writes that do not load the task
+     * 
+     * @param userId   User ID, null if unassigned
+     * @param statusId Status ID, null if none
+     * @param overdue  Overdue flag of the task
+     * @return Contribution
+     */
+    public Contribution contributionOf(Integer userId, Integer statusId, boolean overdue) {
+        return new Contribution(new TaskStatId(userId != null ? userId : TaskStat.NONE,
+                statusId != null ? statusId : TaskStat.NONE), overdue);
+    }
+
+    /**
+     * Record a task write
+     * 
+     * @param before Contribution before the write, null for a new task
+     * @param after  Contribution after the write, null for a deleted task
+     */
+    @Transactional
+    public void taskChanged(Contribution before, Contribution after) {
+        Deltas deltas = new Deltas();
+        deltas.add(before, -1);
+        deltas.add(after, 1);
+        deltas.apply();
+    }
+
+    /**
+     * Record many task writes at once; each affected counter row is updated
+     * once
+     * 
+     * @param changes Pairs of (before, after) contributions
+     */
+    @Transactional
+    public void tasksChanged(List<Contribution[]> changes) {
+        Deltas deltas = new Deltas();
+        for (Contribution[] change : changes) {
+            deltas.add(change[0], -1);
+            deltas.add(change[1], 1);
+        }
+        deltas.apply();
+    }
+
+    /**
+     * Record a set-based status change
+     * 
+     * @param moved    Tasks that changed status, counted per user and
+     *                 previous status
+     * @param statusId New status ID
+     */
+    @Transactional
+    public void statusesChanged(List<TaskStatusChangeDTO> moved, Integer statusId) {
+        Deltas deltas = new Deltas();
+        for (TaskStatusChangeDTO group : moved) {
+            deltas.add(new TaskStatId(group.getUserId(), group.getStatusId()),
+                    -group.getTaskCount(), -group.getOverdueBefore());
+            deltas.add(new TaskStatId(group.getUserId(), statusId), group.getTaskCount(), group.getOverdueAfter());
+        }
+        deltas.apply();
+    }
+
+    /**
+     * Record a set-based overdue flag refresh
+     * 
+     * @param flagged Tasks that became overdue, counted per user and status
+     * @param cleared Tasks that are no longer overdue, counted per user and
+     *                status
+     */
+    @Transactional
+    public void overdueChanged(List<TaskOverdueChangeDTO> flagged, List<TaskOverdueChangeDTO> cleared) {
+        Deltas deltas = new Deltas();
+        for (TaskOverdueChangeDTO group : flagged) {
+            deltas.add(new TaskStatId(group.getUserId(), group.getStatusId()), 0, group.getTaskCount());
+        }
+        for (TaskOverdueChangeDTO group : cleared) {
+            deltas.add(new TaskStatId(group.getUserId(), group.getStatusId()), 0, -group.getTaskCount());
+        }
+        deltas.apply();
+    }
+
+    /**
+     * Drop the counters of a deleted user, whose tasks the database removes
+     * by cascade
+     * 
+     * @param userId User ID
+     */
+    @Transactional
+    public void userDeleted(Integer userId) {
+        taskStatRepository.deleteByUserId(userId);
+    }
+
+    /**
+     * Get the task counters of a user, read by primary key
+     * 
+     * @param userId User ID
+     * @return Total, overdue and per-status counts
+     */
+    @Transactional(readOnly = true)
+    public UserTaskCountersDTO getUserCounters(Integer userId) {
+        List<TaskStat> stats = taskStatRepository.findByUserId(userId);
+        if (stats.isEmpty() && !userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+
+        long total = 0;
+        long overdue = 0;
+        List<TaskCountDTO> byStatus = new ArrayList<>();
+        for (TaskStat stat : stats) {
+            if (stat.getTaskCount() == 0) {
+                continue;
+            }
+            total += stat.getTaskCount();
+            overdue += stat.getOverdueCount();
+            if (stat.getStatusId() == TaskStat.NONE) {
+                byStatus.add(new TaskCountDTO(null, null, stat.getTaskCount()));
+            } else {
+                String name = referenceDataCache.findStatus(stat.getStatusId()).map(TaskStatus::getName).orElse(null);
+                byStatus.add(new TaskCountDTO(stat.getStatusId(), name, stat.getTaskCount()));
+            }
+        }
+        return new UserTaskCountersDTO(userId, total, overdue, byStatus);
+    }
+
+    /**
+     * Rebuild every counter from the tasks table
+     */
+    @Scheduled(cron = "${task.stats.reconcile-cron:0 5 * * * *}")
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcile() {
+        taskStatRepository.deleteAllCounters();
+        taskStatRepository.insertRecomputed();
+    }
+
+    // Deleting a status moves its tasks to "no status" in the database
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        if (event.getEntityType() == TaskStatus.class) {
+            reconcile();
+        }
+    }
+
+    /**
+     * Net change per counter row. Rows are written in key order so that
+     * concurrent transactions lock them in the same order.
+     */
+    private final class Deltas {
+
+        private final Map<TaskStatId, long[]> byKey = new TreeMap<>();
+
+        void add(Contribution contribution, int sign) {
+            if (contribution == null) {
+                return;
+            }
+            add(contribution.key(), sign, contribution.overdue() ? sign : 0);
+        }
+
+        void add(TaskStatId key, long taskDelta, long overdueDelta) {
+            long[] delta = byKey.computeIfAbsent(key, k -> new long[2]);
+            delta[0] += taskDelta;
+            delta[1] += overdueDelta;
+        }
+
+        void apply() {
+            byKey.forEach((key, delta) -> {
+                if (delta[0] == 0 && delta[1] == 0) {
+                    return;
+                }
+                taskStatRepository.insertIfAbsent(key.getUserId(), key.getStatusId());
+                taskStatRepository.increment(key.getUserId(), key.getStatusId(), delta[0], delta[1]);
+            });
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package com.example.task_management_app.service;
+
+import com.example.task_management_app.event.TaskChangedEvent;
+import com.example.task_management_app.event.UserChangedEvent;
+import com.example.task_management_app.exception.ResourceNotFoundException;
+import com.example.task_management_app.model.User;
+import com.example.task_management_app.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server-Sent Events stream of task changes, so clients update the tasks
+ * they show instead of reloading them after every write.
+ *
+ * Changes are published by the task services as {@link TaskChangedEvent}s
+ * and handed to the connections after the transaction commits. Each
+ * connection has its own bounded buffer, drained by a small sender pool, so
+ * a slow client never holds up the writer or the other clients; a client
+ * whose buffer overflows gets a single "resync" event instead of the
+ * changes it missed. Idle connections cost a socket and an empty buffer, no
+ * thread: a heartbeat comment keeps proxies from closing them and detects
+ * clients that went away.
+ *
+ * A write blocks its sender thread until the client reads, so a write that
+ * takes longer than task.events.send-timeout is given up on: the connection
+ * is dropped and the pool gets a thread in place of the stuck one until the
+ * write returns, at the latest at the connector's write timeout. The emitter
+ * is locked for the duration of the write, so it is completed only then.
+ *
+ * Sender pool usage is published as the "executor.*" metrics with the tag
+ * name=task-events, the number of connections as "task.events.connections".
+ */
+@Service
+public class TaskEventService {
+
+    static final String READY = "ready";
+    static final String RESYNC = "resync";
+
+    private static final Frame READY_FRAME = new Frame(READY, "{}");
+    private static final Frame RESYNC_FRAME = new Frame(RESYNC, "{}");
+    private static final Frame HEARTBEAT_FRAME = new Frame(null, null);
+
+    // Send start times of a subscriber that is not sending and of one whose send was given up on
+    private static final long IDLE = 0L;
+    private static final long ABANDONED = Long.MIN_VALUE;
+
+    /**
+     * One SSE event; heartbeats have neither name nor data and are sent as a
+     * comment
+     */
+    private record Frame(String name, String data) {
+
+        static Frame of(TaskChangedEvent event) {
+            return new Frame(event.getType().name().toLowerCase(Locale.ROOT), "{\"taskId\":" + event.getTaskId() + "}");
+        }
+
+        SseEmitter.SseEventBuilder toEvent() {
+            return name == null ? SseEmitter.event().comment("heartbeat") : SseEmitter.event().name(name).data(data);
+        }
+    }
+
+    private final UserRepository userRepository;
+    private final ThreadPoolExecutor sender;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public TaskEventService(UserRepository userRepository, MeterRegistry meterRegistry,
+            @Value("${task.events.buffer-size:256}") int bufferSize,
+            @Value("${task.events.timeout:30m}") Duration timeout,
+            @Value("${task.events.sender-threads:2}") int senderThreads,
+            @Value("${task.events.send-timeout:10s}") Duration sendTimeout) {
+        this.userRepository = userRepository;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        AtomicInteger threadNumber = new AtomicInteger();
+        // Unbounded queue, but each connection has at most one drain queued or running
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "task-events-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        ExecutorServiceMetrics.monitor(meterRegistry, sender, "task-events");
+        meterRegistry.gaugeCollectionSize("task.events.connections", Tags.empty(), subscribers);
+    }
+
+    /**
+     * Open a stream of task changes. The first event is "ready"; after that
+     * "created", "updated" and "deleted" carry the ID of the task, and
+     * "resync" asks the client to reload its tasks. The stream ends after
+     * task.events.timeout and clients are expected to reconnect.
+     *
+     * @param username Authenticated user
+     * @param mine     Whether to stream only the tasks the user owns or is
+     *                 assigned to, instead of all tasks
+     * @return Emitter of the stream
+     */
+    public SseEmitter subscribe(String username, boolean mine) {
+        Integer userId = null;
+        if (mine) {
+            userId = userRepository.findByUsername(username)
+                    .map(User::getId)
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found with username: " + username));
+        }
+        SseEmitter emitter = createEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, userId);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+        try {
+            // Not written until this request returns, which is after the subscriber is added: a client
+            // that loads its tasks on "ready" misses no change committed after the load
+            emitter.send(READY_FRAME.toEvent());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Get the number of open streams
+     *
+     * @return Number of connections
+     */
+    public int getConnectionCount() {
+        return subscribers.size();
+    }
+
+    // Only queues the event for each connection, the sender pool writes it
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getType() == TaskChangedEvent.Type.BULK_UPDATED) {
+            // The changed tasks are not known one by one
+            resync(event.getUserIds());
+            return;
+        }
+        Frame frame = Frame.of(event);
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.wants(event.getUserIds())) {
+                subscriber.offer(frame);
+            }
+        }
+    }
+
+    // Tasks show their owner's and assignees' usernames, and deleting a user deletes the user's tasks.
+    // Other changes to a user do not show in tasks and carry no task users
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (!event.getTaskUserIds().isEmpty()) {
+            resync(event.getTaskUserIds());
+        }
+    }
+
+    private void resync(Set<Integer> userIds) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.wants(userIds)) {
+                subscriber.resync();
+            }
+        }
+    }
+
+    /**
+     * Send a heartbeat to the connections with nothing else to send. Writing
+     * is also how connections closed by the client are noticed.
+     */
+    @Scheduled(fixedDelayString = "${task.events.heartbeat-interval:25s}",
+            initialDelayString = "${task.events.heartbeat-interval:25s}")
+    public void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeat();
+        }
+    }
+
+    /**
+     * Drop the connections whose current write has taken longer than
+     * task.events.send-timeout, and give the sender pool a thread for each
+     * one, so clients that stopped reading do not hold up the others. Runs
+     * every send timeout, so a write is given up on within two.
+     */
+    @Scheduled(fixedDelayString = "${task.events.send-timeout:10s}",
+            initialDelayString = "${task.events.send-timeout:10s}")
+    public void abandonStuckSends() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.abandonIfStuck(now);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdown();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    // Overridden by tests to record what is sent
+    SseEmitter createEmitter(long timeout) {
+        return new SseEmitter(timeout);
+    }
+
+    /**
+     * An open stream and the events not yet sent to it
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        // Null when subscribed to all tasks
+        private final Integer userId;
+        private final BlockingQueue<Frame> buffer;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        // When the send in progress started, IDLE or ABANDONED; only one of the drain and the watchdog
+        // moves it away from a start time
+        private final AtomicLong sendStarted = new AtomicLong(IDLE);
+        private volatile boolean resync;
+
+        Subscriber(SseEmitter emitter, Integer userId) {
+            this.emitter = emitter;
+            this.userId = userId;
+            // Linked, so an idle connection does not hold an array of bufferSize slots
+            this.buffer = new LinkedBlockingQueue<>(bufferSize);
+        }
+
+        // Streams of all tasks want every change, "mine" streams only those concerning their user
+        boolean wants(Set<Integer> userIds) {
+            return userId == null || userIds.contains(userId);
+        }
+
+        void offer(Frame frame) {
+            if (!buffer.offer(frame)) {
+                // The client fell behind: what it missed is dropped and it reloads instead
+                resync();
+                return;
+            }
+            schedule();
+        }
+
+        void resync() {
+            resync = true;
+            buffer.clear();
+            schedule();
+        }
+
+        void heartbeat() {
+            if (buffer.isEmpty()) {
+                offer(HEARTBEAT_FRAME);
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // Shutting down
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        void abandonIfStuck(long now) {
+            long started = sendStarted.get();
+            if (started == IDLE || started == ABANDONED || now - started < sendTimeoutNanos
+                    || !sendStarted.compareAndSet(started, ABANDONED)) {
+                return;
+            }
+            subscribers.remove(this);
+            buffer.clear();
+            resizeSender(1);
+        }
+
+        private void drain() {
+            try {
+                while (sendStarted.get() != ABANDONED) {
+                    Frame frame;
+                    if (resync) {
+                        resync = false;
+                        frame = RESYNC_FRAME;
+                    } else {
+                        frame = buffer.poll();
+                        if (frame == null) {
+                            break;
+                        }
+                    }
+                    long started = System.nanoTime();
+                    sendStarted.set(started);
+                    try {
+                        emitter.send(frame.toEvent());
+                    } finally {
+                        if (!sendStarted.compareAndSet(started, IDLE)) {
+                            // Given up on while it was writing; the write is over, so the emitter can be
+                            // completed now and the thread added in place of this one is no longer needed
+                            resizeSender(-1);
+                            emitter.completeWithError(new IOException("Event stream write timed out"));
+                        }
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the stream already completed; the emitter cleans up the response
+                subscribers.remove(this);
+                buffer.clear();
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            // Offered after the last poll but before the flag was cleared
+            if ((resync || !buffer.isEmpty()) && subscribers.contains(this)) {
+                schedule();
+            }
+        }
+    }
+
+    private void resizeSender(int delta) {
+        synchronized (sender) {
+            // The maximum may never be below the core size
+            if (delta > 0) {
+                sender.setMaximumPoolSize(sender.getMaximumPoolSize() + delta);
+                sender.setCorePoolSize(sender.getCorePoolSize() + delta);
+            } else {
+                sender.setCorePoolSize(sender.getCorePoolSize() + delta);
+                sender.setMaximumPoolSize(sender.getMaximumPoolSize() + delta);
+            }
+        }
+    }
+}
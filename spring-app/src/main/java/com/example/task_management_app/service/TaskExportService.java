@@ -0,0 +1,125 @@
+package com.example.task_management_app.service;
+
+import com.example.task_management_app.dto.TaskDTO;
+import com.example.task_management_app.repository.TaskRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes every task to an output stream as NDJSON or CSV. Rows come from a
+ * database cursor and are written as they arrive, so memory use does not
+ * depend on the number of tasks.
+ */
+@Service
+public class TaskExportService {
+
+    static final String CSV_HEADER = "id,title,description,dueDate,priorityId,priorityName,priorityValue,"
+            + "userId,username,statusId,statusName,categoryId,categoryName,createdAt,updatedAt";
+
+    private final TaskRepository taskRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public TaskExportService(TaskRepository taskRepository, ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Write all tasks, ordered by ID. Runs in its own read-only transaction
+     * (needed to hold the cursor open), so it can be called from the thread
+     * that writes the response.
+     *
+     * @param format Output format
+     * @param out    Destination, flushed but not closed
+     */
+    public void export(TaskFileFormat format, OutputStream out) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<TaskDTO> tasks = taskRepository.streamAllDtos()) {
+                if (format == TaskFileFormat.NDJSON) {
+                    writeNdjson(tasks.iterator(), out);
+                } else {
+                    writeCsv(tasks.iterator(), out);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeNdjson(Iterator<TaskDTO> tasks, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // One object per line instead of the default space between root values
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            boolean any = false;
+            while (tasks.hasNext()) {
+                generator.writeObject(tasks.next());
+                any = true;
+            }
+            if (any) {
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    private void writeCsv(Iterator<TaskDTO> tasks, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        while (tasks.hasNext()) {
+            TaskDTO task = tasks.next();
+            writeCsvRow(writer, task.getId(), task.getTitle(), task.getDescription(), task.getDueDate(),
+                    task.getPriorityId(), task.getPriorityName(), task.getPriorityValue(),
+                    task.getUserId(), task.getUsername(), task.getStatusId(), task.getStatusName(),
+                    task.getCategoryId(), task.getCategoryName(), task.getCreatedAt(), task.getUpdatedAt());
+        }
+        writer.flush();
+    }
+
+    private void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(csvField(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Quote a CSV field when needed (RFC 4180)
+     *
+     * @param value Field value
+     * @return The value, quoted with doubled quotes if it contains a comma,
+     *         quote or line break
+     */
+    static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.task_management_app.service;
+
+import java.util.Locale;
+
+/**
+ * File formats accepted by the task export and import endpoints
+ */
+public enum TaskFileFormat {
+    NDJSON("ndjson"), CSV("csv");
+
+    private final String extension;
+
+    TaskFileFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Parse the format query parameter
+     * 
+     * @param value "ndjson" or "csv", case-insensitive
+     * @return File format
+     */
+    public static TaskFileFormat fromParameter(String value) {
+        for (TaskFileFormat format : values()) {
+            if (format.extension.equals(value.trim().toLowerCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported format: " + value + " (use ndjson or csv)");
+    }
+}
@@ -0,0 +1,569 @@
+package com.example.task_management_app.service;
+
+import com.example.task_management_app.dto.TaskBatchItemResultDTO;
+import com.example.task_management_app.dto.TaskBatchResultDTO;
+import com.example.task_management_app.dto.TaskDTO;
+import com.example.task_management_app.dto.TaskImportErrorDTO;
+import com.example.task_management_app.dto.TaskImportResultDTO;
+import com.example.task_management_app.exception.ResourceNotFoundException;
+import com.example.task_management_app.model.TaskCategory;
+import com.example.task_management_app.model.TaskImport;
+import com.example.task_management_app.model.TaskPriority;
+import com.example.task_management_app.model.TaskStatus;
+import com.example.task_management_app.model.User;
+import com.example.task_management_app.repository.TaskImportRepository;
+import com.example.task_management_app.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Imports tasks from a CSV or NDJSON upload. The upload is parsed record by
+ * record while it is read, and every {@value #IMPORT_BATCH_SIZE} records are
+ * saved through {@link TaskService#saveTasks} in their own transaction, so
+ * neither the file nor the imported tasks are ever held in memory at once.
+ *
+ * Fields are matched by name (case-insensitive), using the same names as the
+ * export: title, description, dueDate, userId or username, statusId or
+ * statusName (or status), priorityId, priorityValue or priorityName (or
+ * priority), categoryId or categoryName (or category). Other fields, such as
+ * the id and timestamps of an export, are ignored, so every record creates a
+ * new task.
+ *
+ * Records are identified by the line they start on. After each committed
+ * batch the checkpoint moves to the last line of that batch; if the import
+ * stops early it can be resumed by uploading the same file again with
+ * resumeAfter set to the reported checkpoint.
+ *
+ * A client that may lose the connection before the response arrives names
+ * the upload with an import ID instead. The checkpoint is then also stored
+ * under that ID in the transaction of each batch, uploading the file again
+ * with the same ID continues after it, and {@link #getImport} reports it.
+ * Stored imports are deleted after task.imports.retention without progress.
+ */
+@Service
+public class TaskImportService {
+
+    public static final int IMPORT_BATCH_SIZE = 500;
+    public static final int MAX_REPORTED_ERRORS = 100;
+
+    // Longest CSV record accepted; guards against a stray quote swallowing the rest of the file
+    static final int MAX_RECORD_LENGTH = 1 << 16;
+
+    private static final Pattern IMPORT_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final TaskService taskService;
+    private final TaskImportRepository taskImportRepository;
+    private final UserRepository userRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+
+    @Autowired
+    public TaskImportService(TaskService taskService,
+            TaskImportRepository taskImportRepository,
+            UserRepository userRepository,
+            ReferenceDataCache referenceDataCache,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${task.imports.retention:7d}") Duration retention) {
+        this.taskService = taskService;
+        this.taskImportRepository = taskImportRepository;
+        this.userRepository = userRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+    }
+
+    /**
+     * Import tasks from an upload
+     *
+     * @param format      Upload format
+     * @param in          Upload, read to the end (or until the import stops)
+     * @param resumeAfter Skip records starting on or before this line, 0 to
+     *                    import everything
+     * @return Counts, checkpoint and the first rejected records
+     */
+    public TaskImportResultDTO importTasks(TaskFileFormat format, InputStream in, long resumeAfter) {
+        if (resumeAfter < 0) {
+            throw new IllegalArgumentException("resumeAfter must not be negative");
+        }
+        return importTasks(format, in, new Progress(null, resumeAfter));
+    }
+
+    /**
+     * Import tasks from an upload under an import ID, continuing after the
+     * stored checkpoint if the ID has been used before
+     *
+     * @param format   Upload format
+     * @param in       Upload, read to the end (or until the import stops)
+     * @param importId ID chosen by the client, 1 to 64 letters, digits, '.',
+     *                 '_' or '-'
+     * @param username Authenticated user
+     * @return Counts of this upload, checkpoint and the first rejected records
+     */
+    public TaskImportResultDTO importTasks(TaskFileFormat format, InputStream in, String importId, String username) {
+        if (importId == null || !IMPORT_ID.matcher(importId).matches()) {
+            throw new IllegalArgumentException("importId must be 1 to 64 letters, digits, '.', '_' or '-'");
+        }
+        Integer userId = userRepository.findByUsername(username)
+                .map(User::getId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with username: " + username));
+
+        TaskImport taskImport = transactionTemplate.execute(status -> {
+            taskImportRepository.insertIfAbsent(importId, userId, OffsetDateTime.now());
+            return taskImportRepository.findById(importId).orElseThrow();
+        });
+        if (!taskImport.getUserId().equals(userId)) {
+            throw new IllegalArgumentException("importId is already used by another user: " + importId);
+        }
+        return importTasks(format, in, new Progress(importId, taskImport.getCheckpoint()));
+    }
+
+    /**
+     * Get the stored progress of an import started with an import ID. The
+     * rejected records are only reported in the response of each upload.
+     *
+     * @param importId Import ID
+     * @param username Authenticated user
+     * @return Counts of all uploads so far and the checkpoint
+     */
+    @Transactional(readOnly = true)
+    public TaskImportResultDTO getImport(String importId, String username) {
+        return taskImportRepository.findById(importId)
+                .filter(taskImport -> userRepository.findByUsername(username)
+                        .map(user -> user.getId().equals(taskImport.getUserId()))
+                        .orElse(false))
+                .map(taskImport -> new TaskImportResultDTO(taskImport.getImported(), taskImport.getFailed(),
+                        taskImport.getCheckpoint(), taskImport.isCompleted(), null, List.of()))
+                .orElseThrow(() -> new ResourceNotFoundException("Import not found with id: " + importId));
+    }
+
+    /**
+     * Delete the stored imports without progress for task.imports.retention
+     *
+     * @return Number of imports deleted
+     */
+    @Scheduled(cron = "${task.imports.cleanup-cron:0 15 4 * * *}")
+    @Transactional
+    public int deleteExpiredImports() {
+        return taskImportRepository.deleteUpdatedBefore(OffsetDateTime.now().minus(retention));
+    }
+
+    private TaskImportResultDTO importTasks(TaskFileFormat format, InputStream in, Progress progress) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        RecordReader records = format == TaskFileFormat.CSV ? new CsvRecordReader(reader) : new NdjsonRecordReader(reader);
+        List<ImportRecord> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+
+        try {
+            ImportRecord record;
+            while ((record = records.next()) != null) {
+                if (record.line() <= progress.resumeAfter) {
+                    continue;
+                }
+                batch.add(record);
+                if (batch.size() == IMPORT_BATCH_SIZE) {
+                    saveBatch(batch, progress);
+                    batch.clear();
+                }
+            }
+            saveBatch(batch, progress);
+            if (progress.importId != null) {
+                transactionTemplate.executeWithoutResult(
+                        status -> taskImportRepository.markCompleted(progress.importId, OffsetDateTime.now()));
+            }
+        } catch (MalformedUploadException e) {
+            return progress.abort("Line " + e.line + ": " + e.getMessage());
+        } catch (IOException e) {
+            return progress.abort("Could not read upload: " + e.getMessage());
+        } catch (DataAccessException | TransactionException e) {
+            return progress.abort("Could not save batch: " + e.getMostSpecificCause().getMessage());
+        }
+        return progress.complete();
+    }
+
+    private void saveBatch(List<ImportRecord> batch, Progress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<TaskImportErrorDTO> errors = new ArrayList<>();
+        long lastLine = batch.get(batch.size() - 1).line();
+        long imported = transactionTemplate.execute(status -> {
+            long created = saveRecords(batch, errors);
+            // Committed with the tasks, so the stored checkpoint never runs ahead of or behind them
+            if (progress.importId != null && taskImportRepository.recordBatch(progress.importId, progress.checkpoint,
+                    lastLine, created, (long) errors.size(), OffsetDateTime.now()) == 0) {
+                throw new ConcurrencyFailureException("Import " + progress.importId
+                        + " was continued by another upload");
+            }
+            return created;
+        });
+
+        // Only counted once the batch has committed, so a resumed import reports each record once
+        progress.batchCommitted(lastLine, imported, errors);
+    }
+
+    // Save the valid records of a batch and add the rejected ones to errors; returns the number created
+    private long saveRecords(List<ImportRecord> batch, List<TaskImportErrorDTO> errors) {
+        Map<String, Integer> userIds = findUserIds(batch);
+        List<TaskDTO> tasks = new ArrayList<>(batch.size());
+        List<Long> lines = new ArrayList<>(batch.size());
+        for (ImportRecord record : batch) {
+            if (record.error() != null) {
+                errors.add(new TaskImportErrorDTO(record.line(), record.error()));
+                continue;
+            }
+            try {
+                tasks.add(toTaskDTO(record.fields(), userIds));
+                lines.add(record.line());
+            } catch (ResourceNotFoundException | IllegalArgumentException e) {
+                errors.add(new TaskImportErrorDTO(record.line(), e.getMessage()));
+            }
+        }
+        if (tasks.isEmpty()) {
+            return 0L;
+        }
+
+        TaskBatchResultDTO result = taskService.saveTasks(tasks);
+        for (TaskBatchItemResultDTO item : result.getResults()) {
+            if (item.getOutcome() == TaskBatchItemResultDTO.Outcome.FAILED) {
+                errors.add(new TaskImportErrorDTO(lines.get(item.getIndex()), item.getError()));
+            }
+        }
+        return result.getCreated();
+    }
+
+    // One query per batch for the users referenced by name
+    private Map<String, Integer> findUserIds(List<ImportRecord> batch) {
+        Set<String> usernames = new HashSet<>();
+        for (ImportRecord record : batch) {
+            if (record.fields() != null && record.fields().get("userid") == null
+                    && record.fields().get("username") != null) {
+                usernames.add(record.fields().get("username"));
+            }
+        }
+        if (usernames.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findByUsernameIn(usernames).stream()
+                .collect(Collectors.toMap(User::getUsername, User::getId));
+    }
+
+    /**
+     * Map the fields of a record to a new task; names are resolved to IDs
+     * here, IDs are checked by {@link TaskService#saveTasks}
+     */
+    private TaskDTO toTaskDTO(Map<String, String> fields, Map<String, Integer> userIds) {
+        TaskDTO task = new TaskDTO();
+        task.setTitle(fields.get("title"));
+        task.setDescription(fields.get("description"));
+        task.setDueDate(parseDate(fields, "duedate"));
+
+        task.setUserId(parseInteger(fields, "userid"));
+        String username = fields.get("username");
+        if (task.getUserId() == null && username != null) {
+            Integer userId = userIds.get(username);
+            if (userId == null) {
+                throw new ResourceNotFoundException("User not found with username: " + username);
+            }
+            task.setUserId(userId);
+        }
+
+        task.setStatusId(parseInteger(fields, "statusid"));
+        String statusName = firstPresent(fields, "statusname", "status");
+        if (task.getStatusId() == null && statusName != null) {
+            task.setStatusId(referenceDataCache.findStatusByName(statusName).map(TaskStatus::getId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Status not found with name: " + statusName)));
+        }
+
+        task.setPriorityId(parseInteger(fields, "priorityid"));
+        task.setPriorityValue(parseInteger(fields, "priorityvalue"));
+        String priorityName = firstPresent(fields, "priorityname", "priority");
+        if (task.getPriorityId() == null && task.getPriorityValue() == null && priorityName != null) {
+            task.setPriorityId(referenceDataCache.findPriorityByName(priorityName).map(TaskPriority::getId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Priority not found with name: " + priorityName)));
+        }
+
+        task.setCategoryId(parseInteger(fields, "categoryid"));
+        String categoryName = firstPresent(fields, "categoryname", "category");
+        if (task.getCategoryId() == null && categoryName != null) {
+            task.setCategoryId(referenceDataCache.findCategoryByName(categoryName).map(TaskCategory::getId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Category not found with name: " + categoryName)));
+        }
+
+        return task;
+    }
+
+    private static String firstPresent(Map<String, String> fields, String... names) {
+        for (String name : names) {
+            if (fields.get(name) != null) {
+                return fields.get(name);
+            }
+        }
+        return null;
+    }
+
+    private static Integer parseInteger(Map<String, String> fields, String name) {
+        String value = fields.get(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    private static LocalDate parseDate(Map<String, String> fields, String name) {
+        String value = fields.get(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid dueDate (expected yyyy-MM-dd): " + value);
+        }
+    }
+
+    /**
+     * A parsed record: its fields keyed by lower-case name (blank values
+     * omitted), or the reason it could not be parsed
+     */
+    private record ImportRecord(long line, Map<String, String> fields, String error) {
+    }
+
+    private interface RecordReader {
+
+        // Next record, null at the end of the upload
+        ImportRecord next() throws IOException;
+    }
+
+    /**
+     * One JSON object per line; blank lines are skipped
+     */
+    private final class NdjsonRecordReader implements RecordReader {
+
+        private final BufferedReader reader;
+        private long line;
+
+        NdjsonRecordReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ImportRecord next() throws IOException {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (!text.isBlank()) {
+                    return parse(text);
+                }
+            }
+            return null;
+        }
+
+        private ImportRecord parse(String text) {
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(text);
+            } catch (JsonProcessingException e) {
+                return new ImportRecord(line, null, "Invalid JSON: " + e.getOriginalMessage());
+            }
+            if (!node.isObject()) {
+                return new ImportRecord(line, null, "Expected a JSON object");
+            }
+            Map<String, String> fields = new HashMap<>();
+            node.fields().forEachRemaining(field -> {
+                JsonNode value = field.getValue();
+                if (!value.isNull()) {
+                    putField(fields, field.getKey(), value.isValueNode() ? value.asText() : value.toString());
+                }
+            });
+            return new ImportRecord(line, fields, null);
+        }
+    }
+
+    /**
+     * RFC 4180 CSV with a header row. Quoted fields may contain commas,
+     * doubled quotes and line breaks; blank lines are skipped.
+     */
+    private static final class CsvRecordReader implements RecordReader {
+
+        private final BufferedReader reader;
+        private List<String> header;
+        // Line the reader is currently on
+        private long line = 1;
+
+        CsvRecordReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ImportRecord next() throws IOException {
+            if (header == null) {
+                List<String> names = readRecord();
+                if (names == null) {
+                    return null;
+                }
+                header = names.stream().map(String::trim).toList();
+            }
+            List<String> values;
+            long start;
+            do {
+                start = line;
+                values = readRecord();
+                if (values == null) {
+                    return null;
+                }
+            } while (values.size() == 1 && values.get(0).isBlank());
+
+            if (values.size() != header.size()) {
+                return new ImportRecord(start, null,
+                        "Expected " + header.size() + " fields but found " + values.size());
+            }
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < values.size(); i++) {
+                putField(fields, header.get(i), values.get(i));
+            }
+            return new ImportRecord(start, fields, null);
+        }
+
+        // Fields of the next record, null at the end of the input
+        private List<String> readRecord() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            long start = line;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            int length = 0;
+            boolean quoted = false;
+            while (true) {
+                if (++length > MAX_RECORD_LENGTH) {
+                    throw new MalformedUploadException(start, "Record longer than " + MAX_RECORD_LENGTH + " characters");
+                }
+                if (c == -1) {
+                    if (quoted) {
+                        throw new MalformedUploadException(start, "Unterminated quoted field");
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (quoted) {
+                    if (c == '"') {
+                        c = reader.read();
+                        if (c != '"') {
+                            quoted = false;
+                            continue;
+                        }
+                    } else if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    line++;
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+    }
+
+    private static void putField(Map<String, String> fields, String name, String value) {
+        if (value != null && !value.isBlank()) {
+            fields.put(name.toLowerCase(Locale.ROOT), value);
+        }
+    }
+
+    /**
+     * The upload cannot be parsed past this point
+     */
+    private static final class MalformedUploadException extends IOException {
+
+        private final long line;
+
+        MalformedUploadException(long line, String message) {
+            super(message);
+            this.line = line;
+        }
+    }
+
+    private static final class Progress {
+
+        // Null unless the progress is also stored
+        private final String importId;
+        private final long resumeAfter;
+        private long imported;
+        private long failed;
+        private long checkpoint;
+        private final List<TaskImportErrorDTO> errors = new ArrayList<>();
+
+        Progress(String importId, long resumeAfter) {
+            this.importId = importId;
+            this.resumeAfter = resumeAfter;
+            this.checkpoint = resumeAfter;
+        }
+
+        void batchCommitted(long lastLine, long batchImported, List<TaskImportErrorDTO> batchErrors) {
+            imported += batchImported;
+            failed += batchErrors.size();
+            checkpoint = lastLine;
+            batchErrors.sort((a, b) -> Long.compare(a.getLine(), b.getLine()));
+            for (TaskImportErrorDTO error : batchErrors) {
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(error);
+                }
+            }
+        }
+
+        TaskImportResultDTO complete() {
+            return new TaskImportResultDTO(imported, failed, checkpoint, true, null, errors);
+        }
+
+        TaskImportResultDTO abort(String reason) {
+            return new TaskImportResultDTO(imported, failed, checkpoint, false, reason, errors);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.task_management_app.service;
+
+import com.example.task_management_app.dto.TaskOverdueChangeDTO;
+import com.example.task_management_app.event.ReferenceDataChangedEvent;
+import com.example.task_management_app.model.TaskStatus;
+import com.example.task_management_app.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Maintains the overdue flag of tasks, so overdue listings read a
+ * precomputed column (covered by a partial index) instead of evaluating
+ * due date and status for every task of a user.
+ *
+ * A task is overdue when its due date is before today and its status is not
+ * one of the completed statuses. Writes through {@link TaskService} set the
+ * flag directly; tasks that cross their due date are flagged by a bulk
+ * refresh shortly after midnight, which also updates the overdue counters
+ * of {@link TaskCounterService}.
+ */
+@Service
+public class TaskOverdueService {
+
+    private final TaskRepository taskRepository;
+    private final TaskCounterService taskCounterService;
+    private final List<String> completedStatuses;
+
+    @Autowired
+    public TaskOverdueService(TaskRepository taskRepository, TaskCounterService taskCounterService,
+            @Value("${task.overdue.completed-statuses:Done}") List<String> completedStatuses) {
+        this.taskRepository = taskRepository;
+        this.taskCounterService = taskCounterService;
+        List<String> names = completedStatuses.stream().map(String::trim).filter(name -> !name.isEmpty()).toList();
+        // An empty IN list is not valid SQL; no status has a blank name, so this matches nothing
+        this.completedStatuses = names.isEmpty() ? List.of("") : names;
+    }
+
+    /**
+     * Whether a task with the given due date and status is overdue today
+     *
+     * @param dueDate Due date, may be null
+     * @param status  Status, may be null
+     * @return true if the due date has passed and the status is not a
+     *         completed one
+     */
+    public boolean isOverdue(LocalDate dueDate, TaskStatus status) {
+        return dueDate != null && dueDate.isBefore(LocalDate.now()) && !isCompleted(status);
+    }
+
+    /**
+     * Whether tasks in the given status count as completed
+     *
+     * @param status Status, may be null
+     * @return true if the status is one of task.overdue.completed-statuses
+     */
+    public boolean isCompleted(TaskStatus status) {
+        return status != null && completedStatuses.contains(status.getName());
+    }
+
+    /**
+     * Recompute the overdue flag of every task with two set-based updates:
+     * flag the tasks that became overdue and clear the ones that no longer
+     * are. Only rows whose flag changes are written, and the overdue
+     * counters of their users move with them.
+     *
+     * @return Number of tasks whose flag changed
+     */
+    @Scheduled(cron = "${task.overdue.refresh-cron:0 1 0 * * *}")
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public int refreshOverdueFlags() {
+        LocalDate today = LocalDate.now();
+        // Counter deltas are taken from the rows about to change; writes committed in between are
+        // corrected by the next reconcile
+        List<TaskOverdueChangeDTO> flagged = taskRepository.countBecomingOverdue(today, completedStatuses);
+        List<TaskOverdueChangeDTO> cleared = taskRepository.countNoLongerOverdue(today, completedStatuses);
+        if (flagged.isEmpty() && cleared.isEmpty()) {
+            return 0;
+        }
+        int changed = taskRepository.flagOverdue(today, completedStatuses)
+                + taskRepository.clearOverdue(today, completedStatuses);
+        taskCounterService.overdueChanged(flagged, cleared);
+        return changed;
+    }
+
+    // A renamed status may enter or leave the completed set
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        if (event.getEntityType() == TaskStatus.class) {
+            refreshOverdueFlags();
+        }
+    }
+}
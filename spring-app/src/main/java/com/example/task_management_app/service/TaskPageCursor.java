@@ -0,0 +1,69 @@
+package com.example.task_management_app.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position within a task listing, serialized as an opaque URL-safe
+ * token. The token carries the sort key it was issued for so that a cursor
+ * from one ordering cannot be replayed against another.
+ */
+final class TaskPageCursor {
+
+    static final String SORT_ID = "id";
+    static final String SORT_DUE_DATE = "dueDate";
+
+    private final String sort;
+    private final LocalDate dueDate;
+    private final Integer id;
+
+    TaskPageCursor(String sort, LocalDate dueDate, Integer id) {
+        this.sort = sort;
+        this.dueDate = dueDate;
+        this.id = id;
+    }
+
+    String getSort() {
+        return sort;
+    }
+
+    /**
+     * Due date of the last task on the previous page, null if that task had no due date
+     */
+    LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    Integer getId() {
+        return id;
+    }
+
+    String encode() {
+        String raw = sort + "|" + (dueDate != null ? dueDate.toString() : "") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor token
+     *
+     * @param token        Token returned by a previous page
+     * @param expectedSort Sort key of the current request
+     * @return Decoded cursor
+     * @throws IllegalArgumentException if the token is malformed or was issued for another sort
+     */
+    static TaskPageCursor decode(String token, String expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 || !parts[0].equals(expectedSort)) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            LocalDate dueDate = parts[1].isEmpty() ? null : LocalDate.parse(parts[1]);
+            return new TaskPageCursor(parts[0], dueDate, Integer.valueOf(parts[2]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.task_management_app.service;
 
 import com.example.task_management_app.dto.TaskPriorityDTO;
+import com.example.task_management_app.event.ReferenceDataChangedEvent;
 import com.example.task_management_app.exception.ResourceNotFoundException;
 import com.example.task_management_app.model.TaskPriority;
 import com.example.task_management_app.repository.TaskPriorityRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,10 +17,12 @@ import java.util.stream.Collectors;
 public class TaskPriorityService {
 
     private final TaskPriorityRepository taskPriorityRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public TaskPriorityService(TaskPriorityRepository taskPriorityRepository) {
+    public TaskPriorityService(TaskPriorityRepository taskPriorityRepository, ApplicationEventPublisher eventPublisher) {
         this.taskPriorityRepository = taskPriorityRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -89,6 +93,7 @@ public class TaskPriorityService {
 
         TaskPriority taskPriority = convertToEntity(taskPriorityDTO);
         TaskPriority savedTaskPriority = taskPriorityRepository.save(taskPriority);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(TaskPriority.class));
         return convertToDTO(savedTaskPriority);
     }
 
@@ -123,6 +128,7 @@ public class TaskPriorityService {
         existingTaskPriority.setDisplayOrder(taskPriorityDTO.getDisplayOrder());
 
         TaskPriority updatedTaskPriority = taskPriorityRepository.save(existingTaskPriority);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(TaskPriority.class));
         return convertToDTO(updatedTaskPriority);
     }
 
@@ -137,6 +143,7 @@ public class TaskPriorityService {
             throw new ResourceNotFoundException("Task priority not found with id: " + id);
         }
         taskPriorityRepository.deleteById(id);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(TaskPriority.class));
     }
 
     /**
@@ -0,0 +1,206 @@
+package com.example.task_management_app.service;
+
+import com.example.task_management_app.dto.TaskDTO;
+import com.example.task_management_app.dto.TaskSearchHitDTO;
+import com.example.task_management_app.dto.TaskSearchPageDTO;
+import com.example.task_management_app.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ranked search over task titles and descriptions.
+ *
+ * The engine is chosen with task.search.mode:
+ * <ul>
+ * <li>fulltext - PostgreSQL full-text search on the generated
+ * tasks.search_vector column (GIN indexed), ranked with ts_rank_cd and
+ * highlighted with ts_headline. Matches whole words with stemming.</li>
+ * <li>trigram - PostgreSQL pg_trgm: substring (ILIKE) and fuzzy title
+ * matches served by the trigram GIN indexes, ranked by similarity.</li>
+ * <li>portable - plain JPQL LIKE that runs on any database (used by the H2
+ * tests). Scans the table, not meant for production data sizes.</li>
+ * </ul>
+ */
+@Service
+@Transactional(readOnly = true)
+public class TaskSearchService {
+
+    public static final int DEFAULT_SEARCH_SIZE = 20;
+    public static final int MAX_SEARCH_SIZE = 100;
+
+    // Longest description fragment returned when highlighting in Java
+    private static final int DESCRIPTION_FRAGMENT_LENGTH = 200;
+
+    // The inner query ranks and pages on the index alone; ts_headline is
+    // expensive, so it only runs for the rows of the requested page
+    private static final String FULLTEXT_SEARCH = "SELECT m.task_id, m.rank,"
+            + " ts_headline('english', t.title, m.query,"
+            + "     'StartSel=" + SearchHighlighter.START_SEL + ", StopSel=" + SearchHighlighter.STOP_SEL
+            + ", HighlightAll=true'),"
+            + " ts_headline('english', t.description, m.query,"
+            + "     'StartSel=" + SearchHighlighter.START_SEL + ", StopSel=" + SearchHighlighter.STOP_SEL
+            + ", MaxFragments=2, MaxWords=25, MinWords=8')"
+            + " FROM (SELECT t.task_id, q.query, ts_rank_cd(t.search_vector, q.query) AS rank"
+            + "     FROM tasks t, websearch_to_tsquery('english', :query) AS q(query)"
+            + "     WHERE t.search_vector @@ q.query"
+            + "     ORDER BY rank DESC, t.task_id ASC"
+            + "     LIMIT :limit OFFSET :offset) m"
+            + " JOIN tasks t ON t.task_id = m.task_id"
+            + " ORDER BY m.rank DESC, m.task_id ASC";
+
+    private static final String TRIGRAM_SEARCH = "SELECT t.task_id,"
+            + " GREATEST(similarity(t.title, :query), word_similarity(:query, COALESCE(t.description, ''))) AS rank"
+            + " FROM tasks t"
+            + " WHERE t.title ILIKE :pattern OR t.description ILIKE :pattern OR t.title % :query"
+            + " ORDER BY rank DESC, t.task_id ASC"
+            + " LIMIT :limit OFFSET :offset";
+
+    public enum Mode {
+        FULLTEXT, TRIGRAM, PORTABLE
+    }
+
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final TaskAssignmentService taskAssignmentService;
+    private final Mode mode;
+
+    @Autowired
+    public TaskSearchService(TaskRepository taskRepository, EntityManager entityManager,
+            TaskAssignmentService taskAssignmentService, @Value("${task.search.mode:fulltext}") String mode) {
+        this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.taskAssignmentService = taskAssignmentService;
+        this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Search tasks by title and description
+     * 
+     * @param query Search text; in fulltext mode supports "quoted phrases", OR
+     *              and -excluded words
+     * @param page  Zero-based page number
+     * @param size  Page size, clamped to [1, {@value #MAX_SEARCH_SIZE}]
+     * @return Page of hits, best matches first
+     */
+    public TaskSearchPageDTO search(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be empty");
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_SIZE));
+        String text = query.trim();
+
+        if (mode == Mode.PORTABLE) {
+            return searchPortable(text, page, pageSize);
+        }
+
+        // One extra row tells whether another page exists
+        List<TaskSearchHitDTO> hits = mode == Mode.FULLTEXT
+                ? searchFullText(text, page * pageSize, pageSize + 1)
+                : searchTrigram(text, page * pageSize, pageSize + 1);
+        boolean hasMore = hits.size() > pageSize;
+        if (hasMore) {
+            hits = hits.subList(0, pageSize);
+        }
+        return new TaskSearchPageDTO(new ArrayList<>(hits), page, pageSize, hasMore);
+    }
+
+    private List<TaskSearchHitDTO> searchFullText(String query, int offset, int limit) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(FULLTEXT_SEARCH)
+                .setParameter("query", query)
+                .setParameter("limit", limit)
+                .setParameter("offset", offset)
+                .getResultList();
+
+        Map<Integer, TaskDTO> tasks = loadTasks(rows);
+        List<TaskSearchHitDTO> hits = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            TaskDTO task = tasks.get(((Number) row[0]).intValue());
+            if (task != null) {
+                hits.add(new TaskSearchHitDTO(task, ((Number) row[1]).doubleValue(),
+                        SearchHighlighter.fromHeadline((String) row[2]),
+                        SearchHighlighter.fromHeadline((String) row[3])));
+            }
+        }
+        return hits;
+    }
+
+    private List<TaskSearchHitDTO> searchTrigram(String query, int offset, int limit) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(TRIGRAM_SEARCH)
+                .setParameter("query", query)
+                .setParameter("pattern", containsPattern(query))
+                .setParameter("limit", limit)
+                .setParameter("offset", offset)
+                .getResultList();
+
+        Map<Integer, TaskDTO> tasks = loadTasks(rows);
+        List<String> terms = SearchHighlighter.terms(query);
+        List<TaskSearchHitDTO> hits = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            TaskDTO task = tasks.get(((Number) row[0]).intValue());
+            if (task != null) {
+                hits.add(highlighted(task, ((Number) row[1]).doubleValue(), terms));
+            }
+        }
+        return hits;
+    }
+
+    private TaskSearchPageDTO searchPortable(String query, int page, int pageSize) {
+        String pattern = containsPattern(query.toLowerCase(Locale.ROOT));
+        Slice<TaskDTO> tasks = taskRepository.findDtosMatching(pattern, PageRequest.of(page, pageSize));
+        taskAssignmentService.loadAssignees(tasks.getContent());
+
+        List<String> terms = SearchHighlighter.terms(query);
+        String needle = query.toLowerCase(Locale.ROOT);
+        List<TaskSearchHitDTO> hits = tasks.stream()
+                .map(task -> {
+                    // Same ordering as the query: title matches rank above description-only matches
+                    double rank = task.getTitle() != null && task.getTitle().toLowerCase(Locale.ROOT).contains(needle)
+                            ? 1.0
+                            : 0.5;
+                    return highlighted(task, rank, terms);
+                })
+                .toList();
+        return new TaskSearchPageDTO(new ArrayList<>(hits), page, pageSize, tasks.hasNext());
+    }
+
+    // Fetch the matched tasks in one projection query, and their assignees in another
+    private Map<Integer, TaskDTO> loadTasks(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+        List<Integer> ids = rows.stream().map(row -> ((Number) row[0]).intValue()).toList();
+        List<TaskDTO> tasks = taskRepository.findDtosByIdIn(ids);
+        taskAssignmentService.loadAssignees(tasks);
+        return tasks.stream()
+                .collect(Collectors.toMap(TaskDTO::getId, Function.identity()));
+    }
+
+    private static TaskSearchHitDTO highlighted(TaskDTO task, double rank, List<String> terms) {
+        return new TaskSearchHitDTO(task, rank,
+                SearchHighlighter.highlight(task.getTitle(), terms, Integer.MAX_VALUE),
+                SearchHighlighter.highlight(task.getDescription(), terms, DESCRIPTION_FRAGMENT_LENGTH));
+    }
+
+    // LIKE pattern matching the text anywhere, with wildcards in the text escaped
+    private static String containsPattern(String text) {
+        String escaped = text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -1,54 +1,154 @@
 package com.example.task_management_app.service;
 
+import com.example.task_management_app.dto.TaskBatchItemResultDTO;
+import com.example.task_management_app.dto.TaskBatchItemResultDTO.Outcome;
+import com.example.task_management_app.dto.TaskBatchResultDTO;
+import com.example.task_management_app.dto.TaskBulkUpdateDTO;
+import com.example.task_management_app.dto.TaskBulkUpdateResultDTO;
 import com.example.task_management_app.dto.TaskDTO;
+import com.example.task_management_app.dto.TaskFilterDTO;
+import com.example.task_management_app.dto.TaskPageDTO;
+import com.example.task_management_app.dto.TaskStampDTO;
+import com.example.task_management_app.dto.TaskStatsDTO;
+import com.example.task_management_app.dto.TaskStatusChangeDTO;
+import com.example.task_management_app.dto.UserTaskStatsDTO;
+import com.example.task_management_app.event.TaskChangedEvent;
+import com.example.task_management_app.exception.PreconditionFailedException;
 import com.example.task_management_app.exception.ResourceNotFoundException;
 import com.example.task_management_app.model.Task;
 import com.example.task_management_app.model.TaskCategory;
 import com.example.task_management_app.model.TaskPriority;
 import com.example.task_management_app.model.TaskStatus;
+import com.example.task_management_app.service.TaskCounterService.Contribution;
 import com.example.task_management_app.model.User;
-import com.example.task_management_app.repository.TaskCategoryRepository;
-import com.example.task_management_app.repository.TaskPriorityRepository;
 import com.example.task_management_app.repository.TaskRepository;
-import com.example.task_management_app.repository.TaskStatusRepository;
 import com.example.task_management_app.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class TaskService {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    // TaskDTO fields a merge patch may set; the others are derived or read-only
+    private static final Set<String> PATCHABLE_FIELDS = Set.of("title", "description", "dueDate", "priorityId",
+            "userId", "statusId", "categoryId");
+
+    private static final int MAX_STATUS_UPDATE_ATTEMPTS = 3;
+
+    /**
+     * A task together with the entity tag of its representation
+     */
+    public record TaggedTask(TaskDTO task, String eTag) {
+    }
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
-    private final TaskStatusRepository taskStatusRepository;
-    private final TaskCategoryRepository taskCategoryRepository;
-    private final TaskPriorityRepository taskPriorityRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final Validator validator;
+    private final TaskCounterService taskCounterService;
+    private final TaskOverdueService taskOverdueService;
+    private final TaskAttachmentService taskAttachmentService;
+    private final TaskAssignmentService taskAssignmentService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public TaskService(TaskRepository taskRepository,
             UserRepository userRepository,
-            TaskStatusRepository taskStatusRepository,
-            TaskCategoryRepository taskCategoryRepository,
-            TaskPriorityRepository taskPriorityRepository) {
+            ReferenceDataCache referenceDataCache,
+            Validator validator,
+            TaskCounterService taskCounterService,
+            TaskOverdueService taskOverdueService,
+            TaskAttachmentService taskAttachmentService,
+            TaskAssignmentService taskAssignmentService,
+            ApplicationEventPublisher eventPublisher) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
-        this.taskStatusRepository = taskStatusRepository;
-        this.taskCategoryRepository = taskCategoryRepository;
-        this.taskPriorityRepository = taskPriorityRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.validator = validator;
+        this.taskCounterService = taskCounterService;
+        this.taskOverdueService = taskOverdueService;
+        this.taskAttachmentService = taskAttachmentService;
+        this.taskAssignmentService = taskAssignmentService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
-     * Get all tasks
+     * Get a page of tasks using keyset pagination. Each page seeks directly to
+     * the position encoded in the cursor, so deep pages cost the same as the
+     * first one.
      * 
-     * @return List of task DTOs
+     * @param filter Optional filters
+     * @param cursor Cursor from the previous page, null for the first page
+     * @param limit  Maximum number of tasks to return, clamped to
+     *               [1, {@value #MAX_PAGE_SIZE}]
+     * @param sort   "id" or "dueDate" (tasks without a due date come last)
+     * @return Page of task DTOs
      */
-    public List<TaskDTO> getAllTasks() {
-        return taskRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public TaskPageDTO getTasksPage(TaskFilterDTO filter, String cursor, int limit, String sort) {
+        if (!TaskPageCursor.SORT_ID.equals(sort) && !TaskPageCursor.SORT_DUE_DATE.equals(sort)) {
+            throw new IllegalArgumentException("Unsupported sort: " + sort);
+        }
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        TaskPageCursor after = cursor != null && !cursor.isEmpty() ? TaskPageCursor.decode(cursor, sort) : null;
+
+        // Fetch one extra row to find out whether another page exists
+        List<TaskDTO> tasks;
+        if (TaskPageCursor.SORT_ID.equals(sort)) {
+            tasks = taskRepository.findPageOrderById(filter.getUserId(), filter.getStatusId(),
+                    filter.getCategoryId(), filter.getPriorityId(), filter.getDueFrom(), filter.getDueTo(),
+                    after != null ? after.getId() : null, PageRequest.of(0, pageSize + 1));
+        } else if (after == null || after.getDueDate() != null) {
+            tasks = new ArrayList<>(taskRepository.findDatedPageOrderByDueDate(filter.getUserId(),
+                    filter.getStatusId(), filter.getCategoryId(), filter.getPriorityId(), filter.getDueFrom(),
+                    filter.getDueTo(), after != null ? after.getDueDate() : null,
+                    after != null ? after.getId() : null, PageRequest.of(0, pageSize + 1)));
+            if (tasks.size() <= pageSize) {
+                tasks.addAll(taskRepository.findUndatedPageOrderById(filter.getUserId(), filter.getStatusId(),
+                        filter.getCategoryId(), filter.getPriorityId(), filter.getDueFrom(), filter.getDueTo(),
+                        null, PageRequest.of(0, pageSize + 1 - tasks.size())));
+            }
+        } else {
+            tasks = taskRepository.findUndatedPageOrderById(filter.getUserId(), filter.getStatusId(),
+                    filter.getCategoryId(), filter.getPriorityId(), filter.getDueFrom(), filter.getDueTo(),
+                    after.getId(), PageRequest.of(0, pageSize + 1));
+        }
+
+        boolean hasMore = tasks.size() > pageSize;
+        List<TaskDTO> items = hasMore ? new ArrayList<>(tasks.subList(0, pageSize)) : tasks;
+
+        String nextCursor = null;
+        if (hasMore) {
+            TaskDTO last = items.get(items.size() - 1);
+            nextCursor = new TaskPageCursor(sort, last.getDueDate(), last.getId()).encode();
+        }
+        taskAssignmentService.loadAssignees(items);
+        return new TaskPageDTO(items, nextCursor, hasMore);
     }
 
     /**
@@ -58,9 +158,24 @@ public class TaskService {
      * @return Task DTO
      */
     public TaskDTO getTaskById(Integer id) {
-        Task task = taskRepository.findById(id)
+        TaskDTO task = taskRepository.findDtoById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
-        return convertToDTO(task);
+        return withAssignees(task);
+    }
+
+    /**
+     * Get the entity tag of a task, for conditional requests. Changes when
+     * the task, its user's name, its comment count or any reference data
+     * changes, and is computed without loading the task.
+     * 
+     * @param id Task ID
+     * @return Opaque entity tag
+     */
+    @Transactional(readOnly = true)
+    public String getTaskETag(Integer id) {
+        TaskStampDTO stamp = taskRepository.findStampById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        return taskETag(id, stamp.getTaskVersion(), stamp.getUsername(), stamp.getCommentCount());
     }
 
     /**
@@ -70,16 +185,50 @@ public class TaskService {
      * @return List of task DTOs
      */
     public List<TaskDTO> getTasksByUserId(Integer userId) {
-        if (!userRepository.existsById(userId)) {
+        List<TaskDTO> tasks = taskRepository.findDtosByUserId(userId);
+        // Only an empty result can mean the user does not exist
+        if (tasks.isEmpty() && !userRepository.existsById(userId)) {
             throw new ResourceNotFoundException("User not found with id: " + userId);
         }
-        return taskRepository.findByUserId(userId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        taskAssignmentService.loadAssignees(tasks);
+        return tasks;
     }
 
     /**
-     * Create a new task
+     * Get task counts for dashboards. Each breakdown is a single GROUP BY
+     * query and the totals are summed from the per-user rows.
+     * 
+     * @param userId Restrict all counts to this user, null for all tasks
+     * @return Aggregated task statistics
+     */
+    public TaskStatsDTO getTaskStats(Integer userId) {
+        if (userId != null && !userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate weekEnd = today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        List<UserTaskStatsDTO> byUser = taskRepository.countByUser(userId, today, weekEnd);
+
+        long total = 0;
+        long overdue = 0;
+        long dueThisWeek = 0;
+        for (UserTaskStatsDTO userStats : byUser) {
+            total += userStats.getTotal();
+            overdue += userStats.getOverdue();
+            dueThisWeek += userStats.getDueThisWeek();
+        }
+
+        return new TaskStatsDTO(total, overdue, dueThisWeek,
+                taskRepository.countByStatus(userId),
+                taskRepository.countByPriority(userId),
+                taskRepository.countByCategory(userId),
+                byUser);
+    }
+
+    /**
+     * Create a new task. The ID is assigned by the database; one set in the
+     * DTO is ignored.
      * 
      * @param taskDTO Task DTO
      * @return Created task DTO
@@ -87,8 +236,156 @@ public class TaskService {
     @Transactional
     public TaskDTO createTask(TaskDTO taskDTO) {
         Task task = convertToEntity(taskDTO);
+        updateOverdue(task);
         Task savedTask = taskRepository.save(task);
-        return convertToDTO(savedTask);
+        taskCounterService.taskChanged(null, taskCounterService.contributionOf(savedTask));
+        TaskDTO createdTask = convertToDTO(savedTask);
+        // A new task has no assignees yet
+        createdTask.setAssignees(new ArrayList<>());
+        publishChange(TaskChangedEvent.Type.CREATED, createdTask, null);
+        return createdTask;
+    }
+
+    /**
+     * Create and update tasks in one transaction. Items with an ID update that
+     * task, items without one are created. Users and existing tasks are loaded
+     * with one query each and reference data comes from the cache, so the cost
+     * is dominated by the batched INSERT/UPDATE statements.
+     * 
+     * Invalid items (failed validation, unknown task or reference ID) are
+     * reported in the result and skipped; the remaining items are still saved.
+     * 
+     * @param taskDTOs Tasks to save, at most {@value #MAX_BATCH_SIZE}
+     * @return Per-item outcome in request order
+     */
+    @Transactional
+    public TaskBatchResultDTO saveTasks(List<TaskDTO> taskDTOs) {
+        if (taskDTOs == null || taskDTOs.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one task");
+        }
+        if (taskDTOs.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch must contain at most " + MAX_BATCH_SIZE + " tasks");
+        }
+
+        Map<Integer, User> users = userRepository.findAllById(collectIds(taskDTOs, TaskDTO::getUserId)).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Integer, Task> existingTasks = taskRepository.findAllById(collectIds(taskDTOs, TaskDTO::getId)).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        TaskBatchItemResultDTO[] results = new TaskBatchItemResultDTO[taskDTOs.size()];
+        Task[] savedTasks = new Task[taskDTOs.size()];
+        Integer[] previousUserIds = new Integer[taskDTOs.size()];
+        List<Task> newTasks = new ArrayList<>();
+        List<Contribution[]> counterChanges = new ArrayList<>();
+
+        for (int i = 0; i < taskDTOs.size(); i++) {
+            TaskDTO taskDTO = taskDTOs.get(i);
+            try {
+                validateBatchItem(taskDTO);
+                Task task = taskDTO.getId() == null ? new Task() : existingTasks.get(taskDTO.getId());
+                if (task == null) {
+                    throw new ResourceNotFoundException("Task not found with id: " + taskDTO.getId());
+                }
+                Contribution before = task.getId() == null ? null : taskCounterService.contributionOf(task);
+                previousUserIds[i] = userIdOf(task);
+                applyBatchItem(task, taskDTO, users);
+                updateOverdue(task);
+                if (task.getId() == null) {
+                    newTasks.add(task);
+                }
+                counterChanges.add(new Contribution[] { before, taskCounterService.contributionOf(task) });
+                savedTasks[i] = task;
+            } catch (ResourceNotFoundException | IllegalArgumentException e) {
+                results[i] = new TaskBatchItemResultDTO(i, Outcome.FAILED, null, e.getMessage());
+            }
+        }
+
+        // Sequence IDs are allocated in blocks, so these go out as batched inserts;
+        // modified existing tasks are flushed as batched updates
+        taskRepository.saveAll(newTasks);
+        taskRepository.flush();
+        taskCounterService.tasksChanged(counterChanges);
+
+        int created = 0;
+        int updated = 0;
+        for (int i = 0; i < savedTasks.length; i++) {
+            if (savedTasks[i] == null) {
+                continue;
+            }
+            Outcome outcome = taskDTOs.get(i).getId() == null ? Outcome.CREATED : Outcome.UPDATED;
+            if (outcome == Outcome.CREATED) {
+                created++;
+            } else {
+                updated++;
+            }
+            results[i] = new TaskBatchItemResultDTO(i, outcome, convertToDTO(savedTasks[i]), null);
+        }
+        taskAssignmentService.loadAssignees(Arrays.stream(results)
+                .filter(result -> result.getTask() != null)
+                .map(TaskBatchItemResultDTO::getTask)
+                .toList());
+        for (int i = 0; i < results.length; i++) {
+            if (results[i].getTask() != null) {
+                publishChange(results[i].getOutcome() == Outcome.CREATED ? TaskChangedEvent.Type.CREATED
+                        : TaskChangedEvent.Type.UPDATED, results[i].getTask(), previousUserIds[i]);
+            }
+        }
+
+        return new TaskBatchResultDTO(created, updated, taskDTOs.size() - created - updated, List.of(results));
+    }
+
+    /**
+     * Set the status, priority and/or category of many tasks with a single
+     * UPDATE statement, instead of loading and saving them one by one.
+     * Tasks that already have all the given values are not rewritten.
+     * 
+     * @param request Tasks to change (IDs or filter) and the new values
+     * @return Number of tasks changed
+     */
+    @Transactional
+    public TaskBulkUpdateResultDTO bulkUpdateTasks(TaskBulkUpdateDTO request) {
+        List<Integer> taskIds = request.getTaskIds();
+        TaskFilterDTO filter = request.getFilter();
+        if ((taskIds == null) == (filter == null)) {
+            throw new IllegalArgumentException("Exactly one of taskIds and filter is required");
+        }
+        if (taskIds != null && (taskIds.isEmpty() || taskIds.size() > MAX_BATCH_SIZE)) {
+            throw new IllegalArgumentException("taskIds must contain between 1 and " + MAX_BATCH_SIZE + " IDs");
+        }
+        if (filter != null && filter.equals(new TaskFilterDTO())) {
+            throw new IllegalArgumentException("filter must restrict at least one field");
+        }
+        if (request.getStatusId() == null && request.getPriorityId() == null && request.getCategoryId() == null) {
+            throw new IllegalArgumentException("At least one of statusId, priorityId and categoryId is required");
+        }
+
+        TaskStatus status = request.getStatusId() == null ? null
+                : referenceDataCache.findStatus(request.getStatusId()).orElseThrow(
+                        () -> new ResourceNotFoundException("Status not found with id: " + request.getStatusId()));
+        TaskPriority priority = request.getPriorityId() == null ? null
+                : referenceDataCache.findPriority(request.getPriorityId()).orElseThrow(
+                        () -> new ResourceNotFoundException("Priority not found with id: " + request.getPriorityId()));
+        TaskCategory category = request.getCategoryId() == null ? null
+                : referenceDataCache.findCategory(request.getCategoryId()).orElseThrow(
+                        () -> new ResourceNotFoundException("Category not found with id: " + request.getCategoryId()));
+
+        // Counter deltas are taken from the rows about to change; writes committed in between are
+        // corrected by the next reconcile
+        boolean statusCompleted = taskOverdueService.isCompleted(status);
+        OffsetDateTime now = OffsetDateTime.now();
+        List<TaskStatusChangeDTO> moved = status == null ? List.of()
+                : taskRepository.countStatusChanges(taskIds, filter, status, statusCompleted, now.toLocalDate());
+        // Taken before the update, which may move tasks out of a status filter
+        Set<Integer> userIds = new HashSet<>(taskRepository.findUserIds(taskIds, filter));
+        int updated = taskRepository.bulkUpdate(taskIds, filter, status, statusCompleted, priority, category, now);
+        if (!moved.isEmpty()) {
+            taskCounterService.statusesChanged(moved, status.getId());
+        }
+        if (updated > 0) {
+            eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.BULK_UPDATED, null, userIds));
+        }
+        int statusChanged = moved.stream().mapToInt(group -> group.getTaskCount().intValue()).sum();
+        return new TaskBulkUpdateResultDTO(updated, statusChanged);
     }
 
     /**
@@ -100,15 +397,37 @@ public class TaskService {
      */
     @Transactional
     public TaskDTO updateTask(Integer id, TaskDTO taskDTO) {
+        return updateTask(id, taskDTO, null).task();
+    }
+
+    /**
+     * Update an existing task, provided it is still in the state the client
+     * last read. The check is repeated by the version column when the
+     * update is flushed, so a concurrent update that commits in between is
+     * detected as well.
+     * 
+     * @param id      Task ID
+     * @param taskDTO Task DTO
+     * @param ifMatch If-Match header value, null for an unconditional update
+     * @return Updated task DTO and its new entity tag
+     * @throws PreconditionFailedException if the task no longer matches
+     */
+    @Transactional
+    public TaggedTask updateTask(Integer id, TaskDTO taskDTO, String ifMatch) {
         Task existingTask = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        if (ifMatch != null && !ifMatchSatisfied(ifMatch, eTagOf(existingTask))) {
+            throw new PreconditionFailedException("Task has been modified since it was read, id: " + id);
+        }
+        Contribution before = taskCounterService.contributionOf(existingTask);
+        Integer previousUserId = userIdOf(existingTask);
 
         existingTask.setTitle(taskDTO.getTitle());
         existingTask.setDescription(taskDTO.getDescription());
         existingTask.setDueDate(taskDTO.getDueDate());
 
         if (taskDTO.getPriorityId() != null) {
-            TaskPriority priority = taskPriorityRepository.findById(taskDTO.getPriorityId())
+            TaskPriority priority = referenceDataCache.findPriority(taskDTO.getPriorityId())
                     .orElseThrow(() -> new ResourceNotFoundException(
                             "Priority not found with id: " + taskDTO.getPriorityId()));
             existingTask.setPriority(priority);
@@ -121,21 +440,163 @@ public class TaskService {
         }
 
         if (taskDTO.getStatusId() != null) {
-            TaskStatus status = taskStatusRepository.findById(taskDTO.getStatusId())
+            TaskStatus status = referenceDataCache.findStatus(taskDTO.getStatusId())
                     .orElseThrow(
                             () -> new ResourceNotFoundException("Status not found with id: " + taskDTO.getStatusId()));
             existingTask.setStatus(status);
         }
 
         if (taskDTO.getCategoryId() != null) {
-            TaskCategory category = taskCategoryRepository.findById(taskDTO.getCategoryId())
+            TaskCategory category = referenceDataCache.findCategory(taskDTO.getCategoryId())
                     .orElseThrow(() -> new ResourceNotFoundException(
                             "Category not found with id: " + taskDTO.getCategoryId()));
             existingTask.setCategory(category);
         }
 
-        Task updatedTask = taskRepository.save(existingTask);
-        return convertToDTO(updatedTask);
+        updateOverdue(existingTask);
+        Task updatedTask = flushUpdate(existingTask, ifMatch);
+        taskCounterService.taskChanged(before, taskCounterService.contributionOf(updatedTask));
+        TaskDTO updatedDTO = withAssignees(convertToDTO(updatedTask));
+        publishChange(TaskChangedEvent.Type.UPDATED, updatedDTO, previousUserId);
+        return new TaggedTask(updatedDTO, eTagOf(updatedTask));
+    }
+
+    /**
+     * Apply a JSON Merge Patch (RFC 7396) to a task. Fields in the patch are
+     * set, null clears them, absent fields are left alone, and only columns
+     * whose value actually changes are written. A patch that only sets the
+     * status is applied as a single conditional UPDATE without loading the
+     * task.
+     * 
+     * @param id      Task ID
+     * @param patch   Patch document, keyed by {@link TaskDTO} field names
+     * @param ifMatch If-Match header value, null for an unconditional update
+     * @return Updated task DTO and its new entity tag
+     * @throws PreconditionFailedException if the task no longer matches
+     */
+    @Transactional
+    public TaggedTask patchTask(Integer id, Map<String, Object> patch, String ifMatch) {
+        for (String field : patch.keySet()) {
+            if (!PATCHABLE_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Field cannot be patched: " + field);
+            }
+        }
+        if (patch.size() == 1 && patch.get("statusId") != null) {
+            return changeStatus(id, patchId(patch, "statusId"), ifMatch);
+        }
+
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        if (ifMatch != null && !ifMatchSatisfied(ifMatch, eTagOf(task))) {
+            throw new PreconditionFailedException("Task has been modified since it was read, id: " + id);
+        }
+        Contribution before = taskCounterService.contributionOf(task);
+        Integer previousUserId = userIdOf(task);
+
+        if (patch.containsKey("title")) {
+            task.setTitle(patchTitle(patch.get("title")));
+        }
+        if (patch.containsKey("description")) {
+            task.setDescription(patchString(patch, "description"));
+        }
+        if (patch.containsKey("dueDate")) {
+            String dueDate = patchString(patch, "dueDate");
+            try {
+                task.setDueDate(dueDate == null ? null : LocalDate.parse(dueDate));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid dueDate: " + dueDate);
+            }
+        }
+        if (patch.containsKey("priorityId")) {
+            Integer priorityId = patchId(patch, "priorityId");
+            task.setPriority(priorityId == null ? null
+                    : referenceDataCache.findPriority(priorityId).orElseThrow(
+                            () -> new ResourceNotFoundException("Priority not found with id: " + priorityId)));
+        }
+        if (patch.containsKey("userId")) {
+            Integer userId = patchId(patch, "userId");
+            task.setUser(userId == null ? null
+                    : userRepository.findById(userId).orElseThrow(
+                            () -> new ResourceNotFoundException("User not found with id: " + userId)));
+        }
+        if (patch.containsKey("statusId")) {
+            Integer statusId = patchId(patch, "statusId");
+            task.setStatus(statusId == null ? null
+                    : referenceDataCache.findStatus(statusId).orElseThrow(
+                            () -> new ResourceNotFoundException("Status not found with id: " + statusId)));
+        }
+        if (patch.containsKey("categoryId")) {
+            Integer categoryId = patchId(patch, "categoryId");
+            task.setCategory(categoryId == null ? null
+                    : referenceDataCache.findCategory(categoryId).orElseThrow(
+                            () -> new ResourceNotFoundException("Category not found with id: " + categoryId)));
+        }
+
+        updateOverdue(task);
+        Task updatedTask = flushUpdate(task, ifMatch);
+        taskCounterService.taskChanged(before, taskCounterService.contributionOf(updatedTask));
+        TaskDTO updatedDTO = withAssignees(convertToDTO(updatedTask));
+        publishChange(TaskChangedEvent.Type.UPDATED, updatedDTO, previousUserId);
+        return new TaggedTask(updatedDTO, eTagOf(updatedTask));
+    }
+
+    // Status-only fast path: read the narrow stamp, then UPDATE ... WHERE task_id = ? AND version = ?
+    private TaggedTask changeStatus(Integer id, Integer statusId, String ifMatch) {
+        TaskStatus status = referenceDataCache.findStatus(statusId)
+                .orElseThrow(() -> new ResourceNotFoundException("Status not found with id: " + statusId));
+        for (int attempt = 1;; attempt++) {
+            TaskStampDTO stamp = taskRepository.findStampById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+            if (ifMatch != null
+                    && !ifMatchSatisfied(ifMatch, taskETag(id, stamp.getTaskVersion(), stamp.getUsername(),
+                            stamp.getCommentCount()))) {
+                throw new PreconditionFailedException("Task has been modified since it was read, id: " + id);
+            }
+
+            long version = stamp.getTaskVersion();
+            boolean changed = !statusId.equals(stamp.getStatusId());
+            if (changed) {
+                boolean overdue = taskOverdueService.isOverdue(stamp.getDueDate(), status);
+                if (taskRepository.updateStatus(id, version, status, overdue, OffsetDateTime.now()) == 0) {
+                    // Changed by someone else since the stamp was read: re-read unless the client pinned a version
+                    if (ifMatch != null) {
+                        throw new PreconditionFailedException("Task has been modified since it was read, id: " + id);
+                    }
+                    if (attempt == MAX_STATUS_UPDATE_ATTEMPTS) {
+                        throw new ObjectOptimisticLockingFailureException(Task.class, id);
+                    }
+                    continue;
+                }
+                version++;
+                taskCounterService.taskChanged(
+                        taskCounterService.contributionOf(stamp.getUserId(), stamp.getStatusId(), stamp.isOverdue()),
+                        taskCounterService.contributionOf(stamp.getUserId(), statusId, overdue));
+            }
+            TaskDTO task = taskRepository.findDtoById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+            withAssignees(task);
+            if (changed) {
+                publishChange(TaskChangedEvent.Type.UPDATED, task, null);
+            }
+            return new TaggedTask(task, taskETag(id, version, stamp.getUsername(), stamp.getCommentCount()));
+        }
+    }
+
+    // The flag is derived from the due date and status, so every write path recomputes it
+    private void updateOverdue(Task task) {
+        task.setOverdue(taskOverdueService.isOverdue(task.getDueDate(), task.getStatus()));
+    }
+
+    // Flush here so that a lost version check surfaces in the caller and the new version is known
+    private Task flushUpdate(Task task, String ifMatch) {
+        try {
+            return taskRepository.saveAndFlush(task);
+        } catch (OptimisticLockingFailureException e) {
+            if (ifMatch == null) {
+                throw e;
+            }
+            throw new PreconditionFailedException("Task has been modified since it was read, id: " + task.getId(), e);
+        }
     }
 
     /**
@@ -145,37 +606,257 @@ public class TaskService {
      */
     @Transactional
     public void deleteTask(Integer id) {
-        if (!taskRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Task not found with id: " + id);
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        // The assignments go with the task, so their users are read first
+        Set<Integer> userIds = new HashSet<>();
+        taskAssignmentService.getAssignees(id).forEach(assignee -> userIds.add(assignee.getUserId()));
+        if (task.getUser() != null) {
+            userIds.add(task.getUser().getId());
         }
-        taskRepository.deleteById(id);
+        taskAttachmentService.taskDeleted(id);
+        taskRepository.delete(task);
+        taskCounterService.taskChanged(taskCounterService.contributionOf(task), null);
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.DELETED, id, userIds));
     }
 
     /**
-     * Search tasks by title
+     * Get overdue tasks for a user, oldest due date first. Reads the
+     * precomputed overdue flag, see {@link TaskOverdueService}.
      * 
-     * @param keyword Search keyword
-     * @return List of matching task DTOs
+     * @param userId User ID
+     * @return List of overdue task DTOs
      */
-    public List<TaskDTO> searchTasksByTitle(String keyword) {
-        return taskRepository.findByTitleContainingIgnoreCase(keyword).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public List<TaskDTO> getOverdueTasks(Integer userId) {
+        List<TaskDTO> tasks = taskRepository.findOverdueDtos(userId);
+        if (tasks.isEmpty() && !userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+        taskAssignmentService.loadAssignees(tasks);
+        return tasks;
     }
 
     /**
-     * Get overdue tasks for a user
+     * Get a page of overdue tasks for a user using keyset pagination,
+     * ordered by due date then ID
      * 
      * @param userId User ID
-     * @return List of overdue task DTOs
+     * @param cursor Cursor from the previous page, null for the first page
+     * @param limit  Maximum number of tasks to return, clamped to
+     *               [1, {@value #MAX_PAGE_SIZE}]
+     * @return Page of overdue task DTOs
      */
-    public List<TaskDTO> getOverdueTasks(Integer userId) {
-        if (!userRepository.existsById(userId)) {
+    public TaskPageDTO getOverdueTasksPage(Integer userId, String cursor, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        TaskPageCursor after = cursor != null && !cursor.isEmpty()
+                ? TaskPageCursor.decode(cursor, TaskPageCursor.SORT_DUE_DATE)
+                : null;
+        if (after != null && after.getDueDate() == null) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        // Fetch one extra row to find out whether another page exists
+        List<TaskDTO> tasks = taskRepository.findOverduePage(userId, after != null ? after.getDueDate() : null,
+                after != null ? after.getId() : null, PageRequest.of(0, pageSize + 1));
+        if (tasks.isEmpty() && after == null && !userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+
+        boolean hasMore = tasks.size() > pageSize;
+        List<TaskDTO> items = hasMore ? new ArrayList<>(tasks.subList(0, pageSize)) : tasks;
+        String nextCursor = null;
+        if (hasMore) {
+            TaskDTO last = items.get(items.size() - 1);
+            nextCursor = new TaskPageCursor(TaskPageCursor.SORT_DUE_DATE, last.getDueDate(), last.getId()).encode();
+        }
+        taskAssignmentService.loadAssignees(items);
+        return new TaskPageDTO(items, nextCursor, hasMore);
+    }
+
+    /**
+     * Get a page of the tasks a user owns or is assigned to, ordered by ID,
+     * using keyset pagination. Both kinds are read by a single query, and a
+     * task the user both owns and is assigned to is listed once.
+     * 
+     * @param userId User ID
+     * @param cursor Cursor from the previous page, null for the first page
+     * @param limit  Maximum number of tasks to return, clamped to
+     *               [1, {@value #MAX_PAGE_SIZE}]
+     * @return Page of task DTOs
+     */
+    public TaskPageDTO getWorkPage(Integer userId, String cursor, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        TaskPageCursor after = cursor != null && !cursor.isEmpty()
+                ? TaskPageCursor.decode(cursor, TaskPageCursor.SORT_ID)
+                : null;
+
+        // Fetch one extra row to find out whether another page exists
+        List<TaskDTO> tasks = taskRepository.findWorkPage(userId, after != null ? after.getId() : null,
+                pageSize + 1);
+        if (tasks.isEmpty() && after == null && !userRepository.existsById(userId)) {
             throw new ResourceNotFoundException("User not found with id: " + userId);
         }
-        return taskRepository.findOverdueTasks(userId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+
+        boolean hasMore = tasks.size() > pageSize;
+        List<TaskDTO> items = hasMore ? new ArrayList<>(tasks.subList(0, pageSize)) : tasks;
+        String nextCursor = null;
+        if (hasMore) {
+            TaskDTO last = items.get(items.size() - 1);
+            nextCursor = new TaskPageCursor(TaskPageCursor.SORT_ID, null, last.getId()).encode();
+        }
+        taskAssignmentService.loadAssignees(items);
+        return new TaskPageDTO(items, nextCursor, hasMore);
+    }
+
+    private TaskDTO withAssignees(TaskDTO task) {
+        taskAssignmentService.loadAssignees(List.of(task));
+        return task;
+    }
+
+    // Streamed to clients once the transaction commits, see TaskEventService. The task must have its assignees
+    private void publishChange(TaskChangedEvent.Type type, TaskDTO task, Integer previousUserId) {
+        Set<Integer> userIds = new HashSet<>();
+        if (previousUserId != null) {
+            userIds.add(previousUserId);
+        }
+        if (task.getUserId() != null) {
+            userIds.add(task.getUserId());
+        }
+        if (task.getAssignees() != null) {
+            task.getAssignees().forEach(assignee -> userIds.add(assignee.getUserId()));
+        }
+        eventPublisher.publishEvent(new TaskChangedEvent(type, task.getId(), userIds));
+    }
+
+    private static Integer userIdOf(Task task) {
+        return task.getUser() != null ? task.getUser().getId() : null;
+    }
+
+    private static List<Integer> collectIds(List<TaskDTO> taskDTOs, Function<TaskDTO, Integer> idGetter) {
+        return taskDTOs.stream()
+                .map(idGetter)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    private void validateBatchItem(TaskDTO taskDTO) {
+        if (taskDTO == null) {
+            throw new IllegalArgumentException("Task must not be null");
+        }
+        Set<ConstraintViolation<TaskDTO>> violations = validator.validate(taskDTO);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.iterator().next().getMessage());
+        }
+    }
+
+    /**
+     * Copy a batch item onto a new or existing task. All references are
+     * resolved before the task is touched, so a failing item never leaves a
+     * managed task half modified.
+     */
+    private void applyBatchItem(Task task, TaskDTO taskDTO, Map<Integer, User> users) {
+        User user = null;
+        if (taskDTO.getUserId() != null) {
+            user = users.get(taskDTO.getUserId());
+            if (user == null) {
+                throw new ResourceNotFoundException("User not found with id: " + taskDTO.getUserId());
+            }
+        }
+
+        TaskPriority priority = null;
+        if (taskDTO.getPriorityId() != null) {
+            priority = referenceDataCache.findPriority(taskDTO.getPriorityId())
+                    .orElseThrow(() -> new ResourceNotFoundException(
+                            "Priority not found with id: " + taskDTO.getPriorityId()));
+        } else if (task.getId() == null && taskDTO.getPriorityValue() != null) {
+            priority = referenceDataCache.findPriorityByValue(taskDTO.getPriorityValue())
+                    .orElseThrow(() -> new ResourceNotFoundException(
+                            "Priority not found with value: " + taskDTO.getPriorityValue()));
+        }
+
+        TaskStatus status = null;
+        if (taskDTO.getStatusId() != null) {
+            status = referenceDataCache.findStatus(taskDTO.getStatusId())
+                    .orElseThrow(
+                            () -> new ResourceNotFoundException("Status not found with id: " + taskDTO.getStatusId()));
+        }
+
+        TaskCategory category = null;
+        if (taskDTO.getCategoryId() != null) {
+            category = referenceDataCache.findCategory(taskDTO.getCategoryId())
+                    .orElseThrow(() -> new ResourceNotFoundException(
+                            "Category not found with id: " + taskDTO.getCategoryId()));
+        }
+
+        // Same semantics as createTask/updateTask: omitted references are left unchanged
+        task.setTitle(taskDTO.getTitle());
+        task.setDescription(taskDTO.getDescription());
+        task.setDueDate(taskDTO.getDueDate());
+        if (user != null) {
+            task.setUser(user);
+        }
+        if (priority != null) {
+            task.setPriority(priority);
+        }
+        if (status != null) {
+            task.setStatus(status);
+        }
+        if (category != null) {
+            task.setCategory(category);
+        }
+    }
+
+    private static String patchTitle(Object value) {
+        if (!(value instanceof String title) || title.isBlank()) {
+            throw new IllegalArgumentException("Title is required");
+        }
+        if (title.length() > 100) {
+            throw new IllegalArgumentException("Title must be less than 100 characters");
+        }
+        return title;
+    }
+
+    private static String patchString(Map<String, Object> patch, String field) {
+        Object value = patch.get(field);
+        if (value != null && !(value instanceof String)) {
+            throw new IllegalArgumentException(field + " must be a string or null");
+        }
+        return (String) value;
+    }
+
+    private static Integer patchId(Map<String, Object> patch, String field) {
+        Object value = patch.get(field);
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof Integer id)) {
+            throw new IllegalArgumentException(field + " must be an integer or null");
+        }
+        return id;
+    }
+
+    private String eTagOf(Task task) {
+        return taskETag(task.getId(), task.getVersion(), task.getUser() != null ? task.getUser().getUsername() : null,
+                task.getCommentCount());
+    }
+
+    // The comment count is part of the representation but not of the version, see TaskCommentService
+    private String taskETag(Integer id, Long version, String username, Integer commentCount) {
+        return id + "-" + version + "-" + Integer.toHexString(Objects.hashCode(username)) + "-" + commentCount
+                + "-" + referenceDataCache.getVersion();
+    }
+
+    // Strong comparison as required for If-Match: weak tags never match, "*" matches any existing task
+    private static boolean ifMatchSatisfied(String ifMatch, String eTag) {
+        String quoted = '"' + eTag + '"';
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(quoted)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -192,6 +873,7 @@ public class TaskService {
         dto.setDueDate(task.getDueDate());
         dto.setCreatedAt(task.getCreatedAt());
         dto.setUpdatedAt(task.getUpdatedAt());
+        dto.setCommentCount(task.getCommentCount());
 
         if (task.getUser() != null) {
             dto.setUserId(task.getUser().getId());
@@ -223,12 +905,10 @@ public class TaskService {
      * @param taskDTO Task DTO
      * @return Task entity
      */
+    // Always a new task: an ID in the DTO is ignored, the database assigns one
     private Task convertToEntity(TaskDTO taskDTO) {
         Task task = new Task();
 
-        if (taskDTO.getId() != null) {
-            task.setId(taskDTO.getId());
-        }
         task.setTitle(taskDTO.getTitle());
         task.setDescription(taskDTO.getDescription());
         task.setDueDate(taskDTO.getDueDate());
@@ -240,26 +920,26 @@ public class TaskService {
         }
 
         if (taskDTO.getPriorityId() != null) {
-            TaskPriority priority = taskPriorityRepository.findById(taskDTO.getPriorityId())
+            TaskPriority priority = referenceDataCache.findPriority(taskDTO.getPriorityId())
                     .orElseThrow(() -> new ResourceNotFoundException(
                             "Priority not found with id: " + taskDTO.getPriorityId()));
             task.setPriority(priority);
         } else if (taskDTO.getPriorityValue() != null) {
-            TaskPriority priority = taskPriorityRepository.findByValue(taskDTO.getPriorityValue())
+            TaskPriority priority = referenceDataCache.findPriorityByValue(taskDTO.getPriorityValue())
                     .orElseThrow(() -> new ResourceNotFoundException(
                             "Priority not found with value: " + taskDTO.getPriorityValue()));
             task.setPriority(priority);
         }
 
         if (taskDTO.getStatusId() != null) {
-            TaskStatus status = taskStatusRepository.findById(taskDTO.getStatusId())
+            TaskStatus status = referenceDataCache.findStatus(taskDTO.getStatusId())
                     .orElseThrow(
                             () -> new ResourceNotFoundException("Status not found with id: " + taskDTO.getStatusId()));
             task.setStatus(status);
         }
 
         if (taskDTO.getCategoryId() != null) {
-            TaskCategory category = taskCategoryRepository.findById(taskDTO.getCategoryId())
+            TaskCategory category = referenceDataCache.findCategory(taskDTO.getCategoryId())
                     .orElseThrow(() -> new ResourceNotFoundException(
                             "Category not found with id: " + taskDTO.getCategoryId()));
             task.setCategory(category);
@@ -1,10 +1,12 @@
 package com.example.task_management_app.service;
 
 import com.example.task_management_app.dto.TaskStatusDTO;
+import com.example.task_management_app.event.ReferenceDataChangedEvent;
 import com.example.task_management_app.exception.ResourceNotFoundException;
 import com.example.task_management_app.model.TaskStatus;
 import com.example.task_management_app.repository.TaskStatusRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,10 +17,12 @@ import java.util.stream.Collectors;
 public class TaskStatusService {
 
     private final TaskStatusRepository taskStatusRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public TaskStatusService(TaskStatusRepository taskStatusRepository) {
+    public TaskStatusService(TaskStatusRepository taskStatusRepository, ApplicationEventPublisher eventPublisher) {
         this.taskStatusRepository = taskStatusRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -72,6 +76,7 @@ public class TaskStatusService {
 
         TaskStatus taskStatus = convertToEntity(taskStatusDTO);
         TaskStatus savedTaskStatus = taskStatusRepository.save(taskStatus);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(TaskStatus.class));
         return convertToDTO(savedTaskStatus);
     }
 
@@ -98,6 +103,7 @@ public class TaskStatusService {
         existingTaskStatus.setColor(taskStatusDTO.getColor());
 
         TaskStatus updatedTaskStatus = taskStatusRepository.save(existingTaskStatus);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(TaskStatus.class));
         return convertToDTO(updatedTaskStatus);
     }
 
@@ -112,6 +118,7 @@ public class TaskStatusService {
             throw new ResourceNotFoundException("Task status not found with id: " + id);
         }
         taskStatusRepository.deleteById(id);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(TaskStatus.class));
     }
 
     /**
@@ -1,16 +1,19 @@
 package com.example.task_management_app.service;
 
 import com.example.task_management_app.dto.UserDTO;
+import com.example.task_management_app.event.UserChangedEvent;
 import com.example.task_management_app.exception.ResourceNotFoundException;
 import com.example.task_management_app.exception.UserAlreadyExistsException;
 import com.example.task_management_app.model.User;
 import com.example.task_management_app.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -18,11 +21,24 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskCounterService taskCounterService;
+    private final TaskCommentService taskCommentService;
+    private final TaskAttachmentService taskAttachmentService;
+    private final TaskAssignmentService taskAssignmentService;
 
     @Autowired
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+            ApplicationEventPublisher eventPublisher, TaskCounterService taskCounterService,
+            TaskCommentService taskCommentService, TaskAttachmentService taskAttachmentService,
+            TaskAssignmentService taskAssignmentService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.taskCounterService = taskCounterService;
+        this.taskCommentService = taskCommentService;
+        this.taskAttachmentService = taskAttachmentService;
+        this.taskAssignmentService = taskAssignmentService;
     }
 
     /**
@@ -106,6 +122,7 @@ public class UserService {
                 userRepository.existsByEmail(userDTO.getEmail())) {
             throw new IllegalArgumentException("Email already exists");
         }
+        String previousUsername = existingUser.getUsername();
         existingUser.setUsername(userDTO.getUsername());
         existingUser.setEmail(userDTO.getEmail());
         existingUser.setFirstName(userDTO.getFirstName());
@@ -120,6 +137,11 @@ public class UserService {
         }
 
         User updatedUser = userRepository.save(existingUser);
+        // Cached principals carry the username and role, drop them once this commits. Tasks show the
+        // username, so a rename also makes the streams listing this user's tasks reload them
+        eventPublisher.publishEvent(previousUsername.equals(updatedUser.getUsername())
+                ? new UserChangedEvent(previousUsername)
+                : new UserChangedEvent(previousUsername, taskAssignmentService.getTaskUserIds(id)));
         return convertToDTO(updatedUser);
     }
 
@@ -130,10 +152,16 @@ public class UserService {
      */
     @Transactional
     public void deleteUser(Integer id) {
-        if (!userRepository.existsById(id)) {
-            throw new ResourceNotFoundException("User not found with id: " + id);
-        }
-        userRepository.deleteById(id);
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        Set<Integer> taskUserIds = taskAssignmentService.getTaskUserIds(id);
+        // Before the delete, which removes the user's comments, tasks and assignments along with the user
+        taskCommentService.userDeleted(id);
+        taskAttachmentService.userDeleted(id);
+        taskAssignmentService.userDeleted(id);
+        userRepository.delete(user);
+        taskCounterService.userDeleted(id);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUsername(), taskUserIds));
     }
 
     /**
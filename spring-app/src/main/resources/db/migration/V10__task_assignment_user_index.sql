@@ -0,0 +1,10 @@
+-- "My work" listings read a user's assignments in task_id order, and
+-- assignee lookups per task use the unique (task_id, user_id) constraint.
+-- Built CONCURRENTLY, see V3 for what to do if a build fails.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_task_assignments_user_id_task_id
+    ON user_task_assignments (user_id, task_id);
+
+-- Covered by the index above and by the unique constraint respectively
+DROP INDEX CONCURRENTLY IF EXISTS idx_user_task_assignments_user_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_user_task_assignments_task_id;
@@ -0,0 +1,14 @@
+-- Progress of imports uploaded with an import ID. Each batch commits its checkpoint
+-- here, so an upload cut off before the response can be resumed from the stored
+-- checkpoint. Rows are deleted after task.imports.retention without an update
+CREATE TABLE task_imports (
+    import_id VARCHAR(64) PRIMARY KEY,
+    user_id INTEGER NOT NULL REFERENCES users(user_id) ON DELETE CASCADE,
+    checkpoint BIGINT NOT NULL DEFAULT 0,
+    imported BIGINT NOT NULL DEFAULT 0,
+    failed BIGINT NOT NULL DEFAULT 0,
+    completed BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_task_imports_updated_at ON task_imports (updated_at);
@@ -1,4 +1,4 @@
--- Initialize database for Task Management Application
+-- Baseline schema of the Task Management Application (formerly db/init.sql)
 
 -- Create users table
 CREATE TABLE users (
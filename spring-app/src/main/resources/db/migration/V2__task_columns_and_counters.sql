@@ -0,0 +1,32 @@
+-- Columns and tables added since the baseline. Written to be re-runnable so
+-- that databases created from a later db/init.sql, which already have them,
+-- can be baselined at version 1 and migrated like any other.
+
+-- Optimistic lock, incremented by the application on every update
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- Past due and not completed; set on write and refreshed nightly by the application
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS overdue BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- Task IDs are allocated by the application in blocks of 50 (pooled sequence)
+ALTER SEQUENCE tasks_task_id_seq INCREMENT BY 50;
+
+-- Full-text search over title (weight A) and description (weight B)
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) STORED;
+
+-- Trigram operator classes for substring/fuzzy search (task.search.mode=trigram)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Per-user, per-status task counters maintained by the application
+-- (0 stands for "no user" / "no status"); rebuilt by the reconciliation job
+CREATE TABLE IF NOT EXISTS task_stats (
+    user_id INTEGER NOT NULL,
+    status_id INTEGER NOT NULL,
+    task_count BIGINT NOT NULL DEFAULT 0,
+    overdue_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, status_id)
+);
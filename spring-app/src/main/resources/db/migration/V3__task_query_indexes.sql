@@ -0,0 +1,18 @@
+-- Indexes for the search, keyset pagination and overdue queries. Built
+-- CONCURRENTLY so that writes to tasks continue while they are created;
+-- this cannot run inside a transaction (see the .conf file).
+--
+-- If a build fails, PostgreSQL leaves an INVALID index behind that
+-- IF NOT EXISTS would skip: drop it, run flyway repair and migrate again.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_search_vector ON tasks USING GIN (search_vector);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_title_trgm ON tasks USING GIN (title gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_description_trgm ON tasks USING GIN (description gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_due_date_task_id ON tasks (due_date, task_id);
+
+-- Overdue listings; only flagged (past due, not completed) tasks are indexed
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_overdue_user_due_date ON tasks (user_id, due_date, task_id)
+    WHERE overdue;
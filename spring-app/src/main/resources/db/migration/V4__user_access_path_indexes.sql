@@ -0,0 +1,14 @@
+-- Composite indexes for the per-user access paths. Built CONCURRENTLY, see
+-- V3 for what to do if a build fails.
+
+-- Per-user listings filtered by status, counter rebuilds grouped by (user, status)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_user_id_status_id ON tasks (user_id, status_id);
+
+-- Per-user listings ordered or filtered by due date (task_id keeps keyset pages on the index)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_user_id_due_date ON tasks (user_id, due_date, task_id);
+
+-- Case-insensitive username lookups (lower(username) = lower(?)); exact ones use the unique constraint
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_username_lower ON users (lower(username));
+
+-- Both composite indexes lead with user_id, so the single-column index only costs writes
+DROP INDEX CONCURRENTLY IF EXISTS idx_tasks_user_id;
@@ -0,0 +1,15 @@
+-- Only edits change updated_at: counters and flags maintained by the application
+-- (comment_count, overdue) are not modifications of the task
+DROP TRIGGER IF EXISTS update_tasks_updated_at ON tasks;
+CREATE TRIGGER update_tasks_updated_at
+    BEFORE UPDATE OF title, description, due_date, priority_id, user_id, status_id, category_id ON tasks
+    FOR EACH ROW
+    EXECUTE FUNCTION update_updated_at_column();
+
+-- Denormalized number of comments per task, so task listings need no join or count
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS comment_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE tasks t
+SET comment_count = c.comment_count
+FROM (SELECT task_id, COUNT(*) AS comment_count FROM task_comments GROUP BY task_id) c
+WHERE c.task_id = t.task_id;
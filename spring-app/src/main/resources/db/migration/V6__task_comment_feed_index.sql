@@ -0,0 +1,8 @@
+-- Comment feeds are read per task in (created_at, comment_id) order with keyset
+-- pagination. Built CONCURRENTLY, see V3 for what to do if a build fails.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_comments_task_id_created_at
+    ON task_comments (task_id, created_at, comment_id);
+
+-- Covered by the index above
+DROP INDEX CONCURRENTLY IF EXISTS idx_task_comments_task_id;
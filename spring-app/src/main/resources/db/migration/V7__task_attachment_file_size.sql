@@ -0,0 +1,3 @@
+-- Attachments are streamed to disk and can be larger than 2 GB.
+-- Nothing wrote to task_attachments before, so rewriting the table is cheap
+ALTER TABLE task_attachments ALTER COLUMN file_size TYPE BIGINT;
@@ -0,0 +1,15 @@
+-- Content-addressed attachment storage: one row, and one file, per distinct content.
+-- ref_count is the number of attachments using the blob; blobs left at zero are
+-- garbage collected once released_at is older than the grace period
+CREATE TABLE attachment_blobs (
+    sha256 VARCHAR(64) PRIMARY KEY,
+    file_size BIGINT NOT NULL,
+    ref_count INTEGER NOT NULL DEFAULT 0,
+    released_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX idx_attachment_blobs_released_at ON attachment_blobs (released_at) WHERE ref_count <= 0;
+
+-- Attachments stored before keep their own file and have no hash
+ALTER TABLE task_attachments ADD COLUMN content_sha256 VARCHAR(64) REFERENCES attachment_blobs (sha256);
+CREATE INDEX idx_task_attachments_content_sha256 ON task_attachments (content_sha256);
@@ -0,0 +1,8 @@
+-- Tasks can be assigned to users besides their owner. An assignment always
+-- names both sides; rows missing either could never be read back.
+
+DELETE FROM user_task_assignments WHERE task_id IS NULL OR user_id IS NULL;
+
+ALTER TABLE user_task_assignments
+    ALTER COLUMN task_id SET NOT NULL,
+    ALTER COLUMN user_id SET NOT NULL;
@@ -0,0 +1,38 @@
+package com.example.task_management_app;
+
+import com.example.task_management_app.model.Task;
+import com.example.task_management_app.model.User;
+import com.example.task_management_app.repository.TaskRepository;
+import com.example.task_management_app.repository.UserRepository;
+
+/**
+ * Users and tasks that tests need to exist but do not examine themselves
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    // A user with the USER role and an email derived from the username, not saved
+    public static User newUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPasswordHash("hashedPassword");
+        user.setRole("USER");
+        return user;
+    }
+
+    // A saved newUser
+    public static User saveUser(UserRepository userRepository, String username) {
+        return userRepository.save(newUser(username));
+    }
+
+    // A task with only a title and an owner
+    public static Task saveTask(TaskRepository taskRepository, String title, User user) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setUser(user);
+        return taskRepository.save(task);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.task_management_app.benchmark;
+
+import com.example.task_management_app.config.SecurityProperties;
+import com.example.task_management_app.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of JWT verification in the authentication filter.
+ *
+ * <p>{@code legacyPerRequest} reproduces the previous behaviour: the subject
+ * was extracted, then validateToken extracted it again and checked the
+ * expiration, and every extraction built a new key and parser and verified the
+ * signature. {@code singleParsePerRequest} is what the filter does now.
+ *
+ * <p>Run with {@code mvn test-compile} followed by the {@link #main} method
+ * (from the IDE, or {@code java -cp target/test-classes:<test classpath>}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmarksecretkeythatisdefinitelylongerthan32characters";
+
+    private JwtUtil jwtUtil;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        SecurityProperties properties = new SecurityProperties() {
+            @Override
+            public String getJwtSecret() {
+                return SECRET;
+            }
+
+            @Override
+            public Long getJwtExpiration() {
+                return 3_600_000L;
+            }
+        };
+        jwtUtil = new JwtUtil(properties);
+        userDetails = User.withUsername("benchmark").password("").roles("USER").build();
+        token = jwtUtil.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public boolean legacyPerRequest() {
+        String username = legacyParse(token).getSubject();
+        return username.equals(userDetails.getUsername())
+                && legacyParse(token).getSubject().equals(userDetails.getUsername())
+                && !legacyParse(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean singleParsePerRequest() {
+        Claims claims = jwtUtil.parseClaims(token);
+        return jwtUtil.validateClaims(claims, userDetails);
+    }
+
+    private static Claims legacyParse(String token) {
+        Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
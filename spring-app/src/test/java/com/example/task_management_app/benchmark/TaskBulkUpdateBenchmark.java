@@ -0,0 +1,131 @@
+package com.example.task_management_app.benchmark;
+
+import com.example.task_management_app.TaskManagementAppApplication;
+import com.example.task_management_app.dto.TaskBatchItemResultDTO;
+import com.example.task_management_app.dto.TaskBulkUpdateDTO;
+import com.example.task_management_app.dto.TaskDTO;
+import com.example.task_management_app.model.TaskStatus;
+import com.example.task_management_app.model.User;
+import com.example.task_management_app.repository.TaskStatusRepository;
+import com.example.task_management_app.repository.UserRepository;
+import com.example.task_management_app.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tasks per second for moving a set of tasks to another status: one
+ * updateTask call (load, save, counter update) per task versus one
+ * POST /api/tasks/bulk-update call. Every invocation flips all tasks between
+ * two statuses, so both variants always change every row. Boots the
+ * application against the in-memory H2 database from the test
+ * configuration, so absolute numbers understate the per-round-trip savings
+ * on a networked PostgreSQL.
+ *
+ * <p>Run with {@code mvn test-compile} followed by the {@link #main} method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskBulkUpdateBenchmark {
+
+    private static final int TASKS_PER_INVOCATION = 500;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private Integer[] statusIds;
+    private List<TaskDTO> tasks;
+    private int flips;
+
+    @Setup
+    public void setUp() {
+        SpringApplication application = new SpringApplication(TaskManagementAppApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--logging.level.root=WARN");
+        taskService = context.getBean(TaskService.class);
+
+        User user = new User();
+        user.setUsername("benchmark");
+        user.setEmail("benchmark@example.com");
+        user.setPasswordHash("hashedPassword");
+        user.setRole("USER");
+        user = context.getBean(UserRepository.class).save(user);
+
+        TaskStatusRepository statusRepository = context.getBean(TaskStatusRepository.class);
+        statusIds = new Integer[2];
+        for (int i = 0; i < statusIds.length; i++) {
+            TaskStatus status = new TaskStatus();
+            status.setName("Benchmark status " + i);
+            statusIds[i] = statusRepository.save(status).getId();
+        }
+
+        List<TaskDTO> newTasks = new ArrayList<>(TASKS_PER_INVOCATION);
+        for (int i = 0; i < TASKS_PER_INVOCATION; i++) {
+            TaskDTO task = new TaskDTO();
+            task.setTitle("Benchmark task " + i);
+            task.setUserId(user.getId());
+            task.setStatusId(statusIds[0]);
+            newTasks.add(task);
+        }
+        tasks = taskService.saveTasks(newTasks).getResults().stream()
+                .map(TaskBatchItemResultDTO::getTask)
+                .toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS_PER_INVOCATION)
+    public int updatePerTask() {
+        Integer statusId = statusIds[++flips % 2];
+        int updated = 0;
+        for (TaskDTO task : tasks) {
+            task.setStatusId(statusId);
+            taskService.updateTask(task.getId(), task);
+            updated++;
+        }
+        return updated;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS_PER_INVOCATION)
+    public int bulkUpdate() {
+        List<Integer> taskIds = tasks.stream().map(TaskDTO::getId).toList();
+        Integer statusId = statusIds[++flips % 2];
+        return taskService.bulkUpdateTasks(new TaskBulkUpdateDTO(taskIds, null, statusId, null, null)).getUpdated();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskBulkUpdateBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.task_management_app.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load generator for GET /api/tasks/user/{userId}, used to
+ * compare request handling on platform threads with the virtual-threads
+ * profile. Each of the concurrency workers sends its next request as soon as
+ * the previous one completes; latencies of the warm-up period are discarded.
+ *
+ * Start the application first, then run (from spring-app, after mvn
+ * test-compile):
+ *
+ * <pre>
+ * java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.example.task_management_app.benchmark.TaskEndpointLoadGenerator \
+ *     --base-url=http://localhost:8080 --user-id=1 --concurrency=1000 --duration=60 --warmup=15
+ * </pre>
+ *
+ * Without --token a throwaway user is registered to obtain one.
+ */
+public class TaskEndpointLoadGenerator {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        String userId = options.getOrDefault("user-id", "1");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "1000"));
+        long durationSeconds = Long.parseLong(options.getOrDefault("duration", "60"));
+        long warmupSeconds = Long.parseLong(options.getOrDefault("warmup", "15"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        String token = options.containsKey("token") ? options.get("token") : register(client, baseUrl);
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks/user/" + userId))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long deadline = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+        AtomicLong errors = new AtomicLong();
+
+        // One platform thread per simulated client, so the generator runs on Java 17 as well
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        Future<?>[] results = new Future<?>[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            results[i] = workers.submit(() -> runClient(client, request, measureFrom, deadline, errors));
+        }
+
+        Latencies all = new Latencies();
+        for (Future<?> result : results) {
+            all.addAll((Latencies) result.get());
+        }
+        workers.shutdown();
+
+        long[] latencies = all.sorted();
+        double seconds = durationSeconds;
+        System.out.printf("GET /api/tasks/user/%s, %d clients, %d s (after %d s warm-up)%n",
+                userId, concurrency, durationSeconds, warmupSeconds);
+        System.out.printf("requests:   %d ok, %d failed%n", latencies.length, errors.get());
+        System.out.printf("throughput: %.1f req/s%n", latencies.length / seconds);
+        System.out.printf("latency:    p50 %.1f ms, p90 %.1f ms, p99 %.1f ms, max %.1f ms%n",
+                percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 99),
+                percentile(latencies, 100));
+    }
+
+    private static Latencies runClient(HttpClient client, HttpRequest request, long measureFrom, long deadline,
+            AtomicLong errors) {
+        Latencies latencies = new Latencies();
+        long now;
+        while ((now = System.nanoTime()) < deadline) {
+            boolean ok;
+            try {
+                ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+            } catch (Exception e) {
+                ok = false;
+            }
+            long end = System.nanoTime();
+            if (now >= measureFrom) {
+                if (ok) {
+                    latencies.add(end - now);
+                } else {
+                    errors.incrementAndGet();
+                }
+            }
+        }
+        return latencies;
+    }
+
+    private static String register(HttpClient client, String baseUrl) throws Exception {
+        String username = "load_" + UUID.randomUUID().toString().substring(0, 8);
+        String body = """
+                {"username":"%s","email":"%s@example.com","password":"load-test-password"}
+                """.formatted(username, username);
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201 && response.statusCode() != 200) {
+            throw new IllegalStateException("Registration failed: " + response.statusCode() + " " + response.body());
+        }
+        return new ObjectMapper().readTree(response.body()).get("token").asText();
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return options;
+    }
+
+    // Growable array of latencies in nanoseconds, one per client so recording needs no locking
+    private static final class Latencies {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(Latencies other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
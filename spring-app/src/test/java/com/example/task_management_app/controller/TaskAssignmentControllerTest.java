@@ -0,0 +1,95 @@
+package com.example.task_management_app.controller;
+
+import com.example.task_management_app.TaskManagementAppApplication;
+import com.example.task_management_app.model.Task;
+import com.example.task_management_app.model.User;
+import com.example.task_management_app.repository.TaskRepository;
+import com.example.task_management_app.repository.UserRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.example.task_management_app.TestFixtures.saveUser;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK, classes = { TaskManagementAppApplication.class })
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application.properties")
+@Transactional
+public class TaskAssignmentControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Task testTask;
+    private User assignee;
+
+    @BeforeEach
+    void setUp() {
+        User owner = saveUser(userRepository, "task-owner");
+        assignee = saveUser(userRepository, "assignee");
+
+        testTask = new Task();
+        testTask.setTitle("Shared task");
+        testTask.setUser(owner);
+        testTask = taskRepository.save(testTask);
+    }
+
+    @Test
+    @WithMockUser(username = "task-owner", roles = "USER")
+    public void assign_AddsAssigneeToTaskAndToTheirWork() throws Exception {
+        mvc.perform(put("/api/tasks/{taskId}/assignees/{userId}", testTask.getId(), assignee.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].username").value("assignee"));
+
+        mvc.perform(get("/api/tasks/{id}", testTask.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.assignees[0].userId").value(assignee.getId()));
+
+        mvc.perform(get("/api/tasks/user/{userId}/work", assignee.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(testTask.getId()))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @WithMockUser(username = "task-owner", roles = "USER")
+    public void unassign_RemovesAssignee_ThenReturnsNotFound() throws Exception {
+        mvc.perform(put("/api/tasks/{taskId}/assignees/{userId}", testTask.getId(), assignee.getId()))
+                .andExpect(status().isOk());
+
+        mvc.perform(delete("/api/tasks/{taskId}/assignees/{userId}", testTask.getId(), assignee.getId()))
+                .andExpect(status().isNoContent());
+        mvc.perform(get("/api/tasks/{taskId}/assignees", testTask.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        mvc.perform(delete("/api/tasks/{taskId}/assignees/{userId}", testTask.getId(), assignee.getId()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(username = "task-owner", roles = "USER")
+    public void assign_WhenTaskDoesNotExist_ReturnsNotFound() throws Exception {
+        mvc.perform(put("/api/tasks/{taskId}/assignees/{userId}", 999999, assignee.getId()))
+                .andExpect(status().isNotFound());
+    }
+}
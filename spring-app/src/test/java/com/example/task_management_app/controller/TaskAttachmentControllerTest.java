@@ -0,0 +1,167 @@
+package com.example.task_management_app.controller;
+
+import com.example.task_management_app.TaskManagementAppApplication;
+import com.example.task_management_app.model.Task;
+import com.example.task_management_app.model.User;
+import com.example.task_management_app.repository.TaskRepository;
+import com.example.task_management_app.repository.UserRepository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.example.task_management_app.TestFixtures.saveUser;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK, classes = { TaskManagementAppApplication.class })
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application.properties")
+@Transactional
+public class TaskAttachmentControllerTest {
+
+    private static final String CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Task testTask;
+
+    @BeforeEach
+    void setUp() {
+        User uploader = saveUser(userRepository, "uploader");
+        saveUser(userRepository, "other");
+
+        testTask = new Task();
+        testTask.setTitle("Task with files");
+        testTask.setUser(uploader);
+        testTask = taskRepository.save(testTask);
+    }
+
+    @Test
+    @WithMockUser(username = "uploader", roles = "USER")
+    public void addAttachment_StoresFileAndListsIt() throws Exception {
+        mvc.perform(multipart("/api/tasks/{taskId}/attachments", testTask.getId())
+                .file(new MockMultipartFile("file", "C:\\Users\\me\\spec.txt", "text/plain",
+                        CONTENT.getBytes(StandardCharsets.UTF_8))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").isNumber())
+                .andExpect(jsonPath("$.taskId").value(testTask.getId()))
+                .andExpect(jsonPath("$.fileName").value("spec.txt"))
+                .andExpect(jsonPath("$.fileSize").value(CONTENT.length()))
+                .andExpect(jsonPath("$.fileType").value("text/plain"))
+                .andExpect(jsonPath("$.uploadedByUsername").value("uploader"));
+
+        mvc.perform(get("/api/tasks/{taskId}/attachments", testTask.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].fileName").value("spec.txt"));
+    }
+
+    @Test
+    @WithMockUser(username = "uploader", roles = "USER")
+    public void addAttachment_WhenFileIsEmpty_ReturnsBadRequest() throws Exception {
+        mvc.perform(multipart("/api/tasks/{taskId}/attachments", testTask.getId())
+                .file(new MockMultipartFile("file", "empty.txt", "text/plain", new byte[0])))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "uploader", roles = "USER")
+    public void addAttachment_WhenTaskDoesNotExist_ReturnsNotFound() throws Exception {
+        mvc.perform(multipart("/api/tasks/{taskId}/attachments", 999999)
+                .file(new MockMultipartFile("file", "spec.txt", "text/plain", CONTENT.getBytes(StandardCharsets.UTF_8))))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(username = "uploader", roles = "USER")
+    public void downloadAttachment_ReturnsWholeFileWithLength() throws Exception {
+        int attachmentId = upload();
+
+        mvc.perform(get("/api/tasks/{taskId}/attachments/{attachmentId}", testTask.getId(), attachmentId))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length()))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("spec.txt")))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, containsString("text/plain")))
+                .andExpect(content().string(CONTENT));
+    }
+
+    @Test
+    @WithMockUser(username = "uploader", roles = "USER")
+    public void downloadAttachment_WithRange_ReturnsPartialContent() throws Exception {
+        int attachmentId = upload();
+
+        mvc.perform(get("/api/tasks/{taskId}/attachments/{attachmentId}", testTask.getId(), attachmentId)
+                .header(HttpHeaders.RANGE, "bytes=10-15"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 10-15/" + CONTENT.length()))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 6))
+                .andExpect(content().string("abcdef"));
+
+        mvc.perform(get("/api/tasks/{taskId}/attachments/{attachmentId}", testTask.getId(), attachmentId)
+                .header(HttpHeaders.RANGE, "bytes=1000-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable());
+    }
+
+    @Test
+    @WithMockUser(username = "uploader", roles = "USER")
+    public void downloadAttachment_WhenAttachmentBelongsToAnotherTask_ReturnsNotFound() throws Exception {
+        int attachmentId = upload();
+
+        mvc.perform(get("/api/tasks/{taskId}/attachments/{attachmentId}", 999999, attachmentId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void deleteAttachment_OnlyByUploaderOrAdmin() throws Exception {
+        int attachmentId = upload();
+
+        mvc.perform(delete("/api/tasks/{taskId}/attachments/{attachmentId}", testTask.getId(), attachmentId)
+                .with(user("other").roles("USER")))
+                .andExpect(status().isForbidden());
+
+        mvc.perform(delete("/api/tasks/{taskId}/attachments/{attachmentId}", testTask.getId(), attachmentId)
+                .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isNoContent());
+        mvc.perform(get("/api/tasks/{taskId}/attachments", testTask.getId())
+                .with(user("uploader").roles("USER")))
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    private int upload() throws Exception {
+        MvcResult result = mvc.perform(multipart("/api/tasks/{taskId}/attachments", testTask.getId())
+                .file(new MockMultipartFile("file", "spec.txt", "text/plain", CONTENT.getBytes(StandardCharsets.UTF_8)))
+                .with(user("uploader").roles("USER")))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asInt();
+    }
+}
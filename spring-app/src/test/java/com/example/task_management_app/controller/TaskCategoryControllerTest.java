@@ -92,6 +92,20 @@ class TaskCategoryControllerTest {
                 .andExpect(jsonPath("$[1].color", is("#FF6600")));
     }
 
+    @Test
+    @WithMockUser
+    void getAllTaskCategories_WhenETagMatches_ReturnsNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/api/task-categories"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("no-cache")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/task-categories").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+    }
+
     @Test
     @WithMockUser
     void getTaskCategoryById_ShouldReturnCategory_WhenCategoryExists() throws Exception {
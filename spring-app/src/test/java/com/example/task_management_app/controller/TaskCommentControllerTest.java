@@ -0,0 +1,190 @@
+package com.example.task_management_app.controller;
+
+import com.example.task_management_app.TaskManagementAppApplication;
+import com.example.task_management_app.model.Task;
+import com.example.task_management_app.model.User;
+import com.example.task_management_app.repository.TaskRepository;
+import com.example.task_management_app.repository.UserRepository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static com.example.task_management_app.TestFixtures.saveUser;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK, classes = { TaskManagementAppApplication.class })
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application.properties")
+@Transactional
+public class TaskCommentControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Task testTask;
+
+    @BeforeEach
+    void setUp() {
+        User author = saveUser(userRepository, "author");
+        saveUser(userRepository, "other");
+
+        testTask = new Task();
+        testTask.setTitle("Commented Task");
+        testTask.setUser(author);
+        testTask = taskRepository.save(testTask);
+    }
+
+    @Test
+    @WithMockUser(username = "author", roles = "USER")
+    public void addComment_CreatesCommentAndCountsIt() throws Exception {
+        mvc.perform(post("/api/tasks/{taskId}/comments", testTask.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"content\":\"First!\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").isNumber())
+                .andExpect(jsonPath("$.taskId").value(testTask.getId()))
+                .andExpect(jsonPath("$.username").value("author"))
+                .andExpect(jsonPath("$.content").value("First!"))
+                .andExpect(jsonPath("$.createdAt").isNotEmpty());
+
+        mvc.perform(get("/api/tasks/{id}", testTask.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.commentCount").value(1));
+        mvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].commentCount").value(1));
+    }
+
+    @Test
+    @WithMockUser(username = "author", roles = "USER")
+    public void addComment_WhenContentIsBlank_ReturnsBadRequest() throws Exception {
+        mvc.perform(post("/api/tasks/{taskId}/comments", testTask.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"content\":\" \"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "author", roles = "USER")
+    public void addComment_WhenTaskDoesNotExist_ReturnsNotFound() throws Exception {
+        mvc.perform(post("/api/tasks/{taskId}/comments", 999999)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"content\":\"Hello\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(username = "author", roles = "USER")
+    public void getComments_WalksPagesWithCursor() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            addComment("Comment " + i);
+        }
+
+        MvcResult first = mvc.perform(get("/api/tasks/{taskId}/comments", testTask.getId())
+                .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].content").value("Comment 0"))
+                .andExpect(jsonPath("$.items[1].content").value("Comment 1"))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn();
+        String cursor = objectMapper.readTree(first.getResponse().getContentAsString()).get("nextCursor").asText();
+
+        mvc.perform(get("/api/tasks/{taskId}/comments", testTask.getId())
+                .param("limit", "2")
+                .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].content").value("Comment 2"))
+                .andExpect(jsonPath("$.items[0].username").value("author"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @WithMockUser(username = "author", roles = "USER")
+    public void getComments_WithInvalidCursor_ReturnsBadRequest() throws Exception {
+        mvc.perform(get("/api/tasks/{taskId}/comments", testTask.getId())
+                .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "author", roles = "USER")
+    public void getComments_WhenTaskDoesNotExist_ReturnsNotFound() throws Exception {
+        mvc.perform(get("/api/tasks/{taskId}/comments", 999999))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(username = "author", roles = "USER")
+    public void deleteComment_ByAuthor_RemovesCommentAndCount() throws Exception {
+        int commentId = addComment("To be deleted");
+
+        mvc.perform(delete("/api/tasks/{taskId}/comments/{commentId}", testTask.getId(), commentId))
+                .andExpect(status().isNoContent());
+
+        mvc.perform(get("/api/tasks/{taskId}/comments", testTask.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0));
+        mvc.perform(get("/api/tasks/{id}", testTask.getId()))
+                .andExpect(jsonPath("$.commentCount").value(0));
+    }
+
+    @Test
+    @WithMockUser(username = "author", roles = "USER")
+    public void deleteComment_WhenCommentBelongsToAnotherTask_ReturnsNotFound() throws Exception {
+        int commentId = addComment("Elsewhere");
+
+        mvc.perform(delete("/api/tasks/{taskId}/comments/{commentId}", 999999, commentId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void deleteComment_ByAnotherUser_ReturnsForbidden() throws Exception {
+        int commentId = addComment("Mine");
+
+        mvc.perform(delete("/api/tasks/{taskId}/comments/{commentId}", testTask.getId(), commentId)
+                .with(user("other").roles("USER")))
+                .andExpect(status().isForbidden());
+
+        mvc.perform(delete("/api/tasks/{taskId}/comments/{commentId}", testTask.getId(), commentId)
+                .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isNoContent());
+    }
+
+    private int addComment(String content) throws Exception {
+        MvcResult result = mvc.perform(post("/api/tasks/{taskId}/comments", testTask.getId())
+                .with(user("author").roles("USER"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("content", content))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asInt();
+    }
+}
@@ -11,6 +11,9 @@ import com.example.task_management_app.repository.TaskPriorityRepository;
 import com.example.task_management_app.repository.TaskRepository;
 import com.example.task_management_app.repository.TaskStatusRepository;
 import com.example.task_management_app.repository.UserRepository;
+import com.example.task_management_app.service.ReferenceDataCache;
+import com.example.task_management_app.service.TaskOverdueService;
+import com.example.task_management_app.service.TaskService;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,10 +26,17 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -54,6 +64,12 @@ public class TaskControllerTest {
     @Autowired
     private TaskPriorityRepository taskPriorityRepository;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private TaskOverdueService taskOverdueService;
+
     private User testUser;
     private TaskStatus testStatus;
     private TaskCategory testCategory;
@@ -115,7 +131,30 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$[0].description").value("Test task description"))
                 .andExpect(jsonPath("$[0].username").value("testuser"))
                 .andExpect(jsonPath("$[0].statusName").value("To Do"))
-                .andExpect(jsonPath("$[0].categoryName").value("Work"));
+                .andExpect(jsonPath("$[0].categoryName").value("Work"))
+                .andExpect(header().string("Deprecation", "true"))
+                .andExpect(header().stringValues("Link", not(hasItem(containsString("rel=\"next\"")))));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void getAllTasks_WhenMoreThanAPage_ReturnsFirstPageAndNextLink() throws Exception {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TaskService.MAX_PAGE_SIZE; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setUser(testUser);
+            task.setStatus(testStatus);
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+
+        mvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(TaskService.MAX_PAGE_SIZE))
+                .andExpect(jsonPath("$[0].title").value("Test Task"))
+                .andExpect(header().stringValues("Link", hasItem(startsWith("</api/tasks/page?limit="
+                        + TaskService.MAX_PAGE_SIZE + "&cursor="))));
     }
 
     @Test
@@ -130,6 +169,29 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$.userId").value(testUser.getId()));
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    public void getTaskById_WhenETagMatches_ReturnsNotModifiedUntilTaskChanges() throws Exception {
+        String etag = mvc.perform(get("/api/tasks/{id}", testTask.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("no-cache")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mvc.perform(get("/api/tasks/{id}", testTask.getId()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mvc.perform(put("/api/tasks/{id}", testTask.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"title\": \"Changed Task\" }"))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/api/tasks/{id}", testTask.getId()).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$.title").value("Changed Task"));
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     public void getTaskById_WhenTaskDoesNotExist_ReturnsNotFound() throws Exception {
@@ -173,6 +235,210 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$.description").value("New task description"));
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    public void createTask_WithId_CreatesNewTaskAndLeavesExistingOneAlone() throws Exception {
+        String taskJson = """
+                {
+                    "id": %d,
+                    "title": "Posted With Id",
+                    "userId": %d
+                }
+                """.formatted(testTask.getId(), testUser.getId());
+        mvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(taskJson))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(not(testTask.getId())))
+                .andExpect(jsonPath("$.title").value("Posted With Id"));
+
+        mvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(taskJson.replace("\"id\": " + testTask.getId(), "\"id\": 999999")))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(not(999999)));
+
+        mvc.perform(get("/api/tasks/{id}", testTask.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value(testTask.getTitle()));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void saveTasks_WithMixedItems_ReturnsPerItemResults() throws Exception {
+        String batchJson = """
+                [
+                    { "title": "Batch Task", "userId": %d, "statusId": %d },
+                    { "id": %d, "title": "Renamed In Batch" },
+                    { "title": "Bad Status", "statusId": 999999 }
+                ]
+                """.formatted(testUser.getId(), testStatus.getId(), testTask.getId());
+
+        mvc.perform(post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batchJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].outcome").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].task.id").isNumber())
+                .andExpect(jsonPath("$.results[0].task.statusName").value("To Do"))
+                .andExpect(jsonPath("$.results[1].task.title").value("Renamed In Batch"))
+                .andExpect(jsonPath("$.results[2].outcome").value("FAILED"))
+                .andExpect(jsonPath("$.results[2].error").value("Status not found with id: 999999"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void saveTasks_WhenBatchIsEmpty_ReturnsBadRequest() throws Exception {
+        mvc.perform(post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void getTaskStats_ReturnsGroupedCounts() throws Exception {
+        Task overdueTask = new Task();
+        overdueTask.setTitle("Overdue Task");
+        overdueTask.setDueDate(LocalDate.now().minusDays(2));
+        overdueTask.setUser(testUser);
+        overdueTask.setStatus(testStatus);
+        // Saved directly, so the flag TaskOverdueService maintains is set here
+        overdueTask.setOverdue(true);
+        taskRepository.save(overdueTask);
+
+        Task dueToday = new Task();
+        dueToday.setTitle("Due Today");
+        dueToday.setDueDate(LocalDate.now());
+        dueToday.setUser(testUser);
+        taskRepository.save(dueToday);
+
+        mvc.perform(get("/api/tasks/stats")
+                .param("userId", testUser.getId().toString())
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.overdue").value(1))
+                .andExpect(jsonPath("$.dueThisWeek").value(1))
+                .andExpect(jsonPath("$.byStatus[?(@.name == 'To Do')].count").value(2))
+                .andExpect(jsonPath("$.byStatus[?(@.id == null)].count").value(1))
+                .andExpect(jsonPath("$.byCategory[?(@.name == 'Work')].count").value(1))
+                .andExpect(jsonPath("$.byUser[0].username").value("testuser"))
+                .andExpect(jsonPath("$.byUser[0].total").value(3));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void getTaskStats_WhenUserDoesNotExist_ReturnsNotFound() throws Exception {
+        mvc.perform(get("/api/tasks/stats")
+                .param("userId", "999999")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void getUserTaskCounters_ReturnsMaintainedCounts() throws Exception {
+        String newTaskJson = """
+                {
+                    "title": "Counted Task",
+                    "dueDate": "%s",
+                    "userId": %d,
+                    "statusId": %d
+                }
+                """.formatted(LocalDate.now().minusDays(1), testUser.getId(), testStatus.getId());
+        mvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(newTaskJson))
+                .andExpect(status().isCreated());
+
+        mvc.perform(get("/api/tasks/stats/user/{userId}", testUser.getId())
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(testUser.getId()))
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.overdue").value(1))
+                .andExpect(jsonPath("$.byStatus[0].name").value("To Do"))
+                .andExpect(jsonPath("$.byStatus[0].count").value(1));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void getUserTaskCounters_WhenUserDoesNotExist_ReturnsNotFound() throws Exception {
+        mvc.perform(get("/api/tasks/stats/user/{userId}", 999999)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void exportTasks_AsCsv_StreamsAttachment() throws Exception {
+        MvcResult result = mvc.perform(get("/api/tasks/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"tasks.csv\""))
+                .andExpect(content().string(startsWith("id,title,description,")));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void exportTasks_WithUnknownFormat_ReturnsBadRequest() throws Exception {
+        mvc.perform(get("/api/tasks/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void importTasks_WithCsvBody_ImportsRecords() throws Exception {
+        // Names are resolved through the cache, which may still hold rows of earlier rolled back tests
+        referenceDataCache.refresh();
+        String csv = "title,userId,statusName\nImported Task,%d,To Do\nBroken Task,%d,Nope\n"
+                .formatted(testUser.getId(), testUser.getId());
+
+        mvc.perform(post("/api/tasks/import")
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.checkpoint").value(3))
+                .andExpect(jsonPath("$.completed").value(true))
+                .andExpect(jsonPath("$.errors[0].line").value(3));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    public void importTasks_WithImportId_StoresTheCheckpoint() throws Exception {
+        String csv = "title,userId\nImported Task,%d\n".formatted(testUser.getId());
+
+        mvc.perform(post("/api/tasks/import")
+                .param("importId", "backlog-1")
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.completed").value(true));
+
+        mvc.perform(get("/api/tasks/import/{importId}", "backlog-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.checkpoint").value(2))
+                .andExpect(jsonPath("$.completed").value(true));
+        mvc.perform(post("/api/tasks/import")
+                .param("importId", "backlog-1")
+                .param("resumeAfter", "1")
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     public void updateTask_WithValidData_ReturnsUpdatedTask() throws Exception {
@@ -197,6 +463,142 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$.description").value("Updated task description"));
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    public void updateTask_WithCurrentIfMatch_UpdatesAndReturnsNewETag() throws Exception {
+        String etag = mvc.perform(get("/api/tasks/{id}", testTask.getId()))
+                .andReturn().getResponse().getHeader("ETag");
+
+        String newEtag = mvc.perform(put("/api/tasks/{id}", testTask.getId())
+                .header("If-Match", etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"title\": \"First Edit\" }"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mvc.perform(get("/api/tasks/{id}", testTask.getId()).header("If-None-Match", newEtag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void updateTask_WithStaleIfMatch_ReturnsPreconditionFailed() throws Exception {
+        String etag = mvc.perform(get("/api/tasks/{id}", testTask.getId()))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mvc.perform(put("/api/tasks/{id}", testTask.getId())
+                .header("If-Match", etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"title\": \"First Edit\" }"))
+                .andExpect(status().isOk());
+
+        mvc.perform(put("/api/tasks/{id}", testTask.getId())
+                .header("If-Match", etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"title\": \"Second Edit\" }"))
+                .andExpect(status().isPreconditionFailed());
+
+        mvc.perform(get("/api/tasks/{id}", testTask.getId()))
+                .andExpect(jsonPath("$.title").value("First Edit"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void patchTask_WithMergePatch_ChangesOnlyGivenFields() throws Exception {
+        mvc.perform(patch("/api/tasks/{id}", testTask.getId())
+                .contentType("application/merge-patch+json")
+                .content("{ \"title\": \"Patched Task\", \"dueDate\": null }"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.title").value("Patched Task"))
+                .andExpect(jsonPath("$.description").value("Test task description"))
+                .andExpect(jsonPath("$.dueDate").doesNotExist())
+                .andExpect(jsonPath("$.statusName").value("To Do"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void patchTask_WithStatusOnly_ChangesStatus() throws Exception {
+        TaskStatus done = new TaskStatus();
+        done.setName("Done");
+        done = taskStatusRepository.save(done);
+        referenceDataCache.refresh();
+        String etag = mvc.perform(get("/api/tasks/{id}", testTask.getId()))
+                .andReturn().getResponse().getHeader("ETag");
+
+        String newEtag = mvc.perform(patch("/api/tasks/{id}", testTask.getId())
+                .header("If-Match", etag)
+                .contentType("application/merge-patch+json")
+                .content("{ \"statusId\": %d }".formatted(done.getId())))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$.statusName").value("Done"))
+                .andExpect(jsonPath("$.title").value("Test Task"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mvc.perform(get("/api/tasks/{id}", testTask.getId()).header("If-None-Match", newEtag))
+                .andExpect(status().isNotModified());
+        mvc.perform(patch("/api/tasks/{id}", testTask.getId())
+                .header("If-Match", etag)
+                .contentType("application/merge-patch+json")
+                .content("{ \"statusId\": %d }".formatted(testStatus.getId())))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void patchTask_WithReadOnlyField_ReturnsBadRequest() throws Exception {
+        mvc.perform(patch("/api/tasks/{id}", testTask.getId())
+                .contentType("application/merge-patch+json")
+                .content("{ \"createdAt\": \"2025-01-01T00:00:00Z\" }"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(patch("/api/tasks/{id}", testTask.getId())
+                .contentType("application/merge-patch+json")
+                .content("{ \"title\": null }"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void bulkUpdateTasks_ByIds_UpdatesOnlyChangedTasks() throws Exception {
+        TaskCategory bug = new TaskCategory();
+        bug.setName("Bug");
+        bug = taskCategoryRepository.save(bug);
+        referenceDataCache.refresh();
+        Task other = new Task();
+        other.setTitle("Other Task");
+        other.setUser(testUser);
+        other.setCategory(bug);
+        other = taskRepository.save(other);
+
+        String body = """
+                { "taskIds": [%d, %d], "categoryId": %d }
+                """.formatted(testTask.getId(), other.getId(), bug.getId());
+        mvc.perform(post("/api/tasks/bulk-update")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.statusChanged").value(0));
+
+        mvc.perform(get("/api/tasks/{id}", testTask.getId()))
+                .andExpect(jsonPath("$.categoryName").value("Bug"))
+                .andExpect(jsonPath("$.statusName").value("To Do"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void bulkUpdateTasks_WithIdsAndFilter_ReturnsBadRequest() throws Exception {
+        String body = """
+                { "taskIds": [%d], "filter": { "userId": %d }, "statusId": %d }
+                """.formatted(testTask.getId(), testUser.getId(), testStatus.getId());
+        mvc.perform(post("/api/tasks/bulk-update")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     public void deleteTask_WhenTaskExists_ReturnsNoContent() throws Exception {
@@ -212,8 +614,40 @@ public class TaskControllerTest {
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$[0].title").value("Test Task"));
+                .andExpect(jsonPath("$.items").isArray())
+                .andExpect(jsonPath("$.items[0].task.title").value("Test Task"))
+                .andExpect(jsonPath("$.items[0].titleHighlight").value("<mark>Test</mark> Task"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void searchTasks_MatchesDescriptionAndPaginates() throws Exception {
+        Task other = new Task();
+        other.setTitle("Another Task");
+        other.setDescription("Mentions the test keyword only here");
+        other.setUser(testUser);
+        taskRepository.save(other);
+
+        mvc.perform(get("/api/tasks/search")
+                .param("keyword", "test")
+                .param("size", "1")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].task.title").value("Test Task"))
+                .andExpect(jsonPath("$.hasMore").value(true));
+
+        mvc.perform(get("/api/tasks/search")
+                .param("keyword", "test")
+                .param("page", "1")
+                .param("size", "1")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].task.title").value("Another Task"))
+                .andExpect(jsonPath("$.items[0].descriptionHighlight")
+                        .value("Mentions the <mark>test</mark> keyword only here"))
+                .andExpect(jsonPath("$.hasMore").value(false));
     }
 
     @Test
@@ -228,7 +662,9 @@ public class TaskControllerTest {
         overdueTask.setUser(testUser);
         overdueTask.setStatus(testStatus);
         overdueTask.setCategory(testCategory);
-        taskRepository.save(overdueTask);
+        taskRepository.saveAndFlush(overdueTask);
+        // Saved behind the service's back, so the flag is set by the nightly refresh
+        taskOverdueService.refreshOverdueFlags();
 
         mvc.perform(get("/api/tasks/overdue/{userId}", testUser.getId())
                 .contentType(MediaType.APPLICATION_JSON))
@@ -238,6 +674,104 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$[0].title").value("Overdue Task"));
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    public void getOverdueTasksPage_ReturnsOverdueTasksWithCursor() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            Task overdueTask = new Task();
+            overdueTask.setTitle("Overdue Task " + i);
+            overdueTask.setDueDate(LocalDate.now().minusDays(3 - i));
+            overdueTask.setUser(testUser);
+            overdueTask.setStatus(testStatus);
+            taskRepository.save(overdueTask);
+        }
+        taskRepository.flush();
+        taskOverdueService.refreshOverdueFlags();
+
+        mvc.perform(get("/api/tasks/overdue/{userId}/page", testUser.getId())
+                .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].title").value("Overdue Task 0"))
+                .andExpect(jsonPath("$.items[1].title").value("Overdue Task 1"))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void getOverdueTasksPage_WhenUserDoesNotExist_ReturnsNotFound() throws Exception {
+        mvc.perform(get("/api/tasks/overdue/{userId}/page", 999999))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void getTasksPage_WalksAllPagesInDueDateOrder() throws Exception {
+        Task undated = new Task();
+        undated.setTitle("Undated Task");
+        undated.setUser(testUser);
+        undated.setStatus(testStatus);
+        taskRepository.save(undated);
+
+        Task earlier = new Task();
+        earlier.setTitle("Earlier Task");
+        earlier.setDueDate(LocalDate.now().plusDays(1));
+        earlier.setUser(testUser);
+        earlier.setStatus(testStatus);
+        taskRepository.save(earlier);
+
+        String firstPage = mvc.perform(get("/api/tasks/page")
+                .param("userId", String.valueOf(testUser.getId()))
+                .param("sort", "dueDate")
+                .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].title").value("Earlier Task"))
+                .andExpect(jsonPath("$.items[1].title").value("Test Task"))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        String cursor = com.jayway.jsonpath.JsonPath.read(firstPage, "$.nextCursor");
+
+        mvc.perform(get("/api/tasks/page")
+                .param("userId", String.valueOf(testUser.getId()))
+                .param("sort", "dueDate")
+                .param("limit", "2")
+                .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("Undated Task"))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void getTasksPage_WithFilters_ReturnsOnlyMatchingTasks() throws Exception {
+        mvc.perform(get("/api/tasks/page")
+                .param("statusId", String.valueOf(testStatus.getId()))
+                .param("categoryId", String.valueOf(testCategory.getId()))
+                .param("dueFrom", LocalDate.now().toString())
+                .param("dueTo", LocalDate.now().plusDays(30).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("Test Task"));
+
+        mvc.perform(get("/api/tasks/page")
+                .param("dueTo", LocalDate.now().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void getTasksPage_WithInvalidCursor_ReturnsBadRequest() throws Exception {
+        mvc.perform(get("/api/tasks/page")
+                .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     public void getAllTasks_WhenNotAuthenticated_ReturnsForbidden() throws Exception {
         mvc.perform(get("/api/tasks")
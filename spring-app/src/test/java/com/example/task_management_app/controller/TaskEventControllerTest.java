@@ -0,0 +1,61 @@
+package com.example.task_management_app.controller;
+
+import com.example.task_management_app.TaskManagementAppApplication;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK, classes = { TaskManagementAppApplication.class })
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application.properties")
+public class TaskEventControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    @WithMockUser(username = "watcher", roles = "USER")
+    public void streamEvents_OpensEventStreamAndSendsReady() throws Exception {
+        MvcResult result = mvc.perform(get("/api/tasks/events").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MockHttpServletResponse response = result.getResponse();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!response.getContentAsString().contains("event:ready") && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(response.getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        assertThat(response.getContentAsString()).contains("event:ready");
+        result.getRequest().getAsyncContext().complete();
+    }
+
+    @Test
+    @WithMockUser(username = "watcher", roles = "USER")
+    public void streamEvents_WithUnknownScope_ReturnsBadRequest() throws Exception {
+        mvc.perform(get("/api/tasks/events").param("scope", "team"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void streamEvents_WithoutAuthentication_IsRejected() throws Exception {
+        mvc.perform(get("/api/tasks/events"))
+                .andExpect(status().is4xxClientError());
+    }
+}
@@ -108,6 +108,20 @@ class TaskPriorityControllerTest {
                 .andExpect(jsonPath("$[1].displayOrder", is(3)));
     }
 
+    @Test
+    @WithMockUser
+    void getAllTaskPriorities_WhenETagMatches_ReturnsNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/api/task-priorities"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("no-cache")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/task-priorities").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+    }
+
     @Test
     @WithMockUser
     void getTaskPriorityById_ShouldReturnPriority_WhenPriorityExists() throws Exception {
@@ -98,6 +98,20 @@ class TaskStatusControllerTest {
                 .andExpect(jsonPath("$[1].color", is("#00FF00")));
     }
 
+    @Test
+    @WithMockUser
+    void getAllTaskStatuses_WhenETagMatches_ReturnsNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/api/task-statuses"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("no-cache")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/task-statuses").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+    }
+
     @Test
     @WithMockUser
     void getTaskStatusById_ShouldReturnStatus_WhenStatusExists() throws Exception {
@@ -0,0 +1,72 @@
+package com.example.task_management_app.security;
+
+import com.example.task_management_app.config.SecurityProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "testsecretkeythatneedstobereplacedwithlongersecretthatisatleast32characters";
+
+    private final UserDetails testUser = User.withUsername("testuser").password("").roles("USER").build();
+
+    private JwtUtil jwtUtil(long expiration) {
+        return new JwtUtil(new SecurityProperties() {
+            @Override
+            public String getJwtSecret() {
+                return SECRET;
+            }
+
+            @Override
+            public Long getJwtExpiration() {
+                return expiration;
+            }
+        });
+    }
+
+    @Test
+    void parseClaims_ReturnsSubjectAndValidatesAgainstUser() {
+        JwtUtil jwtUtil = jwtUtil(60_000L);
+        String token = jwtUtil.generateToken(testUser);
+
+        Claims claims = jwtUtil.parseClaims(token);
+
+        assertThat(claims.getSubject()).isEqualTo("testuser");
+        assertThat(jwtUtil.validateClaims(claims, testUser)).isTrue();
+        assertThat(jwtUtil.validateToken(token, testUser)).isTrue();
+    }
+
+    @Test
+    void validateClaims_WhenUserDiffers_ReturnsFalse() {
+        JwtUtil jwtUtil = jwtUtil(60_000L);
+        Claims claims = jwtUtil.parseClaims(jwtUtil.generateToken(testUser));
+        UserDetails otherUser = User.withUsername("otheruser").password("").roles("USER").build();
+
+        assertThat(jwtUtil.validateClaims(claims, otherUser)).isFalse();
+    }
+
+    @Test
+    void parseClaims_WhenSignatureTampered_ThrowsException() {
+        JwtUtil jwtUtil = jwtUtil(60_000L);
+        String token = jwtUtil.generateToken(testUser);
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> jwtUtil.parseClaims(tampered)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void parseClaims_WhenExpired_ThrowsException() {
+        JwtUtil jwtUtil = jwtUtil(-1_000L);
+        String token = jwtUtil.generateToken(testUser);
+
+        assertThatThrownBy(() -> jwtUtil.parseClaims(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.task_management_app.security;
+
+import com.example.task_management_app.config.SecurityProperties;
+import com.example.task_management_app.exception.HashingCapacityExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingExecutorTest {
+
+    private PasswordHashingExecutor hashingExecutor;
+
+    @BeforeEach
+    void setUp() {
+        hashingExecutor = new PasswordHashingExecutor(new SecurityProperties() {
+            @Override
+            public int getHashingThreads() {
+                return 1;
+            }
+
+            @Override
+            public int getHashingQueueCapacity() {
+                return 1;
+            }
+        }, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashingExecutor.shutdown();
+    }
+
+    @Test
+    void submit_CompletesWithResult() throws Exception {
+        assertThat(hashingExecutor.submit(() -> "hash").get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+    }
+
+    @Test
+    void submit_CompletesWithOriginalException() {
+        CompletableFuture<String> future = hashingExecutor.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void submit_WhenPoolAndQueueAreFull_Rejects() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = hashingExecutor.submit(() -> {
+            started.countDown();
+            await(release);
+            return "first";
+        });
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = hashingExecutor.submit(() -> "second");
+
+        assertThatThrownBy(() -> hashingExecutor.submit(() -> "third"))
+                .isInstanceOf(HashingCapacityExceededException.class);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
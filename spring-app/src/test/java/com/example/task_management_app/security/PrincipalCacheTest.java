@@ -0,0 +1,92 @@
+package com.example.task_management_app.security;
+
+import com.example.task_management_app.config.SecurityProperties;
+import com.example.task_management_app.event.UserChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+
+    @Mock
+    private SecurityProperties securityProperties;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+    private AtomicInteger loads;
+    private Function<String, UserDetails> loader;
+
+    @BeforeEach
+    void setUp() {
+        when(securityProperties.getPrincipalCacheMaxSize()).thenReturn(100L);
+        when(securityProperties.getPrincipalCacheTtlSeconds()).thenReturn(300L);
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(securityProperties, meterRegistry);
+
+        loads = new AtomicInteger();
+        loader = username -> {
+            loads.incrementAndGet();
+            if (username.equals("missing")) {
+                throw new UsernameNotFoundException("User not found with username: " + username);
+            }
+            return User.withUsername(username).password("hash").roles("USER").build();
+        };
+    }
+
+    @Test
+    void get_LoadsOnceAndStripsCredentials() {
+        UserDetails first = principalCache.get("testuser", loader);
+        UserDetails second = principalCache.get("testuser", loader);
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+        assertThat(first.getPassword()).isEmpty();
+        assertThat(first.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void onUserChanged_EvictsPrincipal() {
+        principalCache.get("testuser", loader);
+
+        principalCache.onUserChanged(new UserChangedEvent("testuser"));
+        principalCache.get("testuser", loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_WhenUserDoesNotExist_DoesNotCacheFailure() {
+        assertThatThrownBy(() -> principalCache.get("missing", loader))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> principalCache.get("missing", loader))
+                .isInstanceOf(UsernameNotFoundException.class);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_PublishesHitAndMissMetrics() {
+        principalCache.get("testuser", loader);
+        principalCache.get("testuser", loader);
+        principalCache.get("testuser", loader);
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "principals").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "principals").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+}
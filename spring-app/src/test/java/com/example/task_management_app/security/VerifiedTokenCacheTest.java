@@ -0,0 +1,112 @@
+package com.example.task_management_app.security;
+
+import com.example.task_management_app.config.SecurityProperties;
+import com.example.task_management_app.event.UserChangedEvent;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerifiedTokenCacheTest {
+
+    private AtomicInteger verifications;
+    private Function<String, Claims> verifier;
+
+    @BeforeEach
+    void setUp() {
+        verifications = new AtomicInteger();
+        // Tokens in these tests are "subject:expiresInMillis"
+        verifier = token -> {
+            verifications.incrementAndGet();
+            String[] parts = token.split(":");
+            if (parts.length != 2) {
+                throw new MalformedJwtException("Bad token");
+            }
+            return Jwts.claims()
+                    .setSubject(parts[0])
+                    .setExpiration(new Date(System.currentTimeMillis() + Long.parseLong(parts[1])));
+        };
+    }
+
+    private VerifiedTokenCache cache(boolean enabled) {
+        return new VerifiedTokenCache(new SecurityProperties() {
+            @Override
+            public boolean isTokenCacheEnabled() {
+                return enabled;
+            }
+
+            @Override
+            public Long getTokenCacheMaxSize() {
+                return 100L;
+            }
+        }, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void verify_WhenEnabled_VerifiesRepeatedTokenOnce() {
+        VerifiedTokenCache tokenCache = cache(true);
+
+        Claims first = tokenCache.verify("alice:60000", verifier);
+        Claims second = tokenCache.verify("alice:60000", verifier);
+
+        assertThat(verifications.get()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+        assertThat(second.getSubject()).isEqualTo("alice");
+    }
+
+    @Test
+    void verify_WhenDisabled_AlwaysVerifies() {
+        VerifiedTokenCache tokenCache = cache(false);
+
+        tokenCache.verify("alice:60000", verifier);
+        tokenCache.verify("alice:60000", verifier);
+
+        assertThat(verifications.get()).isEqualTo(2);
+    }
+
+    @Test
+    void verify_WhenTokenExpiresAfterCaching_VerifiesAgain() throws InterruptedException {
+        VerifiedTokenCache tokenCache = cache(true);
+
+        tokenCache.verify("alice:1500", verifier);
+        // JWT expirations have second precision
+        Thread.sleep(1600);
+        tokenCache.verify("alice:1500", verifier);
+
+        assertThat(verifications.get()).isEqualTo(2);
+    }
+
+    @Test
+    void verify_WhenVerificationFails_DoesNotCache() {
+        VerifiedTokenCache tokenCache = cache(true);
+
+        assertThatThrownBy(() -> tokenCache.verify("garbage", verifier))
+                .isInstanceOf(MalformedJwtException.class);
+        assertThatThrownBy(() -> tokenCache.verify("garbage", verifier))
+                .isInstanceOf(MalformedJwtException.class);
+
+        assertThat(verifications.get()).isEqualTo(2);
+    }
+
+    @Test
+    void onUserChanged_EvictsOnlyThatUsersTokens() {
+        VerifiedTokenCache tokenCache = cache(true);
+        tokenCache.verify("alice:60000", verifier);
+        tokenCache.verify("bob:60000", verifier);
+
+        tokenCache.onUserChanged(new UserChangedEvent("alice"));
+        tokenCache.verify("alice:60000", verifier);
+        tokenCache.verify("bob:60000", verifier);
+
+        assertThat(verifications.get()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.task_management_app.service;
+
+import com.example.task_management_app.model.TaskCategory;
+import com.example.task_management_app.model.TaskPriority;
+import com.example.task_management_app.model.TaskStatus;
+import com.example.task_management_app.repository.TaskCategoryRepository;
+import com.example.task_management_app.repository.TaskPriorityRepository;
+import com.example.task_management_app.repository.TaskStatusRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataCacheTest {
+
+    @Mock
+    private TaskStatusRepository taskStatusRepository;
+
+    @Mock
+    private TaskPriorityRepository taskPriorityRepository;
+
+    @Mock
+    private TaskCategoryRepository taskCategoryRepository;
+
+    private ReferenceDataCache referenceDataCache;
+
+    private TaskStatus todo;
+    private TaskPriority high;
+    private TaskCategory bug;
+
+    @BeforeEach
+    void setUp() {
+        todo = new TaskStatus(1, "To Do", null, null);
+        high = new TaskPriority(1, "High", 4, null, null, 4);
+        bug = new TaskCategory(1, "Bug", null, null);
+
+        when(taskStatusRepository.findAll()).thenReturn(List.of(todo));
+        when(taskPriorityRepository.findAll()).thenReturn(List.of(high));
+        when(taskCategoryRepository.findAll()).thenReturn(List.of(bug));
+
+        // Every miss reloads unless a test sets an interval
+        referenceDataCache = new ReferenceDataCache(taskStatusRepository, taskPriorityRepository,
+                taskCategoryRepository, Duration.ZERO);
+    }
+
+    @Test
+    void lookups_LoadAllTablesOnceAndServeFromMemory() {
+        assertThat(referenceDataCache.findStatus(1)).contains(todo);
+        assertThat(referenceDataCache.findPriority(1)).contains(high);
+        assertThat(referenceDataCache.findPriorityByValue(4)).contains(high);
+        assertThat(referenceDataCache.findCategory(1)).contains(bug);
+        assertThat(referenceDataCache.findStatusByName("To Do")).contains(todo);
+        assertThat(referenceDataCache.findPriorityByName("High")).contains(high);
+        assertThat(referenceDataCache.findCategoryByName("Bug")).contains(bug);
+        assertThat(referenceDataCache.findStatus(1)).contains(todo);
+
+        verify(taskStatusRepository, times(1)).findAll();
+        verify(taskPriorityRepository, times(1)).findAll();
+        verify(taskCategoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    void lookup_WhenKeyMissing_ReloadsOnceAndFindsNewRow() {
+        assertThat(referenceDataCache.findStatus(1)).contains(todo);
+
+        TaskStatus done = new TaskStatus(2, "Done", null, null);
+        when(taskStatusRepository.findAll()).thenReturn(List.of(todo, done));
+
+        assertThat(referenceDataCache.findStatus(2)).contains(done);
+        assertThat(referenceDataCache.findStatus(2)).contains(done);
+        verify(taskStatusRepository, times(2)).findAll();
+    }
+
+    @Test
+    void lookup_WhenSnapshotIsRecent_AnswersMissesFromItWithoutReloading() {
+        referenceDataCache = new ReferenceDataCache(taskStatusRepository, taskPriorityRepository,
+                taskCategoryRepository, Duration.ofMinutes(1));
+        assertThat(referenceDataCache.findStatus(1)).contains(todo);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(referenceDataCache.findCategoryByName("Unknown")).isEmpty();
+        }
+
+        verify(taskStatusRepository, times(1)).findAll();
+        verify(taskPriorityRepository, times(1)).findAll();
+        verify(taskCategoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    void lookup_WhenKeyDoesNotExist_ReturnsEmpty() {
+        assertThat(referenceDataCache.findCategory(99)).isEmpty();
+        assertThat(referenceDataCache.findStatus(null)).isEmpty();
+    }
+
+    @Test
+    void refresh_SwapsInChangedRows() {
+        assertThat(referenceDataCache.findStatus(1)).contains(todo);
+
+        TaskStatus renamed = new TaskStatus(1, "Backlog", null, null);
+        when(taskStatusRepository.findAll()).thenReturn(List.of(renamed));
+        referenceDataCache.refresh();
+
+        assertThat(referenceDataCache.findStatus(1)).contains(renamed);
+        assertThat(referenceDataCache.findStatusByName("Backlog")).contains(renamed);
+    }
+
+    @Test
+    void getVersion_DependsOnlyOnContent() {
+        String before = referenceDataCache.getVersion();
+        referenceDataCache.refresh();
+        assertThat(referenceDataCache.getVersion()).isEqualTo(before);
+
+        when(taskStatusRepository.findAll()).thenReturn(List.of(new TaskStatus(1, "Backlog", null, null)));
+        referenceDataCache.refresh();
+
+        assertThat(referenceDataCache.getVersion()).isNotEqualTo(before);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.task_management_app.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchHighlighterTest {
+
+    @Test
+    void highlight_MarksEveryTermCaseInsensitively() {
+        List<String> terms = SearchHighlighter.terms("deploy  API");
+
+        String result = SearchHighlighter.highlight("Deploy the api to staging", terms, 200);
+
+        assertThat(result).isEqualTo("<mark>Deploy</mark> the <mark>api</mark> to staging");
+    }
+
+    @Test
+    void highlight_EscapesTaskContent() {
+        String result = SearchHighlighter.highlight("<b>fix</b> & ship", SearchHighlighter.terms("fix"), 200);
+
+        assertThat(result).isEqualTo("&lt;b&gt;<mark>fix</mark>&lt;/b&gt; &amp; ship");
+    }
+
+    @Test
+    void highlight_TrimsLongTextAroundFirstMatch() {
+        String text = "a".repeat(300) + " needle " + "b".repeat(300);
+
+        String result = SearchHighlighter.highlight(text, SearchHighlighter.terms("needle"), 60);
+
+        assertThat(result).startsWith("…").endsWith("…").contains("<mark>needle</mark>");
+    }
+
+    @Test
+    void fromHeadline_ReplacesDelimitersAfterEscaping() {
+        String headline = "Ship " + SearchHighlighter.START_SEL + "release" + SearchHighlighter.STOP_SEL + " <now>";
+
+        assertThat(SearchHighlighter.fromHeadline(headline)).isEqualTo("Ship <mark>release</mark> &lt;now&gt;");
+    }
+}
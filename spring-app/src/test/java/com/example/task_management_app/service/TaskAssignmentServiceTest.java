@@ -0,0 +1,128 @@
+package com.example.task_management_app.service;
+
+import com.example.task_management_app.TaskManagementAppApplication;
+import com.example.task_management_app.dto.TaskAssigneeDTO;
+import com.example.task_management_app.dto.TaskDTO;
+import com.example.task_management_app.dto.TaskPageDTO;
+import com.example.task_management_app.exception.ResourceNotFoundException;
+import com.example.task_management_app.model.Task;
+import com.example.task_management_app.model.User;
+import com.example.task_management_app.repository.TaskRepository;
+import com.example.task_management_app.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.example.task_management_app.TestFixtures.saveTask;
+import static com.example.task_management_app.TestFixtures.saveUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = { TaskManagementAppApplication.class })
+@TestPropertySource(locations = "classpath:application.properties")
+@Transactional
+class TaskAssignmentServiceTest {
+
+    @Autowired
+    private TaskAssignmentService taskAssignmentService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User owner;
+    private User worker;
+
+    @BeforeEach
+    void setUp() {
+        owner = saveUser(userRepository, "assign-owner");
+        worker = saveUser(userRepository, "assign-worker");
+    }
+
+    @Test
+    void assign_IsIdempotent_AndChangesTheTaskETag() {
+        Task task = saveTask(taskRepository, "Review", owner);
+        String before = taskService.getTaskETag(task.getId());
+
+        List<TaskAssigneeDTO> assignees = taskAssignmentService.assign(task.getId(), worker.getId());
+        String afterAssign = taskService.getTaskETag(task.getId());
+        taskAssignmentService.assign(task.getId(), worker.getId());
+
+        assertThat(assignees).extracting(TaskAssigneeDTO::getUsername).containsExactly("assign-worker");
+        assertThat(afterAssign).isNotEqualTo(before);
+        assertThat(taskService.getTaskETag(task.getId())).isEqualTo(afterAssign);
+        assertThat(taskService.getTaskById(task.getId()).getAssignees()).hasSize(1);
+    }
+
+    @Test
+    void unassign_RemovesAssignee_AndFailsWhenNotAssigned() {
+        Task task = saveTask(taskRepository, "Deploy", owner);
+        taskAssignmentService.assign(task.getId(), worker.getId());
+
+        taskAssignmentService.unassign(task.getId(), worker.getId());
+
+        assertThat(taskAssignmentService.getAssignees(task.getId())).isEmpty();
+        assertThatThrownBy(() -> taskAssignmentService.unassign(task.getId(), worker.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void assign_WhenUserDoesNotExist_ThrowsNotFound() {
+        Task task = saveTask(taskRepository, "Plan", owner);
+
+        assertThatThrownBy(() -> taskAssignmentService.assign(task.getId(), 999999))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void getWorkPage_ListsOwnedAndAssignedTasksOnce() {
+        Task owned = saveTask(taskRepository, "Owned", worker);
+        Task assigned = saveTask(taskRepository, "Assigned", owner);
+        Task both = saveTask(taskRepository, "Owned and assigned", worker);
+        saveTask(taskRepository, "Someone else's", owner);
+        taskAssignmentService.assign(assigned.getId(), worker.getId());
+        taskAssignmentService.assign(both.getId(), worker.getId());
+        entityManager.clear();
+
+        TaskPageDTO first = taskService.getWorkPage(worker.getId(), null, 2);
+        TaskPageDTO second = taskService.getWorkPage(worker.getId(), first.getNextCursor(), 2);
+
+        assertThat(first.getItems()).extracting(TaskDTO::getId).containsExactly(owned.getId(), assigned.getId());
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(second.getItems()).extracting(TaskDTO::getId).containsExactly(both.getId());
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(first.getItems().get(0).getAssignees()).isEmpty();
+        assertThat(second.getItems().get(0).getAssignees()).extracting(TaskAssigneeDTO::getUserId)
+                .containsExactly(worker.getId());
+    }
+
+    @Test
+    void getTaskUserIds_ReturnsOwnersAndAssigneesOfTheUsersTasks() {
+        User reviewer = saveUser(userRepository, "assign-reviewer");
+        User stranger = saveUser(userRepository, "assign-stranger");
+        Task owned = saveTask(taskRepository, "Owned", worker);
+        Task assigned = saveTask(taskRepository, "Assigned", owner);
+        saveTask(taskRepository, "Someone else's", stranger);
+        taskAssignmentService.assign(owned.getId(), reviewer.getId());
+        taskAssignmentService.assign(assigned.getId(), worker.getId());
+
+        assertThat(taskAssignmentService.getTaskUserIds(worker.getId()))
+                .containsExactlyInAnyOrder(worker.getId(), owner.getId(), reviewer.getId());
+        assertThat(taskAssignmentService.getTaskUserIds(stranger.getId())).containsExactly(stranger.getId());
+        assertThat(taskAssignmentService.getTaskUserIds(saveUser(userRepository, "assign-idle").getId())).isEmpty();
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.task_management_app.service;
+
+import com.example.task_management_app.TaskManagementAppApplication;
+import com.example.task_management_app.dto.TaskAttachmentDTO;
+import com.example.task_management_app.model.AttachmentBlob;
+import com.example.task_management_app.model.Task;
+import com.example.task_management_app.model.TaskAttachment;
+import com.example.task_management_app.model.User;
+import com.example.task_management_app.repository.AttachmentBlobRepository;
+import com.example.task_management_app.repository.TaskAttachmentRepository;
+import com.example.task_management_app.repository.TaskRepository;
+import com.example.task_management_app.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static com.example.task_management_app.TestFixtures.saveTask;
+import static com.example.task_management_app.TestFixtures.saveUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+
+@SpringBootTest(classes = { TaskManagementAppApplication.class })
+@TestPropertySource(locations = "classpath:application.properties")
+@Transactional
+class TaskAttachmentServiceTest {
+
+    @Autowired
+    private TaskAttachmentService taskAttachmentService;
+
+    @Autowired
+    private TaskAttachmentGarbageCollector garbageCollector;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskAttachmentRepository taskAttachmentRepository;
+
+    @MockitoSpyBean
+    private AttachmentBlobRepository attachmentBlobRepository;
+
+    @Autowired
+    private TaskAttachmentStorage storage;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Value("${task.attachments.dir}")
+    private String attachmentsDir;
+
+    private Task task;
+    private Task otherTask;
+
+    @BeforeEach
+    void setUp() {
+        User user = saveUser(userRepository, "attacher");
+
+        task = saveTask(taskRepository, "Spec review", user);
+        otherTask = saveTask(taskRepository, "Implementation", user);
+    }
+
+    @Test
+    void addAttachment_WithSameContent_StoresItOnce() {
+        String content = "Shared spec " + System.nanoTime();
+        TaskAttachmentDTO first = upload(task, "spec.pdf", content);
+        TaskAttachmentDTO second = upload(otherTask, "spec-copy.pdf", content);
+
+        TaskAttachment firstAttachment = taskAttachmentRepository.findById(first.getId()).orElseThrow();
+        TaskAttachment secondAttachment = taskAttachmentRepository.findById(second.getId()).orElseThrow();
+        assertThat(secondAttachment.getContentSha256()).isEqualTo(firstAttachment.getContentSha256());
+        assertThat(secondAttachment.getFilePath()).isEqualTo(firstAttachment.getFilePath())
+                .startsWith("blobs/");
+        assertThat(second.getFileName()).isEqualTo("spec-copy.pdf");
+        assertThat(blob(firstAttachment).getRefCount()).isEqualTo(2);
+        assertThat(Path.of(attachmentsDir, firstAttachment.getFilePath())).hasContent(content);
+    }
+
+    @Test
+    void deleteAttachment_ReleasesBlob_AndCollectorDeletesItAfterGracePeriod() {
+        String content = "Screenshot " + System.nanoTime();
+        TaskAttachmentDTO first = upload(task, "screen.png", content);
+        TaskAttachmentDTO second = upload(otherTask, "screen.png", content);
+        TaskAttachment attachment = taskAttachmentRepository.findById(first.getId()).orElseThrow();
+        Path file = Path.of(attachmentsDir, attachment.getFilePath());
+
+        taskAttachmentService.deleteAttachment(task.getId(), first.getId(), "attacher", false);
+        entityManager.clear();
+        assertThat(blob(attachment).getRefCount()).isEqualTo(1);
+        assertThat(garbageCollector.collect(OffsetDateTime.now().plusSeconds(1))).isZero();
+
+        taskAttachmentService.deleteAttachment(otherTask.getId(), second.getId(), "attacher", false);
+        entityManager.clear();
+        assertThat(blob(attachment).getRefCount()).isZero();
+        // Still within the grace period
+        assertThat(garbageCollector.collect(OffsetDateTime.now().minusMinutes(1))).isZero();
+        assertThat(file).exists();
+
+        assertThat(garbageCollector.collect(OffsetDateTime.now().plusSeconds(1))).isEqualTo(1);
+        assertThat(attachmentBlobRepository.findById(attachment.getContentSha256())).isEmpty();
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void deleteTask_ReleasesTheReferencesOfItsAttachments() {
+        String content = "Notes " + System.nanoTime();
+        TaskAttachmentDTO kept = upload(otherTask, "notes.txt", content);
+        upload(task, "notes.txt", content);
+        upload(task, "notes (1).txt", content);
+        TaskAttachment attachment = taskAttachmentRepository.findById(kept.getId()).orElseThrow();
+        assertThat(blob(attachment).getRefCount()).isEqualTo(3);
+        // As in a separate request, the attachments are not loaded when the task is deleted
+        entityManager.flush();
+        entityManager.clear();
+
+        taskService.deleteTask(task.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(blob(attachment).getRefCount()).isEqualTo(1);
+    }
+
+    @Test
+    void addAttachment_WhenBlobIsCollectedWhileWaitingForIt_StoresTheContentAgain() {
+        String content = "Recycled " + System.nanoTime();
+        TaskAttachmentDTO first = upload(task, "old.txt", content);
+        TaskAttachment attachment = taskAttachmentRepository.findById(first.getId()).orElseThrow();
+        Path file = Path.of(attachmentsDir, attachment.getFilePath());
+        taskAttachmentService.deleteAttachment(task.getId(), first.getId(), "attacher", false);
+
+        // As if the collector deleted the blob after the upload found it, before the upload locked it
+        Answer<?> delegate = mockingDetails(attachmentBlobRepository).getMockCreationSettings().getDefaultAnswer();
+        doAnswer(invocation -> {
+            storage.deleteBlob(invocation.getArgument(0));
+            attachmentBlobRepository.deleteBlobById(invocation.getArgument(0));
+            return delegate.answer(invocation);
+        }).doAnswer(delegate).when(attachmentBlobRepository).acquire(anyString());
+        TaskAttachmentDTO second = upload(otherTask, "new.txt", content);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(taskAttachmentRepository.findById(second.getId())).isPresent();
+        assertThat(blob(attachment).getRefCount()).isEqualTo(1);
+        assertThat(file).hasContent(content);
+    }
+
+    @Test
+    void collectGarbage_CorrectsCountsThatDrifted() {
+        TaskAttachmentDTO uploaded = upload(task, "drift.txt", "Drift " + System.nanoTime());
+        TaskAttachment attachment = taskAttachmentRepository.findById(uploaded.getId()).orElseThrow();
+        entityManager.createQuery("UPDATE AttachmentBlob b SET b.refCount = 5").executeUpdate();
+
+        garbageCollector.collectGarbage();
+        entityManager.clear();
+
+        assertThat(blob(attachment).getRefCount()).isEqualTo(1);
+    }
+
+    @Test
+    void sweep_DeletesOldFilesUnknownToTheDatabase() throws Exception {
+        TaskAttachmentDTO uploaded = upload(task, "kept.txt", "Kept " + System.nanoTime());
+        Path kept = Path.of(attachmentsDir, taskAttachmentRepository.findById(uploaded.getId()).orElseThrow()
+                .getFilePath());
+        String strayHash = "0".repeat(63) + "1";
+        Path stray = Path.of(attachmentsDir, TaskAttachmentStorage.blobPath(strayHash));
+        Path staged = Path.of(attachmentsDir, "tmp", "abandoned-upload");
+        Path recent = Path.of(attachmentsDir, TaskAttachmentStorage.blobPath("0".repeat(63) + "2"));
+        for (Path file : new Path[] { stray, staged, recent }) {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, "leftover", StandardCharsets.UTF_8);
+        }
+        FileTime old = FileTime.from(Instant.now().minus(2, ChronoUnit.HOURS));
+        for (Path file : new Path[] { kept, stray, staged }) {
+            Files.setLastModifiedTime(file, old);
+        }
+
+        garbageCollector.sweep(Instant.now().minus(1, ChronoUnit.HOURS));
+
+        assertThat(stray).doesNotExist();
+        assertThat(staged).doesNotExist();
+        assertThat(kept).exists();
+        assertThat(recent).exists();
+        assertThat(attachmentBlobRepository.findById(strayHash)).isEmpty();
+        Files.delete(recent);
+    }
+
+    private TaskAttachmentDTO upload(Task target, String fileName, String content) {
+        return taskAttachmentService.addAttachment(target.getId(), "attacher",
+                new MockMultipartFile("file", fileName, "text/plain", content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private AttachmentBlob blob(TaskAttachment attachment) {
+        return attachmentBlobRepository.findById(attachment.getContentSha256()).orElseThrow();
+    }
+}
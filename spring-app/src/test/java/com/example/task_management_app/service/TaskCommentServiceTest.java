@@ -0,0 +1,137 @@
+package com.example.task_management_app.service;
+
+import com.example.task_management_app.TaskManagementAppApplication;
+import com.example.task_management_app.dto.TaskCommentDTO;
+import com.example.task_management_app.dto.TaskCommentPageDTO;
+import com.example.task_management_app.exception.ForbiddenOperationException;
+import com.example.task_management_app.exception.ResourceNotFoundException;
+import com.example.task_management_app.model.Task;
+import com.example.task_management_app.model.User;
+import com.example.task_management_app.repository.TaskRepository;
+import com.example.task_management_app.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.task_management_app.TestFixtures.saveUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = { TaskManagementAppApplication.class })
+@TestPropertySource(locations = "classpath:application.properties")
+@Transactional
+class TaskCommentServiceTest {
+
+    @Autowired
+    private TaskCommentService taskCommentService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User author;
+    private User otherAuthor;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        author = saveUser(userRepository, "commenter");
+        otherAuthor = saveUser(userRepository, "commenter2");
+
+        task = new Task();
+        task.setTitle("Discussed");
+        task.setUser(author);
+        task = taskRepository.save(task);
+    }
+
+    @Test
+    void getComments_WalksCommentsWithEqualTimestampsInIdOrder() {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(taskCommentService.addComment(task.getId(), i % 2 == 0 ? "commenter" : "commenter2",
+                    comment("Comment " + i)).getId());
+        }
+        // Same instant for all of them, so only the id tells them apart
+        entityManager.createQuery("UPDATE TaskComment c SET c.createdAt = :createdAt")
+                .setParameter("createdAt", OffsetDateTime.now().truncatedTo(ChronoUnit.SECONDS))
+                .executeUpdate();
+
+        List<Integer> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            TaskCommentPageDTO page = taskCommentService.getComments(task.getId(), cursor, 2);
+            page.getItems().forEach(item -> seen.add(item.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).containsExactlyElementsOf(ids);
+    }
+
+    @Test
+    void getComments_LoadsAuthorsInTheSameStatement() {
+        for (int i = 0; i < 4; i++) {
+            taskCommentService.addComment(task.getId(), i % 2 == 0 ? "commenter" : "commenter2",
+                    comment("Comment " + i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        TaskCommentPageDTO page = taskCommentService.getComments(task.getId(), null, 10);
+
+        assertThat(page.getItems()).extracting(TaskCommentDTO::getUsername)
+                .containsExactly("commenter", "commenter2", "commenter", "commenter2");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void deleteComment_ByAnotherUser_ThrowsForbiddenOperationException() {
+        TaskCommentDTO created = taskCommentService.addComment(task.getId(), "commenter", comment("Mine"));
+
+        assertThatThrownBy(() -> taskCommentService.deleteComment(task.getId(), created.getId(), "commenter2", false))
+                .isInstanceOf(ForbiddenOperationException.class);
+        assertThatThrownBy(() -> taskCommentService.deleteComment(task.getId(), 999999, "commenter", false))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Comment not found with id: 999999");
+    }
+
+    @Test
+    void userDeleted_TakesTheirCommentsOutOfTheCounts() {
+        taskCommentService.addComment(task.getId(), "commenter", comment("Kept"));
+        taskCommentService.addComment(task.getId(), "commenter2", comment("Removed 1"));
+        taskCommentService.addComment(task.getId(), "commenter2", comment("Removed 2"));
+
+        taskCommentService.userDeleted(otherAuthor.getId());
+        entityManager.clear();
+
+        assertThat(taskRepository.findById(task.getId()).orElseThrow().getCommentCount()).isEqualTo(1);
+    }
+
+    private TaskCommentDTO comment(String content) {
+        TaskCommentDTO comment = new TaskCommentDTO();
+        comment.setContent(content);
+        return comment;
+    }
+}
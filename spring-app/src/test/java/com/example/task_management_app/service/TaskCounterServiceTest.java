@@ -0,0 +1,198 @@
+package com.example.task_management_app.service;
+
+import com.example.task_management_app.TaskManagementAppApplication;
+import com.example.task_management_app.dto.TaskBulkUpdateDTO;
+import com.example.task_management_app.dto.TaskBulkUpdateResultDTO;
+import com.example.task_management_app.dto.TaskCountDTO;
+import com.example.task_management_app.dto.TaskDTO;
+import com.example.task_management_app.dto.TaskFilterDTO;
+import com.example.task_management_app.dto.UserTaskCountersDTO;
+import com.example.task_management_app.exception.ResourceNotFoundException;
+import com.example.task_management_app.model.TaskStatus;
+import com.example.task_management_app.model.User;
+import com.example.task_management_app.repository.TaskStatusRepository;
+import com.example.task_management_app.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.task_management_app.TestFixtures.saveUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that the counters maintained on each task write agree with a full
+ * rebuild from the tasks table.
+ */
+@SpringBootTest(classes = { TaskManagementAppApplication.class })
+@TestPropertySource(locations = "classpath:application.properties")
+@Transactional
+class TaskCounterServiceTest {
+
+    @Autowired
+    private TaskCounterService taskCounterService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private User otherUser;
+    private TaskStatus todo;
+    private TaskStatus done;
+
+    @BeforeEach
+    void setUp() {
+        user = saveUser(userRepository, "counters");
+        otherUser = saveUser(userRepository, "counters2");
+
+        todo = new TaskStatus();
+        todo.setName("Counter To Do");
+        todo = taskStatusRepository.save(todo);
+
+        done = new TaskStatus();
+        // A completed status (task.overdue.completed-statuses), so its tasks are never overdue
+        done.setName("Done");
+        done = taskStatusRepository.save(done);
+    }
+
+    @Test
+    void taskWrites_KeepCountersInStep() {
+        TaskDTO overdue = taskService.createTask(newTask("Overdue", todo, LocalDate.now().minusDays(1)));
+        TaskDTO upcoming = taskService.createTask(newTask("Upcoming", todo, LocalDate.now().plusDays(3)));
+        taskService.createTask(newTask("No status", null, null));
+
+        UserTaskCountersDTO counters = taskCounterService.getUserCounters(user.getId());
+        assertThat(counters.getTotal()).isEqualTo(3);
+        assertThat(counters.getOverdue()).isEqualTo(1);
+        assertThat(countFor(counters, todo.getId())).isEqualTo(2);
+        assertThat(countFor(counters, null)).isEqualTo(1);
+
+        // Complete the overdue task and hand the other one to another user
+        TaskDTO completed = newTask("Overdue", done, overdue.getDueDate());
+        taskService.updateTask(overdue.getId(), completed);
+        TaskDTO reassigned = newTask("Upcoming", todo, upcoming.getDueDate());
+        reassigned.setUserId(otherUser.getId());
+        taskService.updateTask(upcoming.getId(), reassigned);
+
+        counters = taskCounterService.getUserCounters(user.getId());
+        assertThat(counters.getTotal()).isEqualTo(2);
+        assertThat(counters.getOverdue()).isZero();
+        assertThat(countFor(counters, done.getId())).isEqualTo(1);
+        assertThat(countFor(counters, todo.getId())).isNull();
+        assertThat(taskCounterService.getUserCounters(otherUser.getId()).getTotal()).isEqualTo(1);
+
+        taskService.deleteTask(overdue.getId());
+        taskService.saveTasks(List.of(
+                newTask("Batch 1", todo, LocalDate.now().minusDays(5)),
+                newTask("Batch 2", todo, null)));
+
+        counters = taskCounterService.getUserCounters(user.getId());
+        assertThat(counters.getTotal()).isEqualTo(3);
+        assertThat(counters.getOverdue()).isEqualTo(1);
+        assertThat(countFor(counters, todo.getId())).isEqualTo(2);
+
+        // A full rebuild must not change anything
+        entityManager.flush();
+        taskCounterService.reconcile();
+        UserTaskCountersDTO rebuilt = taskCounterService.getUserCounters(user.getId());
+        assertThat(rebuilt.getTotal()).isEqualTo(counters.getTotal());
+        assertThat(rebuilt.getOverdue()).isEqualTo(counters.getOverdue());
+        assertThat(rebuilt.getByStatus()).containsExactlyInAnyOrderElementsOf(counters.getByStatus());
+    }
+
+    @Test
+    void setBasedStatusChanges_KeepCountersInStep() {
+        TaskDTO overdue = taskService.createTask(newTask("Overdue", todo, LocalDate.now().minusDays(1)));
+        taskService.createTask(newTask("Upcoming", todo, LocalDate.now().plusDays(3)));
+        taskService.createTask(newTask("No status", null, null));
+        TaskDTO alreadyDone = taskService.createTask(newTask("Done", done, null));
+
+        // Status-only patch takes the single-statement path
+        taskService.patchTask(overdue.getId(), Map.of("statusId", done.getId()), null);
+        UserTaskCountersDTO counters = taskCounterService.getUserCounters(user.getId());
+        assertThat(countFor(counters, done.getId())).isEqualTo(2);
+        assertThat(countFor(counters, todo.getId())).isEqualTo(1);
+        assertThat(counters.getOverdue()).isZero();
+
+        TaskFilterDTO filter = new TaskFilterDTO();
+        filter.setUserId(user.getId());
+        TaskBulkUpdateResultDTO result = taskService.bulkUpdateTasks(
+                new TaskBulkUpdateDTO(null, filter, todo.getId(), null, null));
+
+        assertThat(result.getUpdated()).isEqualTo(3);
+        assertThat(result.getStatusChanged()).isEqualTo(3);
+        counters = taskCounterService.getUserCounters(user.getId());
+        assertThat(counters.getTotal()).isEqualTo(4);
+        assertThat(counters.getOverdue()).isEqualTo(1);
+        assertThat(countFor(counters, todo.getId())).isEqualTo(4);
+        assertThat(countFor(counters, done.getId())).isNull();
+        assertThat(countFor(counters, null)).isNull();
+
+        result = taskService.bulkUpdateTasks(
+                new TaskBulkUpdateDTO(List.of(alreadyDone.getId()), null, todo.getId(), null, null));
+        assertThat(result.getUpdated()).isZero();
+
+        result = taskService.bulkUpdateTasks(new TaskBulkUpdateDTO(null, filter, done.getId(), null, null));
+        assertThat(result.getStatusChanged()).isEqualTo(4);
+        counters = taskCounterService.getUserCounters(user.getId());
+        assertThat(counters.getOverdue()).isZero();
+        assertThat(countFor(counters, done.getId())).isEqualTo(4);
+
+        entityManager.flush();
+        taskCounterService.reconcile();
+        UserTaskCountersDTO rebuilt = taskCounterService.getUserCounters(user.getId());
+        assertThat(rebuilt.getTotal()).isEqualTo(counters.getTotal());
+        assertThat(rebuilt.getOverdue()).isEqualTo(counters.getOverdue());
+        assertThat(rebuilt.getByStatus()).containsExactlyInAnyOrderElementsOf(counters.getByStatus());
+    }
+
+    @Test
+    void getUserCounters_WhenUserHasNoTasks_ReturnsZeroes() {
+        UserTaskCountersDTO counters = taskCounterService.getUserCounters(user.getId());
+
+        assertThat(counters.getTotal()).isZero();
+        assertThat(counters.getOverdue()).isZero();
+        assertThat(counters.getByStatus()).isEmpty();
+    }
+
+    @Test
+    void getUserCounters_WhenUserDoesNotExist_ThrowsResourceNotFoundException() {
+        assertThatThrownBy(() -> taskCounterService.getUserCounters(999999))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("User not found with id: 999999");
+    }
+
+    private Long countFor(UserTaskCountersDTO counters, Integer statusId) {
+        return counters.getByStatus().stream()
+                .filter(count -> statusId == null ? count.getId() == null : statusId.equals(count.getId()))
+                .map(TaskCountDTO::getCount)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private TaskDTO newTask(String title, TaskStatus status, LocalDate dueDate) {
+        TaskDTO task = new TaskDTO();
+        task.setTitle(title);
+        task.setUserId(user.getId());
+        task.setStatusId(status != null ? status.getId() : null);
+        task.setDueDate(dueDate);
+        return task;
+    }
+}
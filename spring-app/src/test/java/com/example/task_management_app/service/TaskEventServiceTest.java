@@ -0,0 +1,236 @@
+package com.example.task_management_app.service;
+
+import com.example.task_management_app.event.TaskChangedEvent;
+import com.example.task_management_app.event.UserChangedEvent;
+import com.example.task_management_app.model.User;
+import com.example.task_management_app.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.task_management_app.TestFixtures.newUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskEventServiceTest {
+
+    private static final int BUFFER_SIZE = 4;
+    private static final Duration SEND_TIMEOUT = Duration.ofMillis(200);
+
+    @Mock
+    private UserRepository userRepository;
+
+    private TaskEventService taskEventService;
+
+    // When set, the next connection opened holds the (single) sender thread until it is released
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        taskEventService = new TaskEventService(userRepository, new SimpleMeterRegistry(), BUFFER_SIZE,
+                Duration.ofMinutes(1), 1, SEND_TIMEOUT) {
+            @Override
+            SseEmitter createEmitter(long timeout) {
+                RecordingEmitter emitter = new RecordingEmitter(timeout, release);
+                release = null;
+                return emitter;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskEventService.shutdown();
+    }
+
+    @Test
+    void onTaskChanged_SendsToAllStreams_AndToMineOnlyForTheUsersTasks() throws Exception {
+        User alice = newUser("alice");
+        alice.setId(7);
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(alice));
+        RecordingEmitter all = (RecordingEmitter) taskEventService.subscribe("bob", false);
+        RecordingEmitter mine = (RecordingEmitter) taskEventService.subscribe("alice", true);
+
+        taskEventService.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.CREATED, 1, Set.of(3)));
+        taskEventService.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, 2, Set.of(3, 7)));
+        taskEventService.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.DELETED, 3, Set.of(7)));
+
+        assertThat(all.awaitEvents(4)).containsExactly("event:ready data:{}", "event:created data:{\"taskId\":1}",
+                "event:updated data:{\"taskId\":2}", "event:deleted data:{\"taskId\":3}");
+        assertThat(mine.awaitEvents(3)).containsExactly("event:ready data:{}", "event:updated data:{\"taskId\":2}",
+                "event:deleted data:{\"taskId\":3}");
+    }
+
+    @Test
+    void onTaskChanged_WhenBufferOverflows_ReplacesMissedEventsWithResync() throws Exception {
+        release = new CountDownLatch(1);
+        RecordingEmitter slow = (RecordingEmitter) taskEventService.subscribe("carol", false);
+        taskEventService.sendHeartbeats();
+        assertThat(slow.blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        RecordingEmitter emitter = (RecordingEmitter) taskEventService.subscribe("bob", false);
+
+        // The sender is busy, so these pile up in the buffer
+        for (int taskId = 1; taskId <= BUFFER_SIZE + 1; taskId++) {
+            taskEventService.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, taskId, Set.of()));
+        }
+        taskEventService.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, 100, Set.of()));
+        slow.release.countDown();
+
+        assertThat(emitter.awaitEvents(3)).containsExactly("event:ready data:{}", "event:resync data:{}",
+                "event:updated data:{\"taskId\":100}");
+    }
+
+    @Test
+    void onTaskChanged_ForBulkUpdate_SendsResyncToAllStreams_AndToMineOnlyForTheUsersTasks() throws Exception {
+        User alice = newUser("alice");
+        alice.setId(7);
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(alice));
+        RecordingEmitter all = (RecordingEmitter) taskEventService.subscribe("bob", false);
+        RecordingEmitter mine = (RecordingEmitter) taskEventService.subscribe("alice", true);
+
+        taskEventService.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.BULK_UPDATED, null, Set.of(3)));
+        taskEventService.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.DELETED, 1, Set.of(7)));
+
+        assertThat(all.awaitEvents(3)).containsExactly("event:ready data:{}", "event:resync data:{}",
+                "event:deleted data:{\"taskId\":1}");
+        assertThat(mine.awaitEvents(2)).containsExactly("event:ready data:{}", "event:deleted data:{\"taskId\":1}");
+    }
+
+    @Test
+    void onUserChanged_SendsResyncOnlyWhenTheChangeShowsInTheUsersTasks() throws Exception {
+        User alice = newUser("alice");
+        alice.setId(7);
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(alice));
+        RecordingEmitter all = (RecordingEmitter) taskEventService.subscribe("bob", false);
+        RecordingEmitter mine = (RecordingEmitter) taskEventService.subscribe("alice", true);
+
+        taskEventService.onUserChanged(new UserChangedEvent("carol"));
+        taskEventService.onUserChanged(new UserChangedEvent("dave", Set.of(3, 4)));
+        taskEventService.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.DELETED, 1, Set.of(7)));
+
+        assertThat(all.awaitEvents(3)).containsExactly("event:ready data:{}", "event:resync data:{}",
+                "event:deleted data:{\"taskId\":1}");
+        assertThat(mine.awaitEvents(2)).containsExactly("event:ready data:{}", "event:deleted data:{\"taskId\":1}");
+
+        taskEventService.onUserChanged(new UserChangedEvent("erin", Set.of(7)));
+
+        assertThat(mine.awaitEvents(3)).endsWith("event:resync data:{}");
+    }
+
+    @Test
+    void sendHeartbeats_DropsStreamsThatFailToWrite() throws Exception {
+        RecordingEmitter emitter = (RecordingEmitter) taskEventService.subscribe("bob", false);
+        assertThat(taskEventService.getConnectionCount()).isEqualTo(1);
+
+        emitter.disconnect();
+        taskEventService.sendHeartbeats();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (taskEventService.getConnectionCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(taskEventService.getConnectionCount()).isZero();
+    }
+
+    @Test
+    void abandonStuckSends_DropsStreamsThatStoppedReading_AndKeepsSendingToTheOthers() throws Exception {
+        release = new CountDownLatch(1);
+        RecordingEmitter stuck = (RecordingEmitter) taskEventService.subscribe("carol", false);
+        taskEventService.sendHeartbeats();
+        assertThat(stuck.blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        RecordingEmitter emitter = (RecordingEmitter) taskEventService.subscribe("bob", false);
+
+        Thread.sleep(SEND_TIMEOUT.toMillis());
+        taskEventService.abandonStuckSends();
+        taskEventService.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, 1, Set.of()));
+
+        // Delivered while the only sender thread is still stuck writing to the other stream
+        assertThat(emitter.awaitEvents(2)).containsExactly("event:ready data:{}", "event:updated data:{\"taskId\":1}");
+        assertThat(taskEventService.getConnectionCount()).isEqualTo(1);
+        assertThat(stuck.failure).isNull();
+
+        stuck.release.countDown();
+        assertThat(stuck.awaitFailure()).hasMessage("Event stream write timed out");
+    }
+
+    /**
+     * Records the events sent, one line per event, as they would be written
+     * to the response. With a release latch, every send after "ready" waits
+     * for it.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private volatile boolean disconnected;
+        private volatile Throwable failure;
+
+        RecordingEmitter(long timeout, CountDownLatch release) {
+            super(timeout);
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (release != null && !events.isEmpty()) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            if (disconnected) {
+                throw new IOException("Broken pipe");
+            }
+            StringBuilder event = new StringBuilder();
+            for (DataWithMediaType data : builder.build()) {
+                event.append(data.getData());
+            }
+            events.add(event.toString().trim().replace("\n", " "));
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            failure = ex;
+            super.completeWithError(ex);
+        }
+
+        void disconnect() {
+            disconnected = true;
+        }
+
+        List<String> awaitEvents(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (events.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            return events;
+        }
+
+        Throwable awaitFailure() throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (failure == null && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            return failure;
+        }
+    }
+}
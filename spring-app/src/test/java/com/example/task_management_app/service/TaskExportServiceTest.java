@@ -0,0 +1,122 @@
+package com.example.task_management_app.service;
+
+import com.example.task_management_app.TaskManagementAppApplication;
+import com.example.task_management_app.model.Task;
+import com.example.task_management_app.model.User;
+import com.example.task_management_app.repository.TaskRepository;
+import com.example.task_management_app.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.example.task_management_app.TestFixtures.saveUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// The export joins the test transaction here, so it sees the rows created in setUp
+@SpringBootTest(classes = { TaskManagementAppApplication.class })
+@TestPropertySource(locations = "classpath:application.properties")
+@Transactional
+class TaskExportServiceTest {
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = saveUser(userRepository, "exporter");
+
+        saveTask("Plain task", null);
+        saveTask("Quoted, \"tricky\" task", "line one\nline two");
+    }
+
+    @Test
+    void export_Ndjson_WritesOneObjectPerLine() throws Exception {
+        List<String> lines = exportLines(TaskFileFormat.NDJSON, "\n");
+
+        List<JsonNode> exported = lines.stream().map(this::readJson)
+                .filter(node -> node.get("userId").asInt() == user.getId())
+                .toList();
+        assertThat(exported).hasSize(2);
+        assertThat(exported.get(0).get("title").asText()).isEqualTo("Plain task");
+        assertThat(exported.get(0).get("username").asText()).isEqualTo("exporter");
+        assertThat(exported.get(1).get("description").asText()).isEqualTo("line one\nline two");
+    }
+
+    @Test
+    void export_Csv_WritesHeaderAndQuotesSpecialCharacters() {
+        String csv = export(TaskFileFormat.CSV);
+
+        assertThat(csv).startsWith(TaskExportService.CSV_HEADER + "\r\n");
+        assertThat(csv).contains(",Plain task,,");
+        assertThat(csv).contains(",\"Quoted, \"\"tricky\"\" task\",\"line one\nline two\",");
+        assertThat(csv).endsWith("\r\n");
+    }
+
+    @Test
+    void csvField_QuotesOnlyWhenNeeded() {
+        assertThat(TaskExportService.csvField("simple")).isEqualTo("simple");
+        assertThat(TaskExportService.csvField("a,b")).isEqualTo("\"a,b\"");
+        assertThat(TaskExportService.csvField("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+        assertThat(TaskExportService.csvField("two\r\nlines")).isEqualTo("\"two\r\nlines\"");
+    }
+
+    @Test
+    void formatFromParameter_RejectsUnknownFormat() {
+        assertThat(TaskFileFormat.fromParameter("CSV")).isEqualTo(TaskFileFormat.CSV);
+        assertThatThrownBy(() -> TaskFileFormat.fromParameter("xml"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("xml");
+    }
+
+    private List<String> exportLines(TaskFileFormat format, String separator) {
+        String output = export(format);
+        assertThat(output).endsWith(separator);
+        return Arrays.asList(output.split(separator));
+    }
+
+    private String export(TaskFileFormat format) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        taskExportService.export(format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private JsonNode readJson(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (Exception e) {
+            throw new AssertionError("Not a JSON line: " + line, e);
+        }
+    }
+
+    private void saveTask(String title, String description) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setDueDate(LocalDate.now());
+        task.setUser(user);
+        taskRepository.save(task);
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.task_management_app.service;
+
+import com.example.task_management_app.TaskManagementAppApplication;
+import com.example.task_management_app.dto.TaskDTO;
+import com.example.task_management_app.dto.TaskImportErrorDTO;
+import com.example.task_management_app.dto.TaskImportResultDTO;
+import com.example.task_management_app.exception.ResourceNotFoundException;
+import com.example.task_management_app.model.TaskCategory;
+import com.example.task_management_app.model.TaskStatus;
+import com.example.task_management_app.model.User;
+import com.example.task_management_app.repository.TaskCategoryRepository;
+import com.example.task_management_app.repository.TaskStatusRepository;
+import com.example.task_management_app.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.example.task_management_app.TestFixtures.saveUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = { TaskManagementAppApplication.class })
+@TestPropertySource(locations = "classpath:application.properties")
+@Transactional
+class TaskImportServiceTest {
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private TaskCategoryRepository taskCategoryRepository;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    private User user;
+    private TaskStatus status;
+    private TaskCategory category;
+
+    @BeforeEach
+    void setUp() {
+        user = saveUser(userRepository, "importer");
+
+        status = new TaskStatus();
+        status.setName("Import Status");
+        status = taskStatusRepository.save(status);
+
+        category = new TaskCategory();
+        category.setName("Import Category");
+        category = taskCategoryRepository.save(category);
+
+        // Rows created by earlier (rolled back) tests may still be cached under the same names
+        referenceDataCache.refresh();
+    }
+
+    @Test
+    void importTasks_Csv_ResolvesNamesAndReportsBadRecordsByLine() {
+        String csv = """
+                title,description,dueDate,username,status,category
+                First,plain,2030-01-02,importer,Import Status,Import Category
+                "Second, quoted","spans
+                two lines",,importer,Import Status,
+                Third,,2030-01-03,importer,No Such Status,
+                Fourth,too,few
+                Fifth,,not-a-date,importer,,
+                ,missing title,,importer,,
+                """;
+
+        TaskImportResultDTO result = importTasks(TaskFileFormat.CSV, csv, 0);
+
+        assertThat(result.isCompleted()).isTrue();
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(4);
+        assertThat(result.getCheckpoint()).isEqualTo(8);
+        assertThat(result.getErrors()).extracting(TaskImportErrorDTO::getLine).containsExactly(5L, 6L, 7L, 8L);
+        assertThat(result.getErrors().get(0).getError()).isEqualTo("Status not found with name: No Such Status");
+        assertThat(result.getErrors().get(1).getError()).isEqualTo("Expected 6 fields but found 3");
+
+        List<TaskDTO> tasks = taskService.getTasksByUserId(user.getId());
+        assertThat(tasks).extracting(TaskDTO::getTitle).containsExactly("First", "Second, quoted");
+        assertThat(tasks.get(0).getStatusName()).isEqualTo("Import Status");
+        assertThat(tasks.get(0).getCategoryName()).isEqualTo("Import Category");
+        assertThat(tasks.get(0).getDueDate()).isEqualTo(LocalDate.of(2030, 1, 2));
+        assertThat(tasks.get(1).getDescription()).isEqualTo("spans\ntwo lines");
+    }
+
+    @Test
+    void importTasks_Ndjson_ReportsInvalidLines() {
+        String ndjson = """
+                {"title":"Json task","userId":%d,"statusId":%d}
+
+                {"title": broken
+                {"title":"Unknown user","username":"nobody"}
+                ["not", "an", "object"]
+                """.formatted(user.getId(), status.getId());
+
+        TaskImportResultDTO result = importTasks(TaskFileFormat.NDJSON, ndjson, 0);
+
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(TaskImportErrorDTO::getLine).containsExactly(3L, 4L, 5L);
+        assertThat(result.getErrors().get(1).getError()).isEqualTo("User not found with username: nobody");
+        assertThat(taskService.getTasksByUserId(user.getId())).extracting(TaskDTO::getStatusName)
+                .containsExactly("Import Status");
+    }
+
+    @Test
+    void importTasks_SavesInBatchesAndResumesAfterCheckpoint() {
+        int records = TaskImportService.IMPORT_BATCH_SIZE * 2 + 10;
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 1; i <= records; i++) {
+            ndjson.append("{\"title\":\"Task ").append(i).append("\",\"username\":\"importer\"}\n");
+        }
+
+        TaskImportResultDTO resumed = importTasks(TaskFileFormat.NDJSON, ndjson.toString(),
+                TaskImportService.IMPORT_BATCH_SIZE);
+
+        assertThat(resumed.isCompleted()).isTrue();
+        assertThat(resumed.getImported()).isEqualTo(records - TaskImportService.IMPORT_BATCH_SIZE);
+        assertThat(resumed.getCheckpoint()).isEqualTo(records);
+        assertThat(taskService.getTasksByUserId(user.getId()).get(0).getTitle())
+                .isEqualTo("Task " + (TaskImportService.IMPORT_BATCH_SIZE + 1));
+    }
+
+    @Test
+    void importTasks_WithUnterminatedQuote_StopsAtLastCheckpoint() {
+        String csv = "title,username\nGood,importer\n\"Never closed,importer\nMore,importer\n";
+
+        TaskImportResultDTO result = importTasks(TaskFileFormat.CSV, csv, 0);
+
+        assertThat(result.isCompleted()).isFalse();
+        assertThat(result.getAbortReason()).isEqualTo("Line 3: Unterminated quoted field");
+        assertThat(result.getImported()).isZero();
+        assertThat(result.getCheckpoint()).isZero();
+    }
+
+    @Test
+    void importTasks_WithImportId_ResumesFromTheStoredCheckpointAfterTheUploadIsCutOff() {
+        int records = TaskImportService.IMPORT_BATCH_SIZE * 2 + 10;
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 1; i <= records; i++) {
+            ndjson.append("{\"title\":\"Task ").append(i).append("\",\"username\":\"importer\"}\n");
+        }
+        byte[] content = ndjson.toString().getBytes(StandardCharsets.UTF_8);
+        // The connection drops a few records into the second batch
+        InputStream cutOff = new SequenceInputStream(
+                new ByteArrayInputStream(content, 0, content.length / 2 - 100),
+                new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("Connection reset");
+                    }
+                });
+
+        TaskImportResultDTO interrupted = taskImportService.importTasks(TaskFileFormat.NDJSON, cutOff, "upload-1",
+                "importer");
+        assertThat(interrupted.isCompleted()).isFalse();
+        TaskImportResultDTO stored = taskImportService.getImport("upload-1", "importer");
+        assertThat(stored.getCheckpoint()).isEqualTo(TaskImportService.IMPORT_BATCH_SIZE);
+        assertThat(stored.getImported()).isEqualTo(TaskImportService.IMPORT_BATCH_SIZE);
+        assertThat(stored.isCompleted()).isFalse();
+
+        TaskImportResultDTO resumed = taskImportService.importTasks(TaskFileFormat.NDJSON,
+                new ByteArrayInputStream(content), "upload-1", "importer");
+
+        assertThat(resumed.isCompleted()).isTrue();
+        assertThat(resumed.getImported()).isEqualTo(records - TaskImportService.IMPORT_BATCH_SIZE);
+        stored = taskImportService.getImport("upload-1", "importer");
+        assertThat(stored.getCheckpoint()).isEqualTo(records);
+        assertThat(stored.getImported()).isEqualTo(records);
+        assertThat(stored.isCompleted()).isTrue();
+        assertThat(taskService.getTasksByUserId(user.getId())).hasSize(records);
+    }
+
+    @Test
+    void importTasks_WithImportIdOfAnotherUser_ThrowsIllegalArgumentException() {
+        saveUser(userRepository, "importer2");
+        taskImportService.importTasks(TaskFileFormat.CSV,
+                new ByteArrayInputStream("title\nMine\n".getBytes(StandardCharsets.UTF_8)), "shared", "importer");
+
+        assertThatThrownBy(() -> taskImportService.importTasks(TaskFileFormat.CSV,
+                new ByteArrayInputStream("title\nTheirs\n".getBytes(StandardCharsets.UTF_8)), "shared", "importer2"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("importId is already used by another user: shared");
+        assertThatThrownBy(() -> taskImportService.getImport("shared", "importer2"))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Import not found with id: shared");
+    }
+
+    @Test
+    void importTasks_WithNegativeResumeAfter_ThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> importTasks(TaskFileFormat.CSV, "title\n", -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private TaskImportResultDTO importTasks(TaskFileFormat format, String content, long resumeAfter) {
+        return taskImportService.importTasks(format,
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), resumeAfter);
+    }
+}
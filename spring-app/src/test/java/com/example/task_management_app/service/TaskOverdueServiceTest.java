@@ -0,0 +1,171 @@
+package com.example.task_management_app.service;
+
+import com.example.task_management_app.TaskManagementAppApplication;
+import com.example.task_management_app.dto.TaskBulkUpdateDTO;
+import com.example.task_management_app.dto.TaskDTO;
+import com.example.task_management_app.dto.TaskPageDTO;
+import com.example.task_management_app.model.Task;
+import com.example.task_management_app.model.TaskStatus;
+import com.example.task_management_app.model.User;
+import com.example.task_management_app.repository.TaskRepository;
+import com.example.task_management_app.repository.TaskStatusRepository;
+import com.example.task_management_app.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.task_management_app.TestFixtures.saveUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the overdue flag is kept right by task writes and by the
+ * nightly refresh, with the default completed status "Done".
+ */
+@SpringBootTest(classes = { TaskManagementAppApplication.class })
+@TestPropertySource(locations = "classpath:application.properties")
+@Transactional
+class TaskOverdueServiceTest {
+
+    @Autowired
+    private TaskOverdueService taskOverdueService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskCounterService taskCounterService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private TaskStatus todo;
+    private TaskStatus done;
+
+    @BeforeEach
+    void setUp() {
+        user = saveUser(userRepository, "overdue");
+
+        todo = new TaskStatus();
+        todo.setName("To Do");
+        todo = taskStatusRepository.save(todo);
+
+        done = new TaskStatus();
+        done.setName("Done");
+        done = taskStatusRepository.save(done);
+        referenceDataCache.refresh();
+    }
+
+    @Test
+    void taskWrites_SetOverdueFlag() {
+        TaskDTO late = taskService.createTask(newTask("Late", todo, LocalDate.now().minusDays(1)));
+        TaskDTO lateButDone = taskService.createTask(newTask("Late but done", done, LocalDate.now().minusDays(1)));
+        TaskDTO upcoming = taskService.createTask(newTask("Upcoming", todo, LocalDate.now().plusDays(1)));
+        assertThat(isOverdue(late)).isTrue();
+        assertThat(isOverdue(lateButDone)).isFalse();
+        assertThat(isOverdue(upcoming)).isFalse();
+
+        // Status-only patch (single UPDATE) and a due date patch
+        taskService.patchTask(late.getId(), Map.of("statusId", done.getId()), null);
+        taskService.patchTask(upcoming.getId(), Map.of("dueDate", LocalDate.now().minusDays(3).toString()), null);
+        assertThat(isOverdue(late)).isFalse();
+        assertThat(isOverdue(upcoming)).isTrue();
+
+        taskService.bulkUpdateTasks(
+                new TaskBulkUpdateDTO(List.of(late.getId(), lateButDone.getId()), null, todo.getId(), null, null));
+        assertThat(isOverdue(late)).isTrue();
+        assertThat(isOverdue(lateButDone)).isTrue();
+
+        assertThat(taskService.getOverdueTasks(user.getId()))
+                .extracting(TaskDTO::getTitle)
+                .containsExactly("Upcoming", "Late", "Late but done");
+    }
+
+    @Test
+    void refreshOverdueFlags_FlagsNewlyOverdueAndClearsStaleFlags() {
+        Task crossedDueDate = saveTask("Crossed due date", todo, LocalDate.now().minusDays(1), false);
+        Task staleFlag = saveTask("Completed elsewhere", done, LocalDate.now().minusDays(1), true);
+        Task noDueDate = saveTask("No due date", null, null, false);
+        Task noStatus = saveTask("No status", null, LocalDate.now().minusDays(2), false);
+        entityManager.flush();
+        // Saved behind the counters' back
+        taskCounterService.reconcile();
+        assertThat(taskCounterService.getUserCounters(user.getId()).getOverdue()).isEqualTo(1);
+
+        assertThat(taskOverdueService.refreshOverdueFlags()).isEqualTo(3);
+        assertThat(taskCounterService.getUserCounters(user.getId()).getOverdue()).isEqualTo(2);
+
+        assertThat(taskRepository.findById(crossedDueDate.getId()).orElseThrow().isOverdue()).isTrue();
+        assertThat(taskRepository.findById(staleFlag.getId()).orElseThrow().isOverdue()).isFalse();
+        assertThat(taskRepository.findById(noDueDate.getId()).orElseThrow().isOverdue()).isFalse();
+        assertThat(taskRepository.findById(noStatus.getId()).orElseThrow().isOverdue()).isTrue();
+        // Nothing left to change
+        assertThat(taskOverdueService.refreshOverdueFlags()).isZero();
+    }
+
+    @Test
+    void getOverdueTasksPage_WalksAllOverdueTasksByDueDate() {
+        for (int i = 0; i < 5; i++) {
+            taskService.createTask(newTask("Late " + i, todo, LocalDate.now().minusDays(10 - i / 3)));
+        }
+        taskService.createTask(newTask("Done", done, LocalDate.now().minusDays(20)));
+
+        TaskPageDTO first = taskService.getOverdueTasksPage(user.getId(), null, 2);
+        TaskPageDTO second = taskService.getOverdueTasksPage(user.getId(), first.getNextCursor(), 2);
+        TaskPageDTO third = taskService.getOverdueTasksPage(user.getId(), second.getNextCursor(), 2);
+
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(second.isHasMore()).isTrue();
+        assertThat(third.isHasMore()).isFalse();
+        assertThat(third.getNextCursor()).isNull();
+        assertThat(List.of(first, second, third))
+                .flatExtracting(TaskPageDTO::getItems)
+                .extracting(TaskDTO::getTitle)
+                .containsExactly("Late 0", "Late 1", "Late 2", "Late 3", "Late 4");
+    }
+
+    private boolean isOverdue(TaskDTO task) {
+        entityManager.flush();
+        entityManager.clear();
+        return taskRepository.findById(task.getId()).orElseThrow().isOverdue();
+    }
+
+    private Task saveTask(String title, TaskStatus status, LocalDate dueDate, boolean overdue) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setUser(user);
+        task.setStatus(status);
+        task.setDueDate(dueDate);
+        task.setOverdue(overdue);
+        return taskRepository.save(task);
+    }
+
+    private TaskDTO newTask(String title, TaskStatus status, LocalDate dueDate) {
+        TaskDTO task = new TaskDTO();
+        task.setTitle(title);
+        task.setUserId(user.getId());
+        task.setStatusId(status.getId());
+        task.setDueDate(dueDate);
+        return task;
+    }
+}
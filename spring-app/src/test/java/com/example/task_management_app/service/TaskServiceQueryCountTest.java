@@ -0,0 +1,281 @@
+package com.example.task_management_app.service;
+
+import com.example.task_management_app.TaskManagementAppApplication;
+import com.example.task_management_app.dto.TaskBatchResultDTO;
+import com.example.task_management_app.dto.TaskDTO;
+import com.example.task_management_app.dto.TaskFilterDTO;
+import com.example.task_management_app.dto.TaskPageDTO;
+import com.example.task_management_app.dto.TaskStatsDTO;
+import com.example.task_management_app.model.Task;
+import com.example.task_management_app.model.TaskAssignment;
+import com.example.task_management_app.model.TaskCategory;
+import com.example.task_management_app.model.TaskPriority;
+import com.example.task_management_app.model.TaskStatus;
+import com.example.task_management_app.model.User;
+import com.example.task_management_app.repository.TaskAssignmentRepository;
+import com.example.task_management_app.repository.TaskCategoryRepository;
+import com.example.task_management_app.repository.TaskPriorityRepository;
+import com.example.task_management_app.repository.TaskRepository;
+import com.example.task_management_app.repository.TaskStatusRepository;
+import com.example.task_management_app.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.task_management_app.TestFixtures.saveUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the projection read path: every list request must be served by one
+ * SQL statement for the tasks and one for all their assignees, no matter how
+ * many tasks or distinct associations the result contains.
+ */
+@SpringBootTest(classes = { TaskManagementAppApplication.class })
+@TestPropertySource(locations = "classpath:application.properties")
+@Transactional
+class TaskServiceQueryCountTest {
+
+    private static final int TASK_COUNT = 6;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private TaskCategoryRepository taskCategoryRepository;
+
+    @Autowired
+    private TaskPriorityRepository taskPriorityRepository;
+
+    @Autowired
+    private TaskAssignmentRepository taskAssignmentRepository;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = saveUser(userRepository, "querycount");
+        List<User> assignees = List.of(saveUser(userRepository, "querycount-a"),
+                saveUser(userRepository, "querycount-b"));
+
+        // Distinct reference rows per task so lazy association loading would show up as extra selects
+        for (int i = 0; i < TASK_COUNT; i++) {
+            TaskStatus status = new TaskStatus();
+            status.setName("QC Status " + i);
+            status = taskStatusRepository.save(status);
+
+            TaskCategory category = new TaskCategory();
+            category.setName("QC Category " + i);
+            category = taskCategoryRepository.save(category);
+
+            TaskPriority priority = new TaskPriority();
+            priority.setName("QC Priority " + i);
+            priority.setValue(1000 + i);
+            priority = taskPriorityRepository.save(priority);
+
+            Task task = new Task();
+            task.setTitle("QC Task " + i);
+            task.setDueDate(LocalDate.now().minusDays(i + 1));
+            task.setUser(user);
+            task.setStatus(status);
+            task.setCategory(category);
+            task.setPriority(priority);
+            // Past due and not completed, as the service would have flagged it
+            task.setOverdue(true);
+            task = taskRepository.save(task);
+
+            // Assignees per task so that loading them task by task would show up as extra selects
+            for (User assignee : assignees) {
+                TaskAssignment assignment = new TaskAssignment();
+                assignment.setTask(task);
+                assignment.setUser(assignee);
+                taskAssignmentRepository.save(assignment);
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    void getTasksByUserId_ExecutesTwoStatements() {
+        List<TaskDTO> tasks = taskService.getTasksByUserId(user.getId());
+
+        assertThat(tasks).hasSize(TASK_COUNT);
+        assertThat(tasks).allSatisfy(task -> {
+            assertThat(task.getStatusName()).startsWith("QC Status");
+            assertThat(task.getCategoryName()).startsWith("QC Category");
+            assertThat(task.getPriorityName()).startsWith("QC Priority");
+            assertThat(task.getUsername()).isEqualTo("querycount");
+            assertThat(task.getAssignees()).extracting("username").containsExactly("querycount-a", "querycount-b");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getOverdueTasks_ExecutesTwoStatements() {
+        List<TaskDTO> tasks = taskService.getOverdueTasks(user.getId());
+
+        assertThat(tasks).hasSize(TASK_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getTasksPage_ExecutesTwoStatements() {
+        TaskFilterDTO filter = new TaskFilterDTO();
+        filter.setUserId(user.getId());
+
+        TaskPageDTO page = taskService.getTasksPage(filter, null, TASK_COUNT - 1, "id");
+
+        assertThat(page.getItems()).hasSize(TASK_COUNT - 1);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getWorkPage_ExecutesTwoStatements() {
+        Integer assigneeId = userRepository.findByUsername("querycount-a").orElseThrow().getId();
+        statistics.clear();
+
+        TaskPageDTO page = taskService.getWorkPage(assigneeId, null, TASK_COUNT - 1);
+
+        assertThat(page.getItems()).hasSize(TASK_COUNT - 1);
+        assertThat(page.getItems()).allSatisfy(task -> assertThat(task.getAssignees()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void createTask_DoesNoReferenceDataLookups() {
+        TaskDTO first = taskService.getTasksByUserId(user.getId()).get(0);
+        TaskDTO newTask = new TaskDTO();
+        newTask.setTitle("QC New Task");
+        newTask.setUserId(user.getId());
+        newTask.setStatusId(first.getStatusId());
+        newTask.setPriorityId(first.getPriorityId());
+        newTask.setCategoryId(first.getCategoryId());
+
+        // Warm the reference data cache, the rows above were created after it may have been loaded
+        taskService.createTask(newTask);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        TaskDTO created = taskService.createTask(newTask);
+        entityManager.flush();
+
+        assertThat(created.getStatusName()).isEqualTo(first.getStatusName());
+        // One select for the owning user, the insert itself and the two
+        // statements that bump the user's counter row
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    void saveTasks_BatchesInserts() {
+        TaskDTO first = taskService.getTasksByUserId(user.getId()).get(0);
+        List<TaskDTO> batch = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            TaskDTO newTask = new TaskDTO();
+            newTask.setTitle("QC Batch Task " + i);
+            newTask.setUserId(user.getId());
+            newTask.setStatusId(first.getStatusId());
+            batch.add(newTask);
+        }
+        // The status was created after the cache may have been loaded, keep the reload out of the count
+        referenceDataCache.refresh();
+        statistics.clear();
+
+        TaskBatchResultDTO result = taskService.saveTasks(batch);
+
+        assertThat(result.getCreated()).isEqualTo(120);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        // One user lookup, a few sequence calls and one statement per JDBC batch,
+        // instead of one insert statement per task
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+    }
+
+    @Test
+    void getTaskStats_ExecutesOneStatementPerBreakdown() {
+        TaskStatsDTO stats = taskService.getTaskStats(null);
+
+        assertThat(stats.getTotal()).isGreaterThanOrEqualTo(TASK_COUNT);
+        assertThat(stats.getOverdue()).isGreaterThanOrEqualTo(TASK_COUNT);
+        // By user (which also yields the totals), status, priority and category
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    void getTaskById_ExecutesTwoStatements() {
+        Integer id = taskService.getTasksByUserId(user.getId()).get(0).getId();
+        statistics.clear();
+
+        TaskDTO task = taskService.getTaskById(id);
+
+        assertThat(task.getStatusName()).startsWith("QC Status");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void patchTask_StatusOnly_UpdatesWithoutLoadingTask() {
+        List<TaskDTO> tasks = taskService.getTasksByUserId(user.getId());
+        Integer id = tasks.get(0).getId();
+        Integer newStatusId = tasks.get(1).getStatusId();
+        referenceDataCache.refresh();
+        statistics.clear();
+
+        TaskService.TaggedTask patched = taskService.patchTask(id, Map.of("statusId", newStatusId), null);
+
+        assertThat(patched.task().getStatusId()).isEqualTo(newStatusId);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        // Stamp select, the UPDATE itself, two statements per touched counter
+        // row (old and new status) and the selects for the response and its assignees
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(8);
+    }
+
+    @Test
+    void patchTask_WithUnchangedValues_WritesNothing() {
+        TaskDTO task = taskService.getTasksByUserId(user.getId()).get(0);
+        statistics.clear();
+
+        Map<String, Object> patch = new HashMap<>();
+        patch.put("title", task.getTitle());
+        patch.put("description", null);
+        taskService.patchTask(task.getId(), patch, null);
+
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+    }
+}
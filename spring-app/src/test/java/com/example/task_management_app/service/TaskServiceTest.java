@@ -1,33 +1,54 @@
 package com.example.task_management_app.service;
 
+import com.example.task_management_app.dto.TaskBatchItemResultDTO.Outcome;
+import com.example.task_management_app.dto.TaskBatchResultDTO;
 import com.example.task_management_app.dto.TaskDTO;
+import com.example.task_management_app.dto.TaskFilterDTO;
+import com.example.task_management_app.dto.TaskCountDTO;
+import com.example.task_management_app.dto.TaskPageDTO;
+import com.example.task_management_app.dto.TaskStampDTO;
+import com.example.task_management_app.dto.TaskStatsDTO;
+import com.example.task_management_app.dto.UserTaskStatsDTO;
+import com.example.task_management_app.event.TaskChangedEvent;
+import com.example.task_management_app.exception.PreconditionFailedException;
 import com.example.task_management_app.exception.ResourceNotFoundException;
 import com.example.task_management_app.model.Task;
 import com.example.task_management_app.model.TaskCategory;
 import com.example.task_management_app.model.TaskPriority;
 import com.example.task_management_app.model.TaskStatus;
 import com.example.task_management_app.model.User;
-import com.example.task_management_app.repository.TaskCategoryRepository;
-import com.example.task_management_app.repository.TaskPriorityRepository;
 import com.example.task_management_app.repository.TaskRepository;
-import com.example.task_management_app.repository.TaskStatusRepository;
 import com.example.task_management_app.repository.UserRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,13 +61,25 @@ class TaskServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private TaskStatusRepository taskStatusRepository;
+    private ReferenceDataCache referenceDataCache;
 
     @Mock
-    private TaskCategoryRepository taskCategoryRepository;
+    private TaskCounterService taskCounterService;
 
     @Mock
-    private TaskPriorityRepository taskPriorityRepository;
+    private TaskOverdueService taskOverdueService;
+
+    @Mock
+    private TaskAttachmentService taskAttachmentService;
+
+    @Mock
+    private TaskAssignmentService taskAssignmentService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 
     @InjectMocks
     private TaskService taskService;
@@ -109,20 +142,9 @@ class TaskServiceTest {
         testTaskDTO.setPriorityId(1);
     }
 
-    @Test
-    void getAllTasks_ReturnsListOfTaskDTOs() {
-        when(taskRepository.findAll()).thenReturn(Arrays.asList(testTask));
-
-        List<TaskDTO> result = taskService.getAllTasks();
-
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getTitle()).isEqualTo("Test Task");
-        assertThat(result.get(0).getDescription()).isEqualTo("Test task description");
-    }
-
     @Test
     void getTaskById_WhenTaskExists_ReturnsTaskDTO() {
-        when(taskRepository.findById(1)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findDtoById(1)).thenReturn(Optional.of(testTaskDTO));
 
         TaskDTO result = taskService.getTaskById(1);
 
@@ -132,7 +154,7 @@ class TaskServiceTest {
 
     @Test
     void getTaskById_WhenTaskDoesNotExist_ThrowsResourceNotFoundException() {
-        when(taskRepository.findById(99)).thenReturn(Optional.empty());
+        when(taskRepository.findDtoById(99)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> taskService.getTaskById(99))
                 .isInstanceOf(ResourceNotFoundException.class)
@@ -140,9 +162,27 @@ class TaskServiceTest {
     }
 
     @Test
-    void getTasksByUserId_WhenUserExists_ReturnsTaskDTOs() {
+    void getTaskETag_WhenTaskDoesNotExist_ThrowsResourceNotFoundException() {
+        when(taskRepository.findStampById(99)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> taskService.getTaskETag(99))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Task not found with id: 99");
+    }
+
+    @Test
+    void getTasksByUserId_WhenUserHasNoTasks_ReturnsEmptyList() {
+        when(taskRepository.findDtosByUserId(1)).thenReturn(List.of());
         when(userRepository.existsById(1)).thenReturn(true);
-        when(taskRepository.findByUserId(1)).thenReturn(Arrays.asList(testTask));
+
+        List<TaskDTO> result = taskService.getTasksByUserId(1);
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void getTasksByUserId_WhenUserExists_ReturnsTaskDTOs() {
+        when(taskRepository.findDtosByUserId(1)).thenReturn(Arrays.asList(testTaskDTO));
 
         List<TaskDTO> result = taskService.getTasksByUserId(1);
 
@@ -152,6 +192,7 @@ class TaskServiceTest {
 
     @Test
     void getTasksByUserId_WhenUserDoesNotExist_ThrowsResourceNotFoundException() {
+        when(taskRepository.findDtosByUserId(99)).thenReturn(List.of());
         when(userRepository.existsById(99)).thenReturn(false);
 
         assertThatThrownBy(() -> taskService.getTasksByUserId(99))
@@ -170,15 +211,19 @@ class TaskServiceTest {
         newTaskDTO.setCategoryId(1);
 
         when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
-        when(taskStatusRepository.findById(1)).thenReturn(Optional.of(testStatus));
-        when(taskPriorityRepository.findById(1)).thenReturn(Optional.of(testPriority));
-        when(taskCategoryRepository.findById(1)).thenReturn(Optional.of(testCategory));
+        when(referenceDataCache.findStatus(1)).thenReturn(Optional.of(testStatus));
+        when(referenceDataCache.findPriority(1)).thenReturn(Optional.of(testPriority));
+        when(referenceDataCache.findCategory(1)).thenReturn(Optional.of(testCategory));
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         TaskDTO result = taskService.createTask(newTaskDTO);
 
         assertThat(result).isNotNull();
         assertThat(result.getTitle()).isEqualTo("Test Task");
+        ArgumentCaptor<TaskChangedEvent> event = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getType()).isEqualTo(TaskChangedEvent.Type.CREATED);
+        assertThat(event.getValue().getUserIds()).containsExactly(testUser.getId());
     }
 
     @Test
@@ -195,8 +240,8 @@ class TaskServiceTest {
         updatedTask.setStatus(testStatus);
 
         when(taskRepository.findById(1)).thenReturn(Optional.of(testTask));
-        when(taskStatusRepository.findById(1)).thenReturn(Optional.of(testStatus));
-        when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+        when(referenceDataCache.findStatus(1)).thenReturn(Optional.of(testStatus));
+        when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(updatedTask);
 
         TaskDTO result = taskService.updateTask(1, updateDTO);
 
@@ -217,17 +262,76 @@ class TaskServiceTest {
                 .hasMessage("Task not found with id: 99");
     }
 
+    @Test
+    void updateTask_WhenIfMatchIsStale_ThrowsPreconditionFailedException() {
+        TaskDTO updateDTO = new TaskDTO();
+        updateDTO.setTitle("Updated Task");
+        testTask.setVersion(3L);
+
+        when(taskRepository.findById(1)).thenReturn(Optional.of(testTask));
+        when(referenceDataCache.getVersion()).thenReturn("ref");
+
+        assertThatThrownBy(() -> taskService.updateTask(1, updateDTO, "\"1-2-0-ref\""))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
+    }
+
+    @Test
+    void updateTask_WhenConcurrentUpdateWinsWithIfMatch_ThrowsPreconditionFailedException() {
+        TaskDTO updateDTO = new TaskDTO();
+        updateDTO.setTitle("Updated Task");
+        testTask.setVersion(3L);
+
+        when(taskRepository.findById(1)).thenReturn(Optional.of(testTask));
+        when(referenceDataCache.getVersion()).thenReturn("ref");
+        when(taskRepository.saveAndFlush(any(Task.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1));
+
+        assertThatThrownBy(() -> taskService.updateTask(1, updateDTO, "W/\"x\", *"))
+                .isInstanceOf(PreconditionFailedException.class);
+    }
+
+    @Test
+    void patchTask_WhenStatusUpdateKeepsLosingRace_ThrowsOptimisticLockingFailure() {
+        TaskStampDTO stamp = new TaskStampDTO(1, 3L, 1, "testuser", 1, null, false, 0);
+        TaskStatus done = new TaskStatus(2, "Done", null, null);
+
+        when(referenceDataCache.findStatus(2)).thenReturn(Optional.of(done));
+        when(taskRepository.findStampById(1)).thenReturn(Optional.of(stamp));
+        when(taskRepository.updateStatus(eq(1), eq(3L), eq(done), anyBoolean(), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> taskService.patchTask(1, Map.of("statusId", 2), null))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(taskRepository, times(3)).updateStatus(eq(1), eq(3L), eq(done), anyBoolean(), any());
+        verify(taskRepository, never()).findById(any());
+        verify(taskCounterService, never()).taskChanged(any(), any());
+    }
+
+    @Test
+    void patchTask_WithReadOnlyField_ThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> taskService.patchTask(1, Map.of("username", "someone"), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Field cannot be patched: username");
+    }
+
     @Test
     void deleteTask_WhenTaskExists_DeletesSuccessfully() {
-        when(taskRepository.existsById(1)).thenReturn(true);
+        when(taskRepository.findById(1)).thenReturn(Optional.of(testTask));
 
         taskService.deleteTask(1);
 
+        verify(taskAttachmentService).taskDeleted(1);
+        verify(taskRepository).delete(testTask);
+        verify(taskCounterService).taskChanged(any(), isNull());
+        ArgumentCaptor<TaskChangedEvent> event = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getType()).isEqualTo(TaskChangedEvent.Type.DELETED);
+        assertThat(event.getValue().getTaskId()).isEqualTo(1);
     }
 
     @Test
     void deleteTask_WhenTaskDoesNotExist_ThrowsResourceNotFoundException() {
-        when(taskRepository.existsById(99)).thenReturn(false);
+        when(taskRepository.findById(99)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> taskService.deleteTask(99))
                 .isInstanceOf(ResourceNotFoundException.class)
@@ -235,13 +339,108 @@ class TaskServiceTest {
     }
 
     @Test
-    void searchTasksByTitle_ReturnsMatchingTasks() {
-        when(taskRepository.findByTitleContainingIgnoreCase("Test")).thenReturn(Arrays.asList(testTask));
+    void getTasksPage_WhenMoreRowsExist_ReturnsNextCursor() {
+        TaskDTO second = new TaskDTO();
+        second.setId(2);
+        second.setTitle("Second Task");
 
-        List<TaskDTO> result = taskService.searchTasksByTitle("Test");
+        when(taskRepository.findPageOrderById(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                isNull(), any())).thenReturn(Arrays.asList(testTaskDTO, second));
 
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getTitle()).isEqualTo("Test Task");
+        TaskPageDTO page = taskService.getTasksPage(new TaskFilterDTO(), null, 1, "id");
+
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(page.getNextCursor()).isNotNull();
+
+        when(taskRepository.findPageOrderById(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                eq(1), any())).thenReturn(Arrays.asList(second));
+
+        TaskPageDTO next = taskService.getTasksPage(new TaskFilterDTO(), page.getNextCursor(), 1, "id");
+
+        assertThat(next.getItems()).hasSize(1);
+        assertThat(next.getItems().get(0).getTitle()).isEqualTo("Second Task");
+        assertThat(next.isHasMore()).isFalse();
+        assertThat(next.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getTasksPage_WithCursorFromOtherSort_ThrowsIllegalArgumentException() {
+        when(taskRepository.findPageOrderById(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                isNull(), any())).thenReturn(Arrays.asList(testTaskDTO, testTaskDTO));
+
+        String cursor = taskService.getTasksPage(new TaskFilterDTO(), null, 1, "id").getNextCursor();
+
+        assertThatThrownBy(() -> taskService.getTasksPage(new TaskFilterDTO(), cursor, 1, "dueDate"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
     }
 
+    @Test
+    void getTasksPage_WithUnsupportedSort_ThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> taskService.getTasksPage(new TaskFilterDTO(), null, 10, "title"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported sort: title");
+    }
+
+    @Test
+    void saveTasks_ReportsPerItemResults() {
+        TaskDTO newTask = new TaskDTO();
+        newTask.setTitle("New Task");
+        newTask.setUserId(1);
+        newTask.setStatusId(1);
+
+        TaskDTO update = new TaskDTO();
+        update.setId(1);
+        update.setTitle("Renamed Task");
+
+        TaskDTO blankTitle = new TaskDTO();
+        blankTitle.setTitle(" ");
+
+        TaskDTO unknownUser = new TaskDTO();
+        unknownUser.setTitle("Orphan");
+        unknownUser.setUserId(99);
+
+        when(userRepository.findAllById(List.of(1, 99))).thenReturn(List.of(testUser));
+        when(taskRepository.findAllById(List.of(1))).thenReturn(List.of(testTask));
+        when(referenceDataCache.findStatus(1)).thenReturn(Optional.of(testStatus));
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TaskBatchResultDTO result = taskService.saveTasks(List.of(newTask, update, blankTitle, unknownUser));
+
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getResults()).extracting("outcome")
+                .containsExactly(Outcome.CREATED, Outcome.UPDATED, Outcome.FAILED, Outcome.FAILED);
+        assertThat(result.getResults().get(0).getTask().getStatusName()).isEqualTo("TODO");
+        assertThat(result.getResults().get(1).getTask().getTitle()).isEqualTo("Renamed Task");
+        assertThat(result.getResults().get(2).getError()).isEqualTo("Title is required");
+        assertThat(result.getResults().get(3).getError()).isEqualTo("User not found with id: 99");
+    }
+
+    @Test
+    void saveTasks_WhenBatchIsEmpty_ThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> taskService.saveTasks(List.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Batch must contain at least one task");
+    }
+
+    @Test
+    void getTaskStats_SumsTotalsFromPerUserCounts() {
+        when(taskRepository.countByUser(isNull(), any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of(
+                new UserTaskStatsDTO(1, "testuser", 5L, 2L, 1L),
+                new UserTaskStatsDTO(null, null, 3L, 0L, 2L)));
+        when(taskRepository.countByStatus(null)).thenReturn(List.of(new TaskCountDTO(1, "TODO", 8L)));
+        when(taskRepository.countByPriority(null)).thenReturn(List.of());
+        when(taskRepository.countByCategory(null)).thenReturn(List.of());
+
+        TaskStatsDTO stats = taskService.getTaskStats(null);
+
+        assertThat(stats.getTotal()).isEqualTo(8);
+        assertThat(stats.getOverdue()).isEqualTo(2);
+        assertThat(stats.getDueThisWeek()).isEqualTo(3);
+        assertThat(stats.getByStatus()).extracting("count").containsExactly(8L);
+        assertThat(stats.getByUser()).hasSize(2);
+    }
 }
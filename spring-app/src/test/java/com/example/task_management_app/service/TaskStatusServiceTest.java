@@ -1,6 +1,7 @@
 package com.example.task_management_app.service;
 
 import com.example.task_management_app.dto.TaskStatusDTO;
+import com.example.task_management_app.event.ReferenceDataChangedEvent;
 import com.example.task_management_app.exception.ResourceNotFoundException;
 import com.example.task_management_app.model.TaskStatus;
 import com.example.task_management_app.repository.TaskStatusRepository;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Arrays;
 import java.util.List;
@@ -18,6 +20,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +29,9 @@ class TaskStatusServiceTest {
     @Mock
     private TaskStatusRepository taskStatusRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskStatusService taskStatusService;
 
@@ -111,6 +117,7 @@ class TaskStatusServiceTest {
 
         assertThat(result).isNotNull();
         assertThat(result.getName()).isEqualTo("TODO");
+        verify(eventPublisher).publishEvent(any(ReferenceDataChangedEvent.class));
     }
 
     @Test
@@ -1,6 +1,7 @@
 package com.example.task_management_app.service;
 
 import com.example.task_management_app.dto.UserDTO;
+import com.example.task_management_app.event.UserChangedEvent;
 import com.example.task_management_app.exception.ResourceNotFoundException;
 import com.example.task_management_app.model.User;
 import com.example.task_management_app.repository.UserRepository;
@@ -9,17 +10,21 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +36,21 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskCounterService taskCounterService;
+
+    @Mock
+    private TaskCommentService taskCommentService;
+
+    @Mock
+    private TaskAttachmentService taskAttachmentService;
+
+    @Mock
+    private TaskAssignmentService taskAssignmentService;
+
     @InjectMocks
     private UserService userService;
 
@@ -126,6 +146,31 @@ class UserServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getEmail()).isEqualTo("updated@example.com");
         assertThat(result.getRole()).isEqualTo("ROLE_ADMIN");
+
+        ArgumentCaptor<UserChangedEvent> event = ArgumentCaptor.forClass(UserChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getUsername()).isEqualTo("testuser");
+        assertThat(event.getValue().getTaskUserIds()).isEmpty();
+    }
+
+    @Test
+    void updateUser_WhenUsernameChanges_PublishesTheUsersOfTheUsersTasks() {
+
+        UserDTO updateDTO = new UserDTO();
+        updateDTO.setUsername("renamed");
+        updateDTO.setEmail("test@example.com");
+
+        when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
+        when(userRepository.existsByUsername("renamed")).thenReturn(false);
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(taskAssignmentService.getTaskUserIds(1)).thenReturn(Set.of(1, 2));
+
+        userService.updateUser(1, updateDTO);
+
+        ArgumentCaptor<UserChangedEvent> event = ArgumentCaptor.forClass(UserChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getUsername()).isEqualTo("testuser");
+        assertThat(event.getValue().getTaskUserIds()).containsExactlyInAnyOrder(1, 2);
     }
 
     @Test
@@ -145,15 +190,25 @@ class UserServiceTest {
     @Test
     void deleteUser_WhenUserExists_DeletesSuccessfully() {
 
-        when(userRepository.existsById(1)).thenReturn(true);
+        when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
+        when(taskAssignmentService.getTaskUserIds(1)).thenReturn(Set.of(1, 2));
 
         userService.deleteUser(1);
+
+        verify(taskCommentService).userDeleted(1);
+        verify(taskAttachmentService).userDeleted(1);
+        verify(taskAssignmentService).userDeleted(1);
+        verify(userRepository).delete(testUser);
+        verify(taskCounterService).userDeleted(1);
+        ArgumentCaptor<UserChangedEvent> event = ArgumentCaptor.forClass(UserChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getTaskUserIds()).containsExactlyInAnyOrder(1, 2);
     }
 
     @Test
     void deleteUser_WhenUserDoesNotExist_ThrowsResourceNotFoundException() {
 
-        when(userRepository.existsById(99)).thenReturn(false);
+        when(userRepository.findById(99)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> userService.deleteUser(99))
                 .isInstanceOf(ResourceNotFoundException.class)